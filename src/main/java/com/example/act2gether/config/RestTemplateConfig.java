@@ -1,25 +1,102 @@
 package com.example.act2gether.config;
 
+import java.net.URI;
+import java.net.http.HttpClient;
 import java.time.Duration;
-import java.util.Collections;
+import java.util.List;
 
+import org.apache.hc.client5.http.classic.methods.HttpUriRequestBase;
+import org.apache.hc.client5.http.config.ConnectionConfig;
+import org.apache.hc.client5.http.config.RequestConfig;
+import org.apache.hc.client5.http.impl.DefaultConnectionKeepAliveStrategy;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.classic.HttpClients;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManagerBuilder;
+import org.apache.hc.client5.http.protocol.HttpClientContext;
+import org.apache.hc.core5.http.ClassicHttpRequest;
+import org.apache.hc.core5.util.TimeValue;
+import org.apache.hc.core5.util.Timeout;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.web.client.RestTemplateBuilder;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.client.ClientHttpRequestFactory;
+import org.springframework.http.MediaType;
 import org.springframework.http.client.ClientHttpRequestInterceptor;
+import org.springframework.http.client.ClientHttpResponse;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
+import org.springframework.http.client.JdkClientHttpRequestFactory;
 import org.springframework.web.client.RestTemplate;
 
+import com.example.act2gether.service.TourApiClient;
+import com.example.act2gether.service.TourApiGuard;
 import com.fasterxml.jackson.databind.ObjectMapper;
 
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 외부 API(관광공사 등) 호출용 RestTemplate
+ * - 기본: Apache HttpClient 커넥션 풀 (keep-alive, 호스트별 연결 수 제한, 연결 TTL, 유휴 연결 정리)
+ * - tourism.http.http2-enabled=true: JDK HttpClient로 HTTP/2 사용 (서버가 지원하지 않으면 HTTP/1.1로 협상)
+ * - 관광공사 API 호출은 TourApiGuard(서킷 브레이커 + 일일 호출 한도)를 거침
+ */
 @Configuration
+@Slf4j
 public class RestTemplateConfig {
 
+    @Value("${tourism.http.http2-enabled:false}")
+    private boolean http2Enabled;
+
+    @Value("${tourism.http.connect-timeout-ms:5000}")
+    private long connectTimeoutMs;
+
+    @Value("${tourism.http.read-timeout-ms:20000}")
+    private long readTimeoutMs;
+
+    // 풀에서 연결을 얻기까지 기다리는 최대 시간
+    @Value("${tourism.http.pool.lease-timeout-ms:3000}")
+    private long leaseTimeoutMs;
+
+    @Value("${tourism.http.pool.keep-alive-ms:30000}")
+    private long keepAliveMs;
+
+    @Value("${tourism.http.pool.idle-evict-ms:30000}")
+    private long idleEvictMs;
+
     @Bean
-    public RestTemplate restTemplate(RestTemplateBuilder builder) {
+    public RestTemplate restTemplate(RestTemplateBuilder builder,
+            PoolingHttpClientConnectionManager outboundConnectionManager, TourApiGuard tourApiGuard) {
+        ClientHttpRequestFactory requestFactory = http2Enabled
+                ? http2RequestFactory()
+                : pooledRequestFactory(outboundConnectionManager);
+
+        log.info("외부 API 클라이언트: {}", http2Enabled ? "JDK HttpClient (HTTP/2)" : "Apache HttpClient 커넥션 풀");
+
         return builder
-                .setConnectTimeout(Duration.ofSeconds(30))
-                .setReadTimeout(Duration.ofSeconds(50))
-                .interceptors(Collections.singletonList(userAgentInterceptor()))
+                .requestFactory(() -> requestFactory)
+                .interceptors(List.of(userAgentInterceptor(), tourApiGuardInterceptor(tourApiGuard)))
+                .build();
+    }
+
+    /**
+     * 외부 API 커넥션 풀 (풀 사용 현황은 /api/tours/health 에서 확인)
+     */
+    @Bean(destroyMethod = "close")
+    public PoolingHttpClientConnectionManager outboundConnectionManager(
+            @Value("${tourism.http.pool.max-total:50}") int maxTotal,
+            @Value("${tourism.http.pool.max-per-route:20}") int maxPerRoute,
+            @Value("${tourism.http.pool.time-to-live-ms:300000}") long timeToLiveMs) {
+        return PoolingHttpClientConnectionManagerBuilder.create()
+                .setMaxConnTotal(maxTotal)
+                .setMaxConnPerRoute(maxPerRoute)
+                .setDefaultConnectionConfig(ConnectionConfig.custom()
+                        .setConnectTimeout(Timeout.ofMilliseconds(connectTimeoutMs))
+                        .setSocketTimeout(Timeout.ofMilliseconds(readTimeoutMs))
+                        .setTimeToLive(TimeValue.ofMilliseconds(timeToLiveMs))
+                        .setValidateAfterInactivity(TimeValue.ofSeconds(10))
+                        .build())
                 .build();
     }
 
@@ -28,6 +105,92 @@ public class RestTemplateConfig {
         return new ObjectMapper();
     }
 
+    private ClientHttpRequestFactory pooledRequestFactory(PoolingHttpClientConnectionManager connectionManager) {
+        CloseableHttpClient httpClient = HttpClients.custom()
+                .setConnectionManager(connectionManager)
+                .setDefaultRequestConfig(RequestConfig.custom()
+                        .setConnectionRequestTimeout(Timeout.ofMilliseconds(leaseTimeoutMs))
+                        .setResponseTimeout(Timeout.ofMilliseconds(readTimeoutMs))
+                        .build())
+                // 서버가 Keep-Alive 헤더를 주지 않으면 기본 keep-alive 시간 적용
+                .setKeepAliveStrategy((response, context) -> {
+                    TimeValue fromHeader = DefaultConnectionKeepAliveStrategy.INSTANCE.getKeepAliveDuration(response, context);
+                    return TimeValue.isPositive(fromHeader) ? fromHeader : TimeValue.ofMilliseconds(keepAliveMs);
+                })
+                .evictExpiredConnections()
+                .evictIdleConnections(TimeValue.ofMilliseconds(idleEvictMs))
+                .build();
+
+        HttpComponentsClientHttpRequestFactory requestFactory = new HttpComponentsClientHttpRequestFactory(httpClient) {
+            // 헤지 경합에서 진 요청 / 시간 초과된 요청을 TourApiClient가 중단할 수 있도록 요청 등록
+            @Override
+            protected ClassicHttpRequest createHttpUriRequest(HttpMethod httpMethod, URI uri) {
+                ClassicHttpRequest request = super.createHttpUriRequest(httpMethod, uri);
+                TourApiClient.AbortHandle abortHandle = TourApiClient.currentAbortHandle();
+                if (abortHandle != null && request instanceof HttpUriRequestBase cancellable) {
+                    abortHandle.register(cancellable::cancel);
+                }
+                return request;
+            }
+        };
+        // TourApiClient가 지정한 요청별 응답 타임아웃 (적응형 타임아웃) 적용
+        requestFactory.setHttpContextFactory((method, uri) -> {
+            Long responseTimeoutMs = TourApiClient.currentResponseTimeoutMs();
+            if (responseTimeoutMs == null) {
+                return null;
+            }
+            HttpClientContext context = HttpClientContext.create();
+            context.setRequestConfig(RequestConfig.custom()
+                    .setConnectionRequestTimeout(Timeout.ofMilliseconds(leaseTimeoutMs))
+                    .setResponseTimeout(Timeout.ofMilliseconds(responseTimeoutMs))
+                    .build());
+            return context;
+        });
+        return requestFactory;
+    }
+
+    private ClientHttpRequestFactory http2RequestFactory() {
+        HttpClient httpClient = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_2)
+                .connectTimeout(Duration.ofMillis(connectTimeoutMs))
+                .followRedirects(HttpClient.Redirect.NORMAL)
+                .build();
+
+        JdkClientHttpRequestFactory requestFactory = new JdkClientHttpRequestFactory(httpClient);
+        requestFactory.setReadTimeout(Duration.ofMillis(readTimeoutMs));
+        return requestFactory;
+    }
+
+    /**
+     * 관광공사 API 서킷 브레이커 / 일일 호출 한도 인터셉터
+     * 차단 중이면 요청을 보내지 않고 예외, 응답 상태(연결 실패, 5xx, HTML/XML 오류 페이지)를 기록
+     * (시험 호출의 성공 판정은 호출부가 본문 resultCode를 확인한 뒤 TourApiGuard에서)
+     * TourApiClient가 중단한 요청은 한도에서는 차감되지만 실패로 기록하지 않음
+     */
+    private ClientHttpRequestInterceptor tourApiGuardInterceptor(TourApiGuard tourApiGuard) {
+        return (request, body, execution) -> {
+            if (!tourApiGuard.isGuarded(request.getURI())) {
+                return execution.execute(request, body);
+            }
+
+            tourApiGuard.acquire(request.getURI());
+            boolean ok = false;
+            try {
+                ClientHttpResponse response = execution.execute(request, body);
+                MediaType contentType = response.getHeaders().getContentType();
+                ok = !response.getStatusCode().isError()
+                        && (contentType == null || !(contentType.getSubtype().contains("html")
+                                || contentType.getSubtype().contains("xml")));
+                return response;
+            } finally {
+                TourApiClient.AbortHandle abortHandle = TourApiClient.currentAbortHandle();
+                if (ok || abortHandle == null || !abortHandle.isAborted()) {
+                    tourApiGuard.recordResponse(request.getURI(), ok);
+                }
+            }
+        };
+    }
+
     /**
      * User-Agent 헤더를 추가하는 인터셉터
      */
@@ -40,4 +203,4 @@ public class RestTemplateConfig {
             return execution.execute(request, body);
         };
     }
-}
\ No newline at end of file
+}
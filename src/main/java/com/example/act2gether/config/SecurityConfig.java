@@ -38,7 +38,7 @@ public class SecurityConfig {
                 .authorizeHttpRequests(auth -> auth
                         .requestMatchers("/", "/login", "/signup", "/forgot-loginfo", "/users/**", "/onboarding",
                                 "/qna", "/faq", "/tour-search", "/community-search", "/tour-community", "/guide",
-                                "/brand-story")
+                                "/brand-story", "/main/sections/**")
                         .permitAll()
                         .requestMatchers("/css/**", "/js/**", "/images/**", "/uploads/**").permitAll()
                         .requestMatchers("/qna/api/inquiry-types", "/qna/api/statuses").permitAll()
@@ -0,0 +1,196 @@
+package com.example.act2gether.config;
+
+import java.util.concurrent.ThreadPoolExecutor;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+/**
+ * 관광공사 API 관련 스레드 풀
+ * - tourApiExecutor: 요청 처리 중 외부 API 호출(검색 조합 병렬 호출, 무장애 정보 조회, 투어 상세 조회) 공용 풀
+ *   API를 한 번 호출하고 끝나는 작업만 실행 (이 풀의 작업이 같은 풀의 다른 작업을 기다리지 않음)
+ *   대기열이 가득 차면 호출한 스레드에서 직접 실행하여(CallerRunsPolicy) 작업이 무한히 쌓이지 않도록 함
+ * - tourRequestExecutor: 요청 처리 중 내부에서 tourApiExecutor 작업을 기다리는 상위 작업 (상세정보 배치 조회)
+ * - tourStreamExecutor: Spring MVC 비동기 응답(StreamingResponseBody) 실행 (WebConfig에서 등록)
+ * - tourSyncExecutor: 카탈로그/무장애/음식점/지역 전체 동기화, 후보 풀 재구성 같은 긴 백그라운드 작업
+ * - tourSyncPageExecutor: 동기화 중 병렬 수집 작업 (TourApiPageWalker 페이지 수집, 무장애 상세 조회)
+ * - cacheRefreshExecutor: 캐시 만료 항목 백그라운드 갱신
+ * - tourApiHedgeExecutor: TourApiClient의 개별 HTTP 요청(원 요청 + 헤지 요청) 실행
+ * - recommendationExecutor: 메인 페이지 투어 생성의 지역별 후보 검색
+ * - mainSectionExecutor: 메인 페이지 섹션 조각 데이터 로드 (섹션별 제한 시간 적용)
+ */
+@Configuration
+public class TourApiExecutorConfig {
+
+    @Bean(name = "tourApiExecutor")
+    public ThreadPoolTaskExecutor tourApiExecutor(
+            @Value("${tourism.api.executor.pool-size:16}") int poolSize,
+            @Value("${tourism.api.executor.queue-capacity:200}") int queueCapacity) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(poolSize);
+        executor.setMaxPoolSize(poolSize);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("tour-api-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        executor.setWaitForTasksToCompleteOnShutdown(false);
+        executor.initialize();
+        return executor;
+    }
+
+    /**
+     * 상세정보 배치 조회의 관광지별 작업용 스레드 풀 (SpotDetailService.forEachSpotDetail)
+     * 각 작업이 내부에서 tourApiExecutor로 이용정보/반복정보를 호출하고 기다리므로 같은 풀을 공유하지 않음
+     */
+    @Bean(name = "tourRequestExecutor")
+    public ThreadPoolTaskExecutor tourRequestExecutor(
+            @Value("${tourism.api.request-executor.pool-size:8}") int poolSize,
+            @Value("${tourism.api.request-executor.queue-capacity:100}") int queueCapacity) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(poolSize);
+        executor.setMaxPoolSize(poolSize);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("tour-request-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        executor.setWaitForTasksToCompleteOnShutdown(false);
+        executor.initialize();
+        return executor;
+    }
+
+    /**
+     * 전체 동기화 작업용 스레드 풀 (시작 시 스냅샷이 오래된 저장소의 동기화)
+     * 동기화 한 번이 수 분 동안 스레드를 점유하므로 요청 처리용 풀과 공유하지 않고,
+     * 대기열이 가득 차면 호출 스레드에서 실행하지 않고 거절 (다음 예약 동기화에서 다시 시도)
+     */
+    @Bean(name = "tourSyncExecutor")
+    public ThreadPoolTaskExecutor tourSyncExecutor(
+            @Value("${tourism.sync.executor.pool-size:2}") int poolSize,
+            @Value("${tourism.sync.executor.queue-capacity:10}") int queueCapacity) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(poolSize);
+        executor.setMaxPoolSize(poolSize);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("tour-sync-");
+        executor.setWaitForTasksToCompleteOnShutdown(false);
+        executor.initialize();
+        return executor;
+    }
+
+    /**
+     * 동기화 중 병렬 수집 작업용 스레드 풀 (TourApiPageWalker, BarrierFreeStore 상세 조회)
+     * tourSyncExecutor의 동기화 작업이 수집 완료를 기다리므로 같은 풀을 공유하지 않음
+     * 가득 차면 동기화 스레드에서 직접 실행 (요청 처리 스레드로는 넘어가지 않음)
+     */
+    @Bean(name = "tourSyncPageExecutor")
+    public ThreadPoolTaskExecutor tourSyncPageExecutor(
+            @Value("${tourism.sync.page-executor.pool-size:8}") int poolSize,
+            @Value("${tourism.sync.page-executor.queue-capacity:20}") int queueCapacity) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(poolSize);
+        executor.setMaxPoolSize(poolSize);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("tour-sync-page-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        executor.setWaitForTasksToCompleteOnShutdown(false);
+        executor.initialize();
+        return executor;
+    }
+
+    /**
+     * 캐시 백그라운드 갱신(stale-while-revalidate)용 스레드 풀
+     * 갱신 작업이 내부에서 tourApiExecutor를 사용하므로 같은 풀을 공유하지 않음
+     */
+    @Bean(name = "cacheRefreshExecutor")
+    public ThreadPoolTaskExecutor cacheRefreshExecutor(
+            @Value("${tourism.cache.refresh.pool-size:2}") int poolSize,
+            @Value("${tourism.cache.refresh.queue-capacity:20}") int queueCapacity) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(poolSize);
+        executor.setMaxPoolSize(poolSize);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("cache-refresh-");
+        executor.setWaitForTasksToCompleteOnShutdown(false);
+        executor.initialize();
+        return executor;
+    }
+
+    /**
+     * 개별 HTTP 요청 실행용 스레드 풀 (TourApiClient)
+     * 호출부가 tourApiExecutor 스레드에서 응답을 기다리므로 같은 풀을 공유하지 않음
+     * 대기열 없이 바로 스레드를 배정하고, 가득 차면 거절 → 호출 스레드에서 헤지 없이 실행
+     */
+    @Bean(name = "tourApiHedgeExecutor")
+    public ThreadPoolTaskExecutor tourApiHedgeExecutor(
+            @Value("${tourism.http.hedge.core-pool-size:8}") int corePoolSize,
+            @Value("${tourism.http.hedge.max-pool-size:64}") int maxPoolSize) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(corePoolSize);
+        executor.setMaxPoolSize(maxPoolSize);
+        executor.setQueueCapacity(0);
+        executor.setKeepAliveSeconds(60);
+        executor.setThreadNamePrefix("tour-http-");
+        executor.setWaitForTasksToCompleteOnShutdown(false);
+        executor.initialize();
+        return executor;
+    }
+
+    /**
+     * 지역별 투어 생성 작업용 스레드 풀 (TourRecommendationService)
+     * 각 작업이 내부에서 tourApiExecutor로 검색 조합을 병렬 호출하므로 같은 풀을 공유하지 않음
+     */
+    @Bean(name = "recommendationExecutor")
+    public ThreadPoolTaskExecutor recommendationExecutor(
+            @Value("${tourism.recommendation.pool-size:6}") int poolSize,
+            @Value("${tourism.recommendation.queue-capacity:50}") int queueCapacity) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(poolSize);
+        executor.setMaxPoolSize(poolSize);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("recommend-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        executor.setWaitForTasksToCompleteOnShutdown(false);
+        executor.initialize();
+        return executor;
+    }
+
+    /**
+     * 상세정보 NDJSON 스트리밍 등 Spring MVC 비동기 응답용 스레드 풀 (WebConfig.configureAsyncSupport)
+     * 이 설정의 ThreadPoolTaskExecutor 빈들 때문에 Boot 기본 applicationTaskExecutor가 만들어지지 않아,
+     * 등록하지 않으면 요청마다 새 스레드를 만드는 SimpleAsyncTaskExecutor가 쓰임
+     * 각 스트림은 tourRequestExecutor 작업을 기다리므로 그 풀과 공유하지 않음
+     */
+    @Bean(name = "tourStreamExecutor")
+    public ThreadPoolTaskExecutor tourStreamExecutor(
+            @Value("${tourism.api.stream-executor.pool-size:8}") int poolSize,
+            @Value("${tourism.api.stream-executor.queue-capacity:50}") int queueCapacity) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(poolSize);
+        executor.setMaxPoolSize(poolSize);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("tour-stream-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        executor.setWaitForTasksToCompleteOnShutdown(false);
+        executor.initialize();
+        return executor;
+    }
+
+    /**
+     * 메인 페이지 섹션 로드용 스레드 풀 (MainController.loadSection)
+     * 요청 스레드가 섹션별 제한 시간까지만 기다리도록 별도 풀에서 실행
+     */
+    @Bean(name = "mainSectionExecutor")
+    public ThreadPoolTaskExecutor mainSectionExecutor(
+            @Value("${main.section.pool-size:8}") int poolSize,
+            @Value("${main.section.queue-capacity:100}") int queueCapacity) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(poolSize);
+        executor.setMaxPoolSize(poolSize);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("main-section-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        executor.setWaitForTasksToCompleteOnShutdown(false);
+        executor.initialize();
+        return executor;
+    }
+}
@@ -0,0 +1,26 @@
+package com.example.act2gether.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+
+import com.example.act2gether.service.TourCacheService;
+
+/**
+ * 캐시 저장소 분리
+ * - 기본 TourCacheService(@Primary): 투어/계절/추천/섹션 결과 (tour_, seasonal_, recommend_, section_)
+ * - detailCacheStore: 관광지 상세정보(detail_) 전용 메모리 캐시
+ *   상세정보는 관광지마다 키가 생겨 수가 많으므로 따로 제한하여, 예열한 투어 결과가 LRU로 밀려나지 않도록 함
+ */
+@Configuration
+public class TourCacheConfig {
+
+    @Bean(name = "detailCacheStore")
+    public TourCacheService detailCacheStore(Environment environment,
+            @Value("${tourism.detail-cache.max-entries:1000}") int maxEntries,
+            @Value("${tourism.detail-cache.max-bytes:33554432}") long maxBytes,
+            @Value("${tourism.cache.load-wait-ms:15000}") long loadWaitMs) {
+        return new TourCacheService(environment, maxEntries, maxBytes, loadWaitMs);
+    }
+}
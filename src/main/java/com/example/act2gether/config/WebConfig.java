@@ -1,11 +1,20 @@
 package com.example.act2gether.config;
 
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.web.servlet.config.annotation.AsyncSupportConfigurer;
 import org.springframework.web.servlet.config.annotation.ResourceHandlerRegistry;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
 
 @Configuration
 public class WebConfig implements WebMvcConfigurer {
+
+    @Autowired
+    @Qualifier("tourStreamExecutor")
+    private ThreadPoolTaskExecutor tourStreamExecutor;
+
     // 이미지 파일올리기 관리 uploads 다음에 각자의 폴더 생성 위치 만들기
     // 예시) uploads/user -> 유저 이미지
     // uploads/qna -> 게시판 이미지
@@ -14,4 +23,10 @@ public class WebConfig implements WebMvcConfigurer {
         registry.addResourceHandler("/uploads/**")
                 .addResourceLocations("file:uploads/");
     }
-}
\ No newline at end of file
+
+    // StreamingResponseBody 등 비동기 응답을 크기가 제한된 풀에서 실행 (기본값은 요청마다 새 스레드)
+    @Override
+    public void configureAsyncSupport(AsyncSupportConfigurer configurer) {
+        configurer.setTaskExecutor(tourStreamExecutor);
+    }
+}
@@ -8,25 +8,36 @@ import com.example.act2gether.repository.TravelGroupsRepository;
 import com.example.act2gether.repository.UserRepository;
 import com.example.act2gether.service.TourCacheService;
 import com.example.act2gether.service.TourFilterService;
+import com.example.act2gether.service.TourRecommendationService;
 import com.example.act2gether.service.ToursService;
+import com.example.act2gether.service.UserRecommendationCache;
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 
+import jakarta.annotation.PostConstruct;
 import jakarta.servlet.http.HttpSession;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.Authentication;
 import org.springframework.stereotype.Controller;
 import org.springframework.ui.Model;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.server.ResponseStatusException;
 
-import java.time.LocalDate;
-import java.time.Month;
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
 @Controller
@@ -45,6 +56,31 @@ public class MainController {
   @Autowired
   private ToursService toursService;
 
+  @Autowired
+  private TourRecommendationService tourRecommendationService;
+
+  @Autowired
+  private UserRecommendationCache recommendationCache;
+
+  @Autowired
+  @Qualifier("mainSectionExecutor")
+  private Executor mainSectionExecutor;
+
+  @Value("${main.section.timeout-ms:3000}")
+  private long sectionTimeoutMs;
+
+  /**
+   * 맞춤 추천 섹션 (추천 키워드 + 관광지 목록)
+   */
+  private record Recommendations(String userInterest, List<TourDTO> tours) {
+  }
+
+  // 관심사 변경 시 메인 맞춤 추천을 미리 생성하도록 등록
+  @PostConstruct
+  void registerRecommendationLoader() {
+    recommendationCache.register("main", this::buildPersonalizedRecommendations);
+  }
+
   @GetMapping("/")
   public String mainPage(Model model, HttpSession session, Authentication authentication) {
     log.info("메인 페이지 접속");
@@ -112,23 +148,98 @@ public class MainController {
       session.removeAttribute("isAdmin");
     }
 
-    // 사용자 맞춤 추천
-    if (isAuthenticated && user != null) {
-      loadPersonalizedRecommendations(model, user);
-    } else {
-      loadDefaultRecommendations(model);
+    // 페이지 셸만 먼저 응답 - 계절별 추천 / 지역별 체험 / 동행 모임은 /main/sections/{section}으로 따로 로드
+    model.addAttribute("currentSeason", tourRecommendationService.getCurrentSeason());
+
+    return "main";
+  }
+
+  /**
+   * 메인 페이지 섹션 조각 (main-sections.html)
+   * - seasonal: 계절별 추천, regional: 지역별 체험(서울), companion: 동행 모임, recommended: 사용자 맞춤 추천
+   * - 섹션별 제한 시간을 넘기거나 실패하면 마지막으로 성공한 결과(없으면 빈 목록)로 응답
+   */
+  @GetMapping("/main/sections/{section}")
+  public String mainSection(@PathVariable String section, Model model, Authentication authentication) {
+    switch (section) {
+      case "seasonal" -> {
+        String season = tourRecommendationService.getCurrentSeason();
+        model.addAttribute("currentSeason", season);
+        model.addAttribute("seasonTours", loadSection("seasonal_" + season,
+            () -> tourRecommendationService.getSeasonalTours(season), new ArrayList<>()));
+      }
+      case "regional" -> model.addAttribute("regionalExperiences",
+          loadSection("regional", this::buildRegionalExperiences, new ArrayList<>()));
+      case "companion" -> model.addAttribute("companionGroups",
+          loadSection("companion", this::buildCompanionGroups, new ArrayList<>()));
+      case "recommended" -> {
+        UserEntity user = findAuthenticatedUser(authentication);
+        String interests = user != null ? user.getInterests() : null;
+        // 관심사가 같으면 같은 추천 결과 사용 (관심사 JSON 해시 기준 캐시)
+        Recommendations recommendations = interests != null && !interests.trim().isEmpty()
+            ? loadSection("recommended_" + recommendationCache.interestsHash(interests),
+                () -> loadPersonalizedRecommendations(interests),
+                new Recommendations("맞춤", new ArrayList<>()))
+            : loadSection("recommended", this::buildDefaultRecommendations,
+                new Recommendations("인기", new ArrayList<>()));
+        model.addAttribute("userInterest", recommendations.userInterest());
+        model.addAttribute("recommendedTours", recommendations.tours());
+      }
+      default -> throw new ResponseStatusException(HttpStatus.NOT_FOUND);
     }
 
-    // 계절별 추천
-    loadSeasonalRecommendations(model);
+    return "main-sections :: " + section;
+  }
 
-    // 지역별 체험
-    loadRegionalExperiences(model);
+  /**
+   * 섹션 데이터 로드 (mainSectionExecutor에서 실행, 제한 시간 적용)
+   * 성공한 결과는 section_ 캐시에 보관해 두었다가 다음 실패/시간 초과 시 대신 사용
+   * 빈 결과(조회 실패 시 빈 목록을 돌려주는 로더)는 보관하지 않고, 이전에 보관한 결과가 있으면 그것으로 응답
+   */
+  @SuppressWarnings("unchecked")
+  private <T> T loadSection(String name, Supplier<T> loader, T fallback) {
+    String cacheKey = "section_" + name;
+    try {
+      // 제한 시간을 넘겨 늦게 끝난 결과도 다음 요청의 대체값으로 보관
+      CompletableFuture<T> future = CompletableFuture.supplyAsync(loader, mainSectionExecutor);
+      future.thenAccept(value -> {
+        if (!isEmptySection(value)) {
+          cacheService.put(cacheKey, value);
+        }
+      });
 
-    // 동행 모임
-    loadCompanionGroups(model);
+      T value = future.get(sectionTimeoutMs, TimeUnit.MILLISECONDS);
+      if (!isEmptySection(value)) {
+        return value;
+      }
+      log.warn("메인 섹션 {} 결과 없음 - 이전 결과로 응답", name);
+    } catch (TimeoutException e) {
+      log.warn("⏱️ 메인 섹션 {} 제한 시간({}ms) 초과 - 이전 결과로 응답", name, sectionTimeoutMs);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    } catch (ExecutionException e) {
+      log.warn("메인 섹션 {} 로드 실패: {}", name, e.getMessage());
+    }
 
-    return "main";
+    return cacheService.get(cacheKey).map(value -> (T) value).orElse(fallback);
+  }
+
+  private static boolean isEmptySection(Object value) {
+    if (value instanceof Collection<?> collection) {
+      return collection.isEmpty();
+    }
+    if (value instanceof Recommendations recommendations) {
+      return recommendations.tours() == null || recommendations.tours().isEmpty();
+    }
+    return value == null;
+  }
+
+  private UserEntity findAuthenticatedUser(Authentication authentication) {
+    if (authentication == null || !authentication.isAuthenticated()
+        || "anonymousUser".equals(authentication.getPrincipal())) {
+      return null;
+    }
+    return userRepository.findById(authentication.getName()).orElse(null);
   }
 
   // 여행 타입별 - 250913 캐싱 추가
@@ -141,251 +252,15 @@ public class MainController {
 
     log.info("투어 생성 요청: type={}", travelType);
 
-    // 캐시 확인
-    String cacheKey = "tour_" + travelType;
-    Optional<Object> cached = cacheService.get(cacheKey);
-    if (cached.isPresent()) {
-      log.info("캐시에서 투어 반환: {}", travelType);
-      return ResponseEntity.ok((Map<String, Object>) cached.get());
-    }
-
+    // 캐시 확인 - 만료 시 동시 요청은 하나의 생성 작업 결과를 공유, 만료 직후에는 기존 값 반환 후 백그라운드 갱신
+    // 선호 지역이 있는 사용자는 지역별 키(tour_<타입>_<지역코드>)를 사용
     try {
-      // 타입별 장소 매핑
-      Map<String, List<String>> typeToPlaces = new HashMap<>();
-      typeToPlaces.put("culture", Arrays.asList("박물관", "미술관", "고궁/문", "사찰"));
-      typeToPlaces.put("healing", Arrays.asList("온천", "테마파크", "찜질방", "관광단지"));
-      typeToPlaces.put("nature", Arrays.asList("해변", "산/공원", "계곡/폭포", "수목원"));
-      typeToPlaces.put("experience", Arrays.asList("체험"));
-      typeToPlaces.put("sports", Arrays.asList("트래킹", "골프장", "스키장", "캠핑장"));
-
-      List<String> places = typeToPlaces.getOrDefault(travelType, Arrays.asList("관광단지"));
-
-      // 3개 투어 생성을 위한 결과 리스트
-      List<Map<String, Object>> allTours = new ArrayList<>();
-
-      // 모든 지역 코드
-      List<String> allAreaCodes = Arrays.asList("1", "2", "3", "4", "5", "6", "7", "8",
-          "31", "32", "33", "34", "35", "36", "37", "38", "39");
-
-      // 사용자 선호 지역이 있으면 우선 포함
-      List<String> selectedAreaCodes = new ArrayList<>();
-      String preferredAreaCode = "";
-
-      if (authentication != null && authentication.isAuthenticated()
-          && !"anonymousUser".equals(authentication.getPrincipal())) {
-        String userId = authentication.getName();
-        UserEntity user = userRepository.findById(userId).orElse(null);
-
-        if (user != null && user.getInterests() != null) {
-          JsonNode interests = objectMapper.readTree(user.getInterests());
-          JsonNode regions = interests.path("preferredRegions");
-
-          if (regions.isArray() && regions.size() > 0) {
-            String region = regions.get(0).asText();
-            preferredAreaCode = tourFilterService.getAreaCodeByName(region);
-            if (!preferredAreaCode.isEmpty()) {
-              selectedAreaCodes.add(preferredAreaCode);
-            }
-          }
-        }
-      }
-
-      // 나머지 지역 랜덤 선택 (중복 없이)
-      List<String> remainingAreaCodes = new ArrayList<>(allAreaCodes);
-      if (!preferredAreaCode.isEmpty()) {
-        remainingAreaCodes.remove(preferredAreaCode);
-      }
-      Collections.shuffle(remainingAreaCodes);
-
-      // 총 3개 지역 선택
-      while (selectedAreaCodes.size() < 3 && !remainingAreaCodes.isEmpty()) {
-        selectedAreaCodes.add(remainingAreaCodes.remove(0));
-      }
-
-      log.info("선택된 지역 코드: {}", selectedAreaCodes);
-
-      // 각 지역별로 투어 생성
-      for (String areaCode : selectedAreaCodes) {
-        if (allTours.size() >= 3)
-          break;
-
-        // 해당 지역의 시군구 목록 가져오기
-        Map<String, Object> sigunguResult = tourFilterService.getSigunguCodes(areaCode);
-        List<String> sigunguCodes = new ArrayList<>();
-
-        if (sigunguResult != null && (Boolean) sigunguResult.get("success")) {
-          JsonNode sigunguData = (JsonNode) sigunguResult.get("data");
-          if (sigunguData.isArray()) {
-            for (JsonNode sigungu : sigunguData) {
-              String code = sigungu.path("code").asText();
-              if (code.isEmpty()) {
-                code = sigungu.path("sigungucode").asText();
-              }
-              if (!code.isEmpty()) {
-                sigunguCodes.add(code);
-              }
-            }
-          }
-        }
-
-        // 시군구가 없으면 광역시이므로 전체 검색
-        if (sigunguCodes.isEmpty()) {
-          sigunguCodes.add(null);
-        } else {
-          Collections.shuffle(sigunguCodes); // 랜덤 시군구 선택
-        }
-
-        // 해당 지역에서 투어 생성 시도
-        boolean tourCreated = false;
-        for (String sigunguCode : sigunguCodes) {
-          if (tourCreated)
-            break;
-
-          Map<String, String> searchParams = new HashMap<>();
-          searchParams.put("places", objectMapper.writeValueAsString(places));
-          searchParams.put("numOfRows", "20");
-          searchParams.put("areaCode", areaCode);
-
-          if (sigunguCode != null) {
-            searchParams.put("sigunguCode", sigunguCode);
-          }
-
-          Map<String, Object> result = tourFilterService.searchTours(searchParams);
-
-          if (result != null && (Boolean) result.get("success")) {
-            JsonNode tours = (JsonNode) result.get("data");
-
-            if (tours.isArray() && tours.size() >= 6) {
-              // 이미지가 있는 관광지 우선 정렬
-              List<JsonNode> toursList = new ArrayList<>();
-              List<JsonNode> toursWithImage = new ArrayList<>();
-              List<JsonNode> toursWithoutImage = new ArrayList<>();
-
-              for (JsonNode tour : tours) {
-                String image = tour.path("firstimage").asText("");
-                String image2 = tour.path("firstimage2").asText("");
-                String optimized = tour.path("optimizedImage").asText("");
-
-                // 어떤 이미지든 있으면 toursWithImage에 추가
-                if (!image.isEmpty() || !image2.isEmpty() || !optimized.isEmpty()) {
-                  toursWithImage.add(tour);
-                } else {
-                  toursWithoutImage.add(tour);
-                }
-              }
-
-              // 이미지 있는 것을 먼저 추가
-              toursList.addAll(toursWithImage);
-              toursList.addAll(toursWithoutImage);
-
-              // 6개 선택
-              List<JsonNode> selectedTours = new ArrayList<>();
-              for (int i = 0; i < Math.min(6, toursList.size()); i++) {
-                selectedTours.add(toursList.get(i));
-              }
-
-              // 썸네일용 대표 이미지 선택 (반드시 이미지가 있는 것으로)
-              String mainImage = "";
-              JsonNode representativeTour = null;
-
-              // 선택된 투어 중에서 이미지가 있는 첫 번째 관광지 찾기
-              for (JsonNode tour : selectedTours) {
-                String img1 = tour.path("firstimage").asText("");
-                String img2 = tour.path("firstimage2").asText("");
-                String opt = tour.path("optimizedImage").asText("");
-
-                if (!img1.isEmpty()) {
-                  mainImage = img1;
-                  representativeTour = tour;
-                  break;
-                } else if (!opt.isEmpty()) {
-                  mainImage = opt;
-                  representativeTour = tour;
-                  break;
-                } else if (!img2.isEmpty()) {
-                  mainImage = img2;
-                  representativeTour = tour;
-                  break;
-                }
-              }
-
-              // 대표 관광지가 없으면 첫 번째 관광지 사용
-              if (representativeTour == null) {
-                representativeTour = selectedTours.get(0);
-              }
-
-              // 투어 정보 구성
-              List<String> tourIds = new ArrayList<>();
-              String cityName = "";
-
-              // 각 지역별로 투어 생성 부분에서 cityName 처리 로직 수정
-              for (JsonNode tour : selectedTours) {
-                tourIds.add(tour.path("contentid").asText());
-
-                if (cityName.isEmpty()) {
-                  String addr = tour.path("addr1").asText();
-                  if (!addr.isEmpty()) {
-                    String[] parts = addr.split(" ");
-
-                    // 광역시 체크
-                    if (parts.length >= 1 && parts[0].contains("광역시")) {
-                      // 광역시는 첫 번째 부분만 (예: "대구광역시")
-                      cityName = parts[0];
-                    } else if (parts.length >= 2) {
-                      // 일반 도는 두 부분 (예: "경기도 안성시")
-                      cityName = parts[0] + " " + parts[1];
-                    } else {
-                      cityName = parts[0];
-                    }
-                  }
-                }
-              }
-
-              Map<String, Object> tourInfo = new HashMap<>();
-              tourInfo.put("tourId", String.join("-", tourIds));
-              tourInfo.put("tourType", travelType);
-              tourInfo.put("cityName", cityName);
-              tourInfo.put("areaCode", areaCode);
-              tourInfo.put("tours", selectedTours);
-              tourInfo.put("mainImage", mainImage);
-              tourInfo.put("representativeTour", representativeTour);
-              tourInfo.put("hasImage", !mainImage.isEmpty());
-
-              allTours.add(tourInfo);
-              tourCreated = true;
-              log.info("투어 생성 성공: {} ({}), 이미지: {}", cityName, areaCode, !mainImage.isEmpty());
-            }
-          }
-        }
-
-        if (!tourCreated) {
-          log.warn("지역 코드 {}에서 투어 생성 실패", areaCode);
-        }
-      }
-
-      // if (!allTours.isEmpty()) {
-      // log.info("총 {}개 투어 생성 완료", allTours.size());
-      // return ResponseEntity.ok(Map.of(
-      // "success", true,
-      // "data", Map.of(
-      // "tourType", travelType,
-      // "tourList", allTours)));
-      // }
-
-      if (!allTours.isEmpty()) {
-        log.info("총 {}개 투어 생성 완료", allTours.size());
-
-        // 성공 결과 생성
-        Map<String, Object> successResult = Map.of(
-            "success", true,
-            "data", Map.of(
-                "tourType", travelType,
-                "tourList", allTours));
-
-        // 캐시에 저장
-        cacheService.put(cacheKey, successResult);
-
-        return ResponseEntity.ok(successResult);
+      String preferredAreaCode = findPreferredAreaCode(authentication);
+      String cacheKey = TourRecommendationService.travelTypeCacheKey(travelType, preferredAreaCode);
+      Map<String, Object> result = cacheService.getOrLoad(cacheKey,
+          () -> buildTourResult(travelType, preferredAreaCode));
+      if (result != null) {
+        return ResponseEntity.ok(result);
       }
       return ResponseEntity.ok(Map.of(
           "success", false,
@@ -399,14 +274,57 @@ public class MainController {
     }
   }
 
-  private void loadPersonalizedRecommendations(Model model, UserEntity user) {
+  /**
+   * 로그인 사용자의 첫 번째 선호 지역 코드 (없으면 빈 값)
+   */
+  private String findPreferredAreaCode(Authentication authentication) {
     try {
-      String interests = user.getInterests();
-      if (interests == null || interests.trim().isEmpty()) {
-        loadDefaultRecommendations(model);
-        return;
+      UserEntity user = findAuthenticatedUser(authentication);
+      if (user == null || user.getInterests() == null) {
+        return "";
       }
 
+      JsonNode regions = objectMapper.readTree(user.getInterests()).path("preferredRegions");
+      if (regions.isArray() && regions.size() > 0) {
+        String areaCode = tourFilterService.getAreaCodeByName(regions.get(0).asText());
+        return areaCode != null ? areaCode : "";
+      }
+    } catch (Exception e) {
+      log.warn("선호 지역 확인 실패: {}", e.getMessage());
+    }
+    return "";
+  }
+
+  /**
+   * 여행 타입별 투어 3개 생성 (캐시 로더)
+   * 지역별 후보 검색은 TourRecommendationService에서 병렬 실행
+   * 실패 시 null 반환 → 캐시하지 않음
+   *
+   * @param preferredAreaCode 사용자 선호 지역 코드 (없으면 빈 값)
+   */
+  private Map<String, Object> buildTourResult(String travelType, String preferredAreaCode) {
+    try {
+      return tourRecommendationService.buildTravelTypeTours(travelType, preferredAreaCode);
+    } catch (Exception e) {
+      log.error("투어 생성 실패: {}", e.getMessage(), e);
+      return null;
+    }
+  }
+
+  /**
+   * 맞춤 추천 (관심사별 캐시 조회, 검색 실패 시 기본 추천)
+   */
+  private Recommendations loadPersonalizedRecommendations(String interests) {
+    Recommendations recommendations = recommendationCache.getOrLoad("main", interests,
+        () -> buildPersonalizedRecommendations(interests));
+    return recommendations != null ? recommendations : buildDefaultRecommendations();
+  }
+
+  /**
+   * 관심사 기반 검색 (캐시 로더, 실패 시 null 반환 → 캐시하지 않음)
+   */
+  private Recommendations buildPersonalizedRecommendations(String interests) {
+    try {
       JsonNode interestsJson = objectMapper.readTree(interests);
 
       Map<String, String> searchParams = new HashMap<>();
@@ -423,211 +341,55 @@ public class MainController {
       }
 
       // 장소 설정
+      String userInterest = "맞춤";
+      List<String> placeList = new ArrayList<>();
       JsonNode places = interestsJson.path("places");
       if (places.isArray() && places.size() > 0) {
-        List<String> placeList = new ArrayList<>();
         for (JsonNode place : places) {
           placeList.add(place.asText());
         }
         searchParams.put("places", objectMapper.writeValueAsString(placeList));
-
-        String keyword = generateKeywordFromPlaces(placeList);
-        model.addAttribute("userInterest", keyword);
-      } else {
-        model.addAttribute("userInterest", "맞춤");
+        userInterest = generateKeywordFromPlaces(placeList);
       }
 
-      // API 호출 및 DTO 변환
-      Map<String, Object> result = tourFilterService.searchTours(searchParams);
+      // 지역 + 장소가 있으면 후보 풀에서 추출, 아니면(또는 후보 부족 시) API 검색
+      Map<String, Object> result = null;
+      if (searchParams.containsKey("areaCode") && !placeList.isEmpty()) {
+        result = tourFilterService.sampleCandidateTours(searchParams.get("areaCode"), placeList, 6);
+      }
+      if (result == null) {
+        result = tourFilterService.searchTours(searchParams);
+      }
 
       if (result != null && Boolean.TRUE.equals(result.get("success"))) {
         JsonNode tours = (JsonNode) result.get("data");
         List<TourDTO> tourList = convertToTourDTOs(tours);
-        model.addAttribute("recommendedTours", tourList);
         log.info("맞춤 추천 로드 성공: {}개", tourList.size());
-      } else {
-        loadDefaultRecommendations(model);
+        return new Recommendations(userInterest, tourList);
       }
+      return null;
 
     } catch (Exception e) {
       log.error("맞춤 추천 로드 실패: {}", e.getMessage());
-      loadDefaultRecommendations(model);
+      return null;
     }
   }
 
-  private void loadDefaultRecommendations(Model model) {
+  private Recommendations buildDefaultRecommendations() {
     try {
       Map<String, Object> result = tourFilterService.getRecommendedTours(null, 6);
 
       if (result != null && Boolean.TRUE.equals(result.get("success"))) {
         JsonNode tours = (JsonNode) result.get("data");
         List<TourDTO> tourList = convertToTourDTOs(tours);
-        model.addAttribute("recommendedTours", tourList);
         log.info("기본 추천 로드 성공: {}개", tourList.size());
-      } else {
-        model.addAttribute("recommendedTours", new ArrayList<>());
+        return new Recommendations("인기", tourList);
       }
-
-      model.addAttribute("userInterest", "인기");
+      return null;
 
     } catch (Exception e) {
       log.error("기본 추천 로드 실패: {}", e.getMessage());
-      model.addAttribute("recommendedTours", new ArrayList<>());
-    }
-  }
-
-  // 1. 최적화된 계절별 지역 선택
-  private List<String> getOptimizedSeasonalAreas(String season) {
-    Map<String, List<String>> seasonAreaMap = new HashMap<>();
-
-    seasonAreaMap.put("봄", Arrays.asList("39", "36", "35", "1", "37", "31"));
-    seasonAreaMap.put("여름", Arrays.asList("32", "6", "39", "8", "36", "35"));
-    seasonAreaMap.put("가을", Arrays.asList("32", "37", "35", "1", "38", "33"));
-    seasonAreaMap.put("겨울", Arrays.asList("32", "39", "6", "35", "3", "33"));
-
-    return seasonAreaMap.getOrDefault(season,
-        Arrays.asList("1", "6", "39", "32", "35", "31"));
-  }
-
-  // 2. 투어 정보 생성 헬퍼
-  private Map<String, Object> createSeasonalTourInfo(List<JsonNode> tours, String areaCode, String season) {
-    List<String> tourIds = new ArrayList<>();
-    String cityName = "";
-    String mainImage = "";
-    JsonNode representativeTour = null;
-
-    // 첫 번째 투어에서 도시명 추출
-    if (tours.size() > 0) {
-      String firstAddr = tours.get(0).path("addr1").asText("");
-      if (!firstAddr.isEmpty()) {
-        String[] parts = firstAddr.split(" ");
-        // 시/군/구 단위만 추출 (같은 지역이므로 모두 동일)
-        if (parts.length >= 2) {
-          cityName = parts[1]; // 시/군/구 이름만
-        } else if (parts.length >= 1) {
-          cityName = parts[0];
-        }
-      }
-    }
-
-    for (JsonNode tour : tours) {
-      tourIds.add(tour.path("contentid").asText());
-
-      if (mainImage.isEmpty()) {
-        String img1 = tour.path("firstimage").asText("");
-        String img2 = tour.path("firstimage2").asText("");
-        String opt = tour.path("optimizedImage").asText("");
-
-        if (!img1.isEmpty()) {
-          mainImage = img1;
-          representativeTour = tour;
-        } else if (!opt.isEmpty()) {
-          mainImage = opt;
-          representativeTour = tour;
-        } else if (!img2.isEmpty()) {
-          mainImage = img2;
-          representativeTour = tour;
-        }
-      }
-    }
-
-    if (representativeTour == null && tours.size() > 0) {
-      representativeTour = tours.get(0);
-    }
-
-    Map<String, Object> tourInfo = new HashMap<>();
-    tourInfo.put("tourId", String.join("-", tourIds));
-    tourInfo.put("cityName", cityName);
-    tourInfo.put("mainImage", mainImage);
-    tourInfo.put("representativeTour", representativeTour);
-    tourInfo.put("representativeTitle",
-        representativeTour != null ? representativeTour.path("title").asText("특별 관광지") : "특별 관광지");
-    tourInfo.put("season", season);
-    tourInfo.put("tourCount", tours.size());
-
-    return tourInfo;
-  }
-
-  // 3. 메인 loadSeasonalRecommendations 메서드
-  private void loadSeasonalRecommendations(Model model) {
-    try {
-      String season = getCurrentSeason();
-      model.addAttribute("currentSeason", season);
-
-      // 캐시 확인
-      String cacheKey = "seasonal_" + season;
-      Optional<Object> cached = cacheService.get(cacheKey);
-      if (cached.isPresent()) {
-        model.addAttribute("seasonTours", cached.get());
-        log.info("캐시에서 {} 테마 투어 반환", season);
-        return;
-      }
-
-      List<String> seasonPlaces = getSeasonPlaces(season);
-      List<String> seasonalAreas = getOptimizedSeasonalAreas(season);
-      List<Map<String, Object>> seasonalTours = new ArrayList<>();
-
-      int maxAttempts = Math.min(seasonalAreas.size(), 8);
-
-      for (int i = 0; i < maxAttempts && seasonalTours.size() < 6; i++) {
-        String areaCode = seasonalAreas.get(i);
-
-        Map<String, String> params = new HashMap<>();
-        params.put("numOfRows", "12");
-        params.put("places", objectMapper.writeValueAsString(seasonPlaces));
-        params.put("areaCode", areaCode);
-
-        Map<String, Object> result = tourFilterService.searchTours(params);
-
-        if (result != null && Boolean.TRUE.equals(result.get("success"))) {
-          JsonNode tours = (JsonNode) result.get("data");
-
-          if (tours.isArray() && tours.size() >= 6) {
-            // 이미지 있는 것 우선 정렬
-            List<JsonNode> validTours = new ArrayList<>();
-            List<JsonNode> withImage = new ArrayList<>();
-            List<JsonNode> withoutImage = new ArrayList<>();
-
-            for (JsonNode tour : tours) {
-              boolean hasImage = !tour.path("firstimage").asText("").isEmpty() ||
-                  !tour.path("optimizedImage").asText("").isEmpty() ||
-                  !tour.path("firstimage2").asText("").isEmpty();
-              if (hasImage) {
-                withImage.add(tour);
-              } else {
-                withoutImage.add(tour);
-              }
-            }
-
-            validTours.addAll(withImage);
-            validTours.addAll(withoutImage);
-
-            if (validTours.size() >= 6) {
-              Map<String, Object> tourInfo = createSeasonalTourInfo(
-                  validTours.subList(0, 6),
-                  areaCode,
-                  season);
-
-              seasonalTours.add(tourInfo);
-              log.info("계절 투어 생성: {} ({}) - {}",
-                  tourInfo.get("cityName"), areaCode, season);
-            }
-          }
-        }
-      }
-
-      // 캐싱
-      if (!seasonalTours.isEmpty()) {
-        cacheService.put(cacheKey, seasonalTours);
-      }
-
-      model.addAttribute("seasonTours", seasonalTours);
-      log.info("{} 테마 투어 로드 완료: {}개", season, seasonalTours.size());
-
-    } catch (Exception e) {
-      log.error("계절별 추천 로드 실패: {}", e.getMessage(), e);
-      model.addAttribute("seasonTours", new ArrayList<>());
-      model.addAttribute("currentSeason", getCurrentSeason());
+      return null;
     }
   }
 
@@ -667,8 +429,8 @@ public class MainController {
     return ResponseEntity.ok(response);
   }
 
-  // 초기 로드용 - 서울 데이터
-  private void loadRegionalExperiences(Model model) {
+  // 초기 로드용 - 서울 데이터 (실패 시 null)
+  private List<ExperienceDTO> buildRegionalExperiences() {
     try {
       // DB에서 서울 지역(1) 투어 전체 조회
       List<Map<String, Object>> tours = toursService.getToursByRegion("1");
@@ -690,16 +452,17 @@ public class MainController {
         experiences.add(dto);
       }
 
-      model.addAttribute("regionalExperiences", experiences);
       log.info("서울 지역 체험 로드 성공: {}개", experiences.size());
+      return experiences;
 
     } catch (Exception e) {
       log.error("지역별 체험 로드 실패: {}", e.getMessage());
-      model.addAttribute("regionalExperiences", new ArrayList<>());
+      return null;
     }
   }
 
-  private void loadCompanionGroups(Model model) {
+  // 최신 모집중인 모임 (실패 시 null)
+  private List<Map<String, Object>> buildCompanionGroups() {
     try {
       // DB에서 최신 모집중인 모임 3개 조회
       List<TravelGroupsEntity> latestGroups = travelGroupsRepository.findLatestRecruitingGroups();
@@ -785,13 +548,12 @@ public class MainController {
         groups.add(groupMap);
       }
 
-      model.addAttribute("companionGroups", groups);
       log.info("최신 모임 {}개 로드 완료", groups.size());
+      return groups;
 
     } catch (Exception e) {
       log.error("동행 모임 로드 실패: {}", e.getMessage(), e);
-      // 실패시 빈 리스트
-      model.addAttribute("companionGroups", new ArrayList<>());
+      return null;
     }
   }
 
@@ -870,32 +632,7 @@ public class MainController {
   // return experiences;
   // }
 
-  // 해당 서버 달로 확인 - 유틸리티 메서드들
-  private String getCurrentSeason() {
-    LocalDate now = LocalDate.now();
-    Month month = now.getMonth();
-
-    if (month == Month.MARCH || month == Month.APRIL || month == Month.MAY) {
-      return "봄";
-    } else if (month == Month.JUNE || month == Month.JULY || month == Month.AUGUST) {
-      return "여름";
-    } else if (month == Month.SEPTEMBER || month == Month.OCTOBER || month == Month.NOVEMBER) {
-      return "가을";
-    } else {
-      return "겨울";
-    }
-  }
-
-  private List<String> getSeasonPlaces(String season) {
-    Map<String, List<String>> seasonMap = new HashMap<>();
-    seasonMap.put("봄", Arrays.asList("수목원", "자연휴양림", "테마파크"));
-    seasonMap.put("여름", Arrays.asList("해변", "계곡/폭포", "캠핑장"));
-    seasonMap.put("가을", Arrays.asList("산/공원", "트래킹", "자연생태관광지"));
-    seasonMap.put("겨울", Arrays.asList("온천", "스키장", "찜질방"));
-
-    return seasonMap.getOrDefault(season, Arrays.asList("관광단지"));
-  }
-
+  // 유틸리티 메서드들
   private String generateKeywordFromPlaces(List<String> places) {
     if (places.isEmpty())
       return "특별한";
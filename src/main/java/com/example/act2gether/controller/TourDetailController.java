@@ -1,17 +1,24 @@
 package com.example.act2gether.controller;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.Comparator;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
@@ -20,6 +27,7 @@ import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import com.example.act2gether.service.TourFilterService;
 import com.example.act2gether.service.ToursService;
@@ -27,6 +35,8 @@ import com.example.act2gether.entity.ToursEntity;
 import com.example.act2gether.entity.TravelGroupsEntity;
 import com.example.act2gether.repository.TravelGroupsRepository;
 import com.example.act2gether.service.BarrierFreeService;
+import com.example.act2gether.service.BarrierFreeStore.BarrierFreeRecord;
+import com.example.act2gether.service.RegionDirectoryService;
 import com.example.act2gether.service.SpotDetailService;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
@@ -68,6 +78,18 @@ public class TourDetailController {
   @Autowired
   private SpotDetailService spotDetailService; // ✅ 부가(휴무/시간/주차/요금)
 
+  @Autowired
+  private RegionDirectoryService regionDirectory; // ✅ 지역/시군구 코드 (메모리)
+
+  // 외부 API 호출 공용 스레드 풀 (공용 ForkJoinPool 대신 사용)
+  @Autowired
+  @Qualifier("tourApiExecutor")
+  private Executor tourApiExecutor;
+
+  // 투어 상세 조회 시 관광지 1곳당 대기 상한
+  @Value("${tourism.tour-detail.spot-timeout-ms:8000}")
+  private long spotTimeoutMs;
+
   // TourDetailController 클래스 상단에 Repository 주입 추가
   @Autowired
   private TravelGroupsRepository travelGroupsRepository;
@@ -236,37 +258,19 @@ public class TourDetailController {
             log.warn("{}번 contentId {} 조회 실패: {}", order, contentId, e.getMessage());
 
             // 실패해도 자리는 채워서 일관성 유지
-            spot.put("title", "정보 없음");
-            spot.put("addr1", "");
-            spot.put("addr2", "");
-            spot.put("tel", "");
-            spot.put("homepage", "");
-            spot.put("overview", "");
-            spot.put("firstimage", "");
-            spot.put("firstimage2", "");
-            spot.put("mapx", "0");
-            spot.put("mapy", "0");
-            spot.put("cat1", "");
-            spot.put("cat2", "");
-            spot.put("cat3", "");
-            spot.put("areacode", "");
-            spot.put("sigungucode", "");
-            spot.put("optimizedImage", "/uploads/tour/no-image.png");
-            spot.put("categoryName", "기타");
-            // 무장애 정보 필드도 추가
-            spot.put("hasBarrierFreeInfo", false);
-            spot.put("accessibilityScore", 0);
-            spot.put("barrierFreeInfo", "{}");
+            fillUnavailableSpot(spot);
             // 스택 트레이스도 로그에 출력 (디버깅용)
             log.error("상세 에러 스택:", e);
           }
           return spot;
-        });
+        }, tourApiExecutor)
+            // 제한 시간 안에 끝나지 않은 관광지는 조회 실패와 같은 빈 자리로 채움
+            .completeOnTimeout(unavailableSpot(order, contentId), spotTimeoutMs, TimeUnit.MILLISECONDS);
 
         futures.add(future);
       }
 
-      // 모든 비동기 완료 대기 및 순서 보장 수집
+      // 모든 비동기 완료 대기 및 순서 보장 수집 (관광지별 spotTimeoutMs 이후에는 빈 자리로 완료됨)
       CompletableFuture.allOf(futures.toArray(new CompletableFuture[0])).join();
 
       List<Map<String, Object>> tourSpots = futures.stream()
@@ -294,27 +298,20 @@ public class TourDetailController {
 
       // 3. 무장애 정보 통합 (안전 merge) - 핵심 수정 부분
       try {
-        List<JsonNode> spotsAsJsonNodes = convertToJsonNodes(tourSpots);
-        List<JsonNode> enriched = barrierFreeService.enrichWithBarrierFreeInfo(
-            spotsAsJsonNodes, primaryAreaCode, primarySigunguCode);
-
-        // contentId → enriched 노드 맵
-        Map<String, JsonNode> byId = new HashMap<>();
-        for (JsonNode n : enriched) {
-          String cid = n.path("contentid").asText("");
-          if (!cid.isEmpty())
-            byId.put(cid, n);
-        }
+        List<String> spotContentIds = tourSpots.stream()
+            .map(spot -> String.valueOf(spot.getOrDefault("contentid", "")))
+            .collect(Collectors.toList());
+        Map<String, BarrierFreeRecord> byId = barrierFreeService.findRecords(spotContentIds);
 
         // 모든 spot에 대해 무장애 정보 보장
         for (Map<String, Object> spot : tourSpots) {
           String cid = String.valueOf(spot.getOrDefault("contentid", ""));
-          JsonNode n = byId.get(cid);
+          BarrierFreeRecord record = byId.get(cid);
 
-          if (n != null && n.has("barrierFreeInfo")) {
+          if (record != null && record.hasInfo()) {
             spot.put("hasBarrierFreeInfo", true);
-            spot.put("accessibilityScore", n.path("accessibilityScore").asInt(0));
-            spot.put("barrierFreeInfo", n.get("barrierFreeInfo").toString());
+            spot.put("accessibilityScore", record.accessibilityScore());
+            spot.put("barrierFreeInfo", barrierFreeService.toJson(record.features()));
           } else {
             // ✅ 무장애 정보가 없어도 필드는 반드시 추가
             spot.put("hasBarrierFreeInfo", false);
@@ -842,25 +839,42 @@ public class TourDetailController {
       return "";
     }
 
-    try {
-      Map<String, Object> result = tourFilterService.getSigunguCodes(areaCode);
-      if ((Boolean) result.get("success")) {
-        @SuppressWarnings("unchecked")
-        List<Map<String, String>> sigunguList = (List<Map<String, String>>) result.get("data");
+    return regionDirectory.findSigunguName(areaCode, sigunguCode).orElse("");
+  }
 
-        if (sigunguList != null) {
-          for (Map<String, String> sigungu : sigunguList) {
-            if (sigunguCode.equals(sigungu.get("code")) || sigunguCode.equals(sigungu.get("sigungucode"))) {
-              return sigungu.get("name");
-            }
-          }
-        }
-      }
-    } catch (Exception e) {
-      log.warn("시군구 이름 조회 실패: areaCode={}, sigunguCode={}, error={}", areaCode, sigunguCode, e.getMessage());
-    }
+  /**
+   * 조회하지 못한 관광지 자리 (URL 순서와 contentid만 유지)
+   */
+  private Map<String, Object> unavailableSpot(int order, String contentId) {
+    Map<String, Object> spot = new HashMap<>();
+    spot.put("order", order);
+    spot.put("contentid", contentId);
+    fillUnavailableSpot(spot);
+    return spot;
+  }
 
-    return "";
+  private void fillUnavailableSpot(Map<String, Object> spot) {
+    spot.put("title", "정보 없음");
+    spot.put("addr1", "");
+    spot.put("addr2", "");
+    spot.put("tel", "");
+    spot.put("homepage", "");
+    spot.put("overview", "");
+    spot.put("firstimage", "");
+    spot.put("firstimage2", "");
+    spot.put("mapx", "0");
+    spot.put("mapy", "0");
+    spot.put("cat1", "");
+    spot.put("cat2", "");
+    spot.put("cat3", "");
+    spot.put("areacode", "");
+    spot.put("sigungucode", "");
+    spot.put("optimizedImage", "/uploads/tour/no-image.png");
+    spot.put("categoryName", "기타");
+    // 무장애 정보 필드도 추가
+    spot.put("hasBarrierFreeInfo", false);
+    spot.put("accessibilityScore", 0);
+    spot.put("barrierFreeInfo", "{}");
   }
 
   /**
@@ -911,24 +925,6 @@ public class TourDetailController {
     return categoryNames.getOrDefault(categoryCode, "기타");
   }
 
-  /**
-   * Map → JsonNode 변환 (BarrierFreeService 호환)
-   */
-  private List<JsonNode> convertToJsonNodes(List<Map<String, Object>> spots) {
-    List<JsonNode> jsonNodes = new ArrayList<>();
-
-    for (Map<String, Object> spot : spots) {
-      try {
-        JsonNode jsonNode = objectMapper.valueToTree(spot);
-        jsonNodes.add(jsonNode);
-      } catch (Exception e) {
-        log.warn("Map → JsonNode 변환 실패: {}", e.getMessage());
-      }
-    }
-
-    return jsonNodes;
-  }
-
   /**
    * JsonNode → Map 변환 (무장애 정보 통합)
    */
@@ -997,19 +993,15 @@ public class TourDetailController {
   @GetMapping("/spot-detail/batch")
   public ResponseEntity<Map<String, Object>> getSpotDetailBatch(@RequestParam String ids) {
     try {
-      String[] contentIds = ids.split(",");
-      Map<String, Object> results = new HashMap<>();
+      List<String> contentIds = spotDetailService.normalizeContentIds(ids);
 
-      for (String contentId : contentIds) {
-        Map<String, Object> spotDetail = spotDetailService.getSpotDetail(contentId.trim());
-        if ((Boolean) spotDetail.get("success")) {
-          results.put(contentId.trim(), spotDetail.get("data"));
-        }
-      }
+      // 동시 조회 수 / 전체 시간 제한을 둔 일괄 조회 (실패한 관광지는 errors에 사유 포함)
+      Map<String, Object> results = spotDetailService.getSpotDetails(contentIds);
 
       return ResponseEntity.ok(Map.of(
           "success", true,
-          "data", results));
+          "data", results.get("data"),
+          "errors", results.get("errors")));
 
     } catch (Exception e) {
       log.error("배치 상세정보 조회 실패: {}", e.getMessage());
@@ -1019,6 +1011,41 @@ public class TourDetailController {
     }
   }
 
+  /**
+   * 🆕 배치 상세정보 스트리밍 조회 (NDJSON)
+   * GET /tour-detail/spot-detail/batch/stream?ids=1,2,3
+   * 관광지 하나가 완료될 때마다 한 줄씩 전송하여 화면에서 순서대로 표시 가능
+   * 각 줄: {"contentId": "...", "success": true, "data": {...}} 또는 {"contentId": "...", "success": false, "message": "..."}
+   */
+  @GetMapping(value = "/spot-detail/batch/stream", produces = "application/x-ndjson")
+  public ResponseEntity<StreamingResponseBody> streamSpotDetailBatch(@RequestParam String ids) {
+    List<String> contentIds = spotDetailService.normalizeContentIds(ids);
+
+    StreamingResponseBody body = outputStream -> {
+      try {
+        spotDetailService.forEachSpotDetail(contentIds, (contentId, result) -> {
+          Map<String, Object> line = new LinkedHashMap<>();
+          line.put("contentId", contentId);
+          line.putAll(result);
+          try {
+            outputStream.write(objectMapper.writeValueAsBytes(line));
+            outputStream.write('\n');
+            outputStream.flush();
+          } catch (IOException e) {
+            throw new UncheckedIOException(e);
+          }
+        });
+      } catch (UncheckedIOException e) {
+        // 클라이언트 연결 종료 - 남은 관광지 조회는 시작하지 않음
+        log.debug("배치 상세정보 스트리밍 중단: {}", e.getMessage());
+      }
+    };
+
+    return ResponseEntity.ok()
+        .contentType(MediaType.parseMediaType("application/x-ndjson"))
+        .body(body);
+  }
+
   /**
    * 여행 그룹 존재 여부 확인
    * GET /tour-detail/{tourId}/group-status
@@ -12,10 +12,16 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.core5.pool.PoolStats;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.ResponseEntity;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
@@ -25,7 +31,18 @@ import org.springframework.web.bind.annotation.RestController;
 
 import com.example.act2gether.entity.UserEntity;
 import com.example.act2gether.repository.UserRepository;
+import com.example.act2gether.service.BarrierFreeStore;
+import com.example.act2gether.service.RegionDirectoryService;
+import com.example.act2gether.service.RestaurantGeoIndex;
+import com.example.act2gether.service.TourCacheService;
+import com.example.act2gether.service.TourCacheWarmer;
+import com.example.act2gether.service.TourCandidatePools;
+import com.example.act2gether.service.TourApiClient;
+import com.example.act2gether.service.TourApiGuard;
+import com.example.act2gether.service.TourCatalogService;
+import com.example.act2gether.service.TourDetailCache;
 import com.example.act2gether.service.TourFilterService;
+import com.example.act2gether.service.TourTaxonomyService;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 
@@ -39,8 +56,24 @@ import lombok.extern.slf4j.Slf4j;
 public class TourFilterController {
 
     private final TourFilterService tourFilterService;
+    private final TourCatalogService tourCatalogService;
+    private final BarrierFreeStore barrierFreeStore;
+    private final RestaurantGeoIndex restaurantGeoIndex;
+    private final TourCacheService tourCacheService;
+    private final TourDetailCache tourDetailCache;
+    private final TourTaxonomyService tourTaxonomy;
+    private final RegionDirectoryService regionDirectory;
+    private final TourApiClient tourApiClient;
+    private final TourApiGuard tourApiGuard;
+    private final TourCacheWarmer tourCacheWarmer;
+    private final TourCandidatePools tourCandidatePools;
     private final UserRepository userRepository;
     private final ObjectMapper objectMapper;
+    private final PoolingHttpClientConnectionManager outboundConnectionManager;
+
+    @Autowired
+    @Qualifier("tourApiExecutor")
+    private ThreadPoolTaskExecutor tourApiExecutor;
 
     // 설정값으로 기본값 관리
     @Value("${tour.search.default.numOfRows:6}")
@@ -131,22 +164,9 @@ public class TourFilterController {
         Set<String> themes = new HashSet<>();
 
         for (String place : places) {
-            // 자연 관련 장소들
-            if (Arrays.asList("해변", "산/공원", "계곡/폭포", "호수/강", "수목원",
-                    "자연휴양림", "자연생태관광지").contains(place)) {
-                themes.add("자연");
-            }
-
-            // 문화/역사 관련 장소들
-            if (Arrays.asList("고궁/문", "민속마을/가옥", "유적지", "사찰", "종교성지",
-                    "박물관", "미술관", "체험", "온천", "테마파크", "관광단지",
-                    "창질방", "유람선/잠수함관광").contains(place)) {
-                themes.add("문화/역사");
-            }
-
-            // 레저 관련 장소들
-            if (Arrays.asList("트래킹", "골프장", "스키장", "캠핑장", "낚시").contains(place)) {
-                themes.add("레포츠");
+            String theme = tourTaxonomy.placeTheme(place);
+            if (theme != null) {
+                themes.add(theme);
             }
         }
 
@@ -160,40 +180,9 @@ public class TourFilterController {
         Set<String> activities = new HashSet<>();
 
         for (String place : places) {
-            // 자연관광지 활동
-            if (Arrays.asList("해변", "산/공원", "계곡/폭포", "호수/강", "수목원",
-                    "자연휴양림", "자연생태관광지").contains(place)) {
-                activities.add("자연관광지");
-            }
-
-            // 역사관광지 활동
-            if (Arrays.asList("고궁/문", "민속마을/가옥", "유적지", "사찰", "종교성지").contains(place)) {
-                activities.add("역사관광지");
-            }
-
-            // 휴양관광지 활동
-            if (Arrays.asList("온천", "테마파크", "관광단지", "창질방", "유람선/잠수함관광").contains(place)) {
-                activities.add("휴양관광지");
-            }
-
-            // 체험관광지 활동
-            if (Arrays.asList("체험").contains(place)) {
-                activities.add("체험관광지");
-            }
-
-            // 문화시설 활동
-            if (Arrays.asList("박물관", "미술관").contains(place)) {
-                activities.add("문화시설");
-            }
-
-            // 육상레포츠 활동
-            if (Arrays.asList("트래킹", "골프장", "스키장", "캠핑장").contains(place)) {
-                activities.add("육상레포츠");
-            }
-
-            // 수상레포츠 활동
-            if (Arrays.asList("낚시").contains(place)) {
-                activities.add("수상레포츠");
+            String activity = tourTaxonomy.placeActivity(place);
+            if (activity != null) {
+                activities.add(activity);
             }
         }
 
@@ -464,6 +453,19 @@ public class TourFilterController {
             health.put("timestamp", System.currentTimeMillis());
             health.put("version", "v3.0");
             health.put("features", "UI단순화 + 장소기반자동매핑 + 액티브시니어최적화");
+            health.put("catalog", tourCatalogService.getStatus());
+            health.put("barrierFree", barrierFreeStore.getStatus());
+            health.put("restaurants", restaurantGeoIndex.getStatus());
+            health.put("cache", tourCacheService.getStats());
+            health.put("cacheWarmer", tourCacheWarmer.getStatus());
+            health.put("candidatePools", tourCandidatePools.getStatus());
+            health.put("detailCache", tourDetailCache.getStats());
+            health.put("taxonomy", tourTaxonomy.getStatus());
+            health.put("regions", regionDirectory.getStatus());
+            health.put("httpPool", connectionPoolStatus());
+            health.put("tourApiLatency", tourApiClient.getStats());
+            health.put("tourApiGuard", tourApiGuard.getStatus());
+            health.put("tourApiExecutor", executorStatus());
 
             return ResponseEntity.ok(Map.of("success", true, "data", health));
 
@@ -476,4 +478,31 @@ public class TourFilterController {
             return ResponseEntity.ok(Map.of("success", false, "data", health));
         }
     }
-}
\ No newline at end of file
+
+    /**
+     * 외부 API 커넥션 풀 사용 현황 (HTTP/2 모드에서는 풀을 사용하지 않으므로 0)
+     */
+    private Map<String, Object> connectionPoolStatus() {
+        PoolStats stats = outboundConnectionManager.getTotalStats();
+        Map<String, Object> pool = new LinkedHashMap<>();
+        pool.put("leased", stats.getLeased());
+        pool.put("available", stats.getAvailable());
+        pool.put("pending", stats.getPending());
+        pool.put("max", stats.getMax());
+        return pool;
+    }
+
+    /**
+     * 외부 API 공용 스레드 풀 사용 현황 (대기열이 가득 차면 호출 스레드에서 실행)
+     */
+    private Map<String, Object> executorStatus() {
+        Map<String, Object> executor = new LinkedHashMap<>();
+        executor.put("active", tourApiExecutor.getActiveCount());
+        executor.put("poolSize", tourApiExecutor.getPoolSize());
+        executor.put("maxPoolSize", tourApiExecutor.getMaxPoolSize());
+        executor.put("queued", tourApiExecutor.getQueueSize());
+        executor.put("queueCapacity", tourApiExecutor.getQueueCapacity());
+        executor.put("completed", tourApiExecutor.getThreadPoolExecutor().getCompletedTaskCount());
+        return executor;
+    }
+}
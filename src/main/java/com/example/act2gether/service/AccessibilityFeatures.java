@@ -0,0 +1,76 @@
+package com.example.act2gether.service;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 무장애 편의시설 6종 비트마스크
+ * - 관광지별 편의시설 보유 여부를 int 하나로 표현 (저장소 적재 시 1회 계산)
+ * - 편의시설 그룹 필터는 (관광지 마스크 & 그룹 마스크) != 0 비교로 처리
+ */
+public final class AccessibilityFeatures {
+
+    public static final int PARKING = 1;
+    public static final int ROUTE = 1 << 1;
+    public static final int EXIT = 1 << 2;
+    public static final int ELEVATOR = 1 << 3;
+    public static final int RESTROOM = 1 << 4;
+    public static final int PUBLIC_TRANSPORT = 1 << 5;
+
+    private static final Map<String, Integer> FIELD_BITS = Map.of(
+            "parking", PARKING,
+            "route", ROUTE,
+            "exit", EXIT,
+            "elevator", ELEVATOR,
+            "restroom", RESTROOM,
+            "publictransport", PUBLIC_TRANSPORT);
+
+    private AccessibilityFeatures() {
+    }
+
+    /**
+     * 필드명 → 비트 (알 수 없는 필드는 0)
+     */
+    public static int bitOf(String field) {
+        return FIELD_BITS.getOrDefault(field, 0);
+    }
+
+    /**
+     * 편의시설 정보(필드 → 설명)에서 값이 있는 필드의 마스크 계산
+     */
+    public static int maskOf(Map<String, String> features) {
+        if (features == null || features.isEmpty()) {
+            return 0;
+        }
+
+        int mask = 0;
+        for (Map.Entry<String, String> entry : features.entrySet()) {
+            String value = entry.getValue();
+            if (value != null && !value.trim().isEmpty() && !value.equals("0")) {
+                mask |= bitOf(entry.getKey());
+            }
+        }
+        return mask;
+    }
+
+    public static int maskOf(String... fields) {
+        int mask = 0;
+        for (String field : fields) {
+            mask |= bitOf(field);
+        }
+        return mask;
+    }
+
+    /**
+     * 그룹명 → 그룹 마스크 표 생성
+     */
+    public static Map<String, Integer> groupMasks(Map<String, String[]> groups) {
+        Map<String, Integer> masks = new HashMap<>();
+        groups.forEach((group, fields) -> masks.put(group, maskOf(fields)));
+        return Map.copyOf(masks);
+    }
+
+    public static boolean hasAny(int mask, int groupMask) {
+        return (mask & groupMask) != 0;
+    }
+}
@@ -0,0 +1,554 @@
+package com.example.act2gether.service;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.http.ResponseEntity;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import com.example.act2gether.service.TourApiResponseReader.Item;
+import com.example.act2gether.service.TourApiPageWalker.PageWalk;
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 무장애여행 편의시설 로컬 저장소
+ * - detailWithTour2에서 파싱한 6개 편의시설(parking, route, exit, elevator, restroom, publictransport)과
+ *   접근성 점수를 contentId 별로 보관하고 스냅샷 파일로 저장
+ * - areaBasedSyncList2 목록의 modifiedtime을 비교하여 바뀐 관광지만 detailWithTour2로 다시 조회 (증분 동기화)
+ * - 전체 동기화가 한 번 끝난 뒤에는 목록에 없는 관광지 = 무장애 정보 없음으로 판단 (API 호출 없음)
+ *   목록에는 있지만 상세 조회가 보류/실패한 관광지는 따로 보관하여 실시간 조회 대상으로 남김
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class BarrierFreeStore {
+
+    static final String[] CORE_FIELDS = { "parking", "route", "exit", "elevator", "restroom", "publictransport" };
+
+    // 액티브 시니어 중요도 기반 가중치
+    static final Map<String, Integer> ACCESSIBILITY_WEIGHTS = Map.of(
+            "parking", 25, // 주차 편의성 (높은 중요도)
+            "route", 25, // 접근로 편의성 (높은 중요도)
+            "exit", 20, // 출입 편의성
+            "elevator", 15, // 층간 이동
+            "restroom", 10, // 화장실 편의성
+            "publictransport", 5 // 대중교통 (차량 이용 많음)
+    );
+
+    @Value("${tourism.api.key}")
+    private String serviceKey;
+
+    @Value("${tourism.api.nobarrier-url}")
+    private String noBarrierUrl;
+
+    @Value("${tourism.barrier-free.enabled:true}")
+    private boolean enabled;
+
+    @Value("${tourism.barrier-free.snapshot-path:data/barrier-free/barrier-free.json}")
+    private String snapshotPath;
+
+    @Value("${tourism.barrier-free.page-size:1000}")
+    private int pageSize;
+
+    @Value("${tourism.barrier-free.checkpoint-dir:data/barrier-free/checkpoint}")
+    private String checkpointDir;
+
+    @Value("${tourism.barrier-free.max-age-hours:24}")
+    private long maxAgeHours;
+
+    // 증분 동기화 상세 조회 - 동시 조회 수 / 전체 시간 제한 / 진행 상황 저장 간격
+    @Value("${tourism.barrier-free.detail-parallelism:4}")
+    private int detailParallelism;
+
+    @Value("${tourism.barrier-free.detail-timeout-ms:3600000}")
+    private long detailTimeoutMs;
+
+    @Value("${tourism.barrier-free.detail-progress-interval:500}")
+    private int detailProgressInterval;
+
+    private final TourApiClient tourApiClient;
+    private final ObjectMapper objectMapper;
+    private final TourApiRateLimiter rateLimiter;
+    private final TourApiGuard tourApiGuard;
+    private final TourApiPageWalker pageWalker;
+    private final LocalSnapshotStore snapshotStore;
+
+    @Autowired
+    @Qualifier("tourSyncExecutor")
+    private Executor tourSyncExecutor;
+
+    @Autowired
+    @Qualifier("tourSyncPageExecutor")
+    private Executor tourSyncPageExecutor;
+
+    private final Map<String, BarrierFreeRecord> records = new ConcurrentHashMap<>();
+    private final AtomicBoolean syncing = new AtomicBoolean(false);
+    private volatile long syncedAt = 0L;
+
+    // 목록에는 있지만 상세 조회가 보류/실패하여 편의시설 정보가 없는 관광지
+    private final Set<String> unresolvedIds = ConcurrentHashMap.newKeySet();
+
+    /**
+     * 관광지별 편의시설 정보
+     *
+     * @param features           유효한 편의시설 필드 → 설명 (없으면 빈 Map)
+     * @param accessibilityScore 가중치 기반 접근성 점수 (0-100)
+     * @param modifiedTime       areaBasedSyncList2의 수정시각 (실시간 조회로 채운 경우 빈 값)
+     */
+    // 이전 스냅샷에 저장된 featureMask 등 지금은 쓰지 않는 필드는 무시
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    public record BarrierFreeRecord(String contentId, Map<String, String> features, int accessibilityScore,
+            String modifiedTime) {
+
+        public boolean hasInfo() {
+            return features != null && !features.isEmpty();
+        }
+
+        /**
+         * 편의시설 비트마스크 (features에서 계산, 스냅샷에는 저장하지 않음, AccessibilityFeatures 참고)
+         */
+        @JsonIgnore
+        public int featureMask() {
+            return AccessibilityFeatures.maskOf(features);
+        }
+    }
+
+    /**
+     * 스냅샷 파일 구조 (마지막 전체 동기화 시각 + 관광지별 편의시설 + 상세 조회가 남은 관광지)
+     */
+    public record BarrierFreeSnapshot(long syncedAt, List<BarrierFreeRecord> records, List<String> unresolvedIds) {
+    }
+
+    // ========================================
+    // 시작 시 로드 및 주기 동기화
+    // ========================================
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadOnStartup() {
+        if (!enabled) {
+            log.info("무장애 편의시설 저장소 비활성화 - 실시간 API 사용");
+            return;
+        }
+
+        snapshotStore.read(snapshotPath, BarrierFreeSnapshot.class).ifPresent(snapshot -> {
+            if (snapshot.records() != null) {
+                snapshot.records().forEach(record -> records.put(record.contentId(), record));
+            }
+            if (snapshot.unresolvedIds() != null) {
+                unresolvedIds.addAll(snapshot.unresolvedIds());
+            }
+            syncedAt = snapshot.syncedAt();
+            log.info("📦 무장애 편의시설 스냅샷 로드: {}개 (동기화 {})", records.size(), syncedAtText());
+        });
+
+        if (isStale() || pageWalker.hasCheckpoint(checkpointDir)) {
+            tourSyncExecutor.execute(this::syncDelta);
+        }
+    }
+
+    @Scheduled(cron = "${tourism.barrier-free.sync-cron:0 0 5 * * *}")
+    public void scheduledSync() {
+        if (enabled) {
+            tourSyncExecutor.execute(this::syncDelta);
+        }
+    }
+
+    /**
+     * 증분 동기화
+     * 1) areaBasedSyncList2 전체 목록(contentid + modifiedtime + showflag) 조회
+     * 2) 저장된 modifiedtime과 다르거나 새로 생긴 관광지만 detailWithTour2 호출
+     * 3) 목록에서 빠졌거나 비표출(showflag=0)된 관광지는 삭제
+     */
+    public void syncDelta() {
+        if (!syncing.compareAndSet(false, true)) {
+            log.info("무장애 편의시설 동기화가 이미 진행 중");
+            return;
+        }
+
+        try {
+            long startedAt = System.currentTimeMillis();
+            Map<String, String> listed = fetchSyncList();
+            if (listed == null) {
+                log.warn("❌ 무장애 목록 조회 실패 - 기존 저장소 유지");
+                return;
+            }
+
+            List<String> changedIds = listed.entrySet().stream()
+                    .filter(entry -> {
+                        BarrierFreeRecord existing = records.get(entry.getKey());
+                        return existing == null || !entry.getValue().equals(existing.modifiedTime());
+                    })
+                    .map(Map.Entry::getKey)
+                    .toList();
+            DetailSync detailSync = fetchChangedDetails(changedIds, listed);
+
+            Set<String> removedIds = new HashSet<>(records.keySet());
+            removedIds.removeAll(listed.keySet());
+            removedIds.forEach(records::remove);
+
+            // 목록에 있는데 저장된 정보가 없는 관광지 (보류/실패) → 실시간 조회 대상
+            Set<String> unresolved = new HashSet<>(listed.keySet());
+            unresolved.removeAll(records.keySet());
+            unresolvedIds.retainAll(unresolved);
+            unresolvedIds.addAll(unresolved);
+
+            syncedAt = System.currentTimeMillis();
+            writeSnapshot(syncedAt);
+
+            log.info("✅ 무장애 편의시설 동기화 완료: 목록 {}개, 갱신 {}개, 삭제 {}개, 보류 {}개, {}ms",
+                    listed.size(), detailSync.updated(), removedIds.size(), detailSync.deferred(),
+                    System.currentTimeMillis() - startedAt);
+
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (Exception e) {
+            log.error("❌ 무장애 편의시설 동기화 실패: {}", e.getMessage(), e);
+        } finally {
+            syncing.set(false);
+        }
+    }
+
+    private record DetailSync(int updated, int deferred) {
+    }
+
+    /**
+     * 바뀐 관광지 detailWithTour2 조회 (detail-parallelism개 작업으로 나누어 동시에 조회)
+     * - 호출 간격은 전역 속도 제한기가 관리하고, 일일 호출 한도 예비분에 들어서면 남은 조회는 다음 동기화로 미룸
+     * - detail-progress-interval건마다 진행 상황을 스냅샷에 저장 (동기화 시각은 그대로 두어 재시작 시 이어서 조회)
+     * - detail-timeout-ms 안에 끝나지 않은 조회도 다음 동기화로 미룸
+     */
+    private DetailSync fetchChangedDetails(List<String> changedIds, Map<String, String> listed)
+            throws InterruptedException {
+        Queue<String> pending = new ConcurrentLinkedQueue<>(changedIds);
+        AtomicInteger updated = new AtomicInteger();
+        AtomicBoolean stopped = new AtomicBoolean(false);
+        long previousSyncedAt = syncedAt;
+
+        List<CompletableFuture<Void>> workers = new ArrayList<>();
+        for (int i = 0; i < Math.min(Math.max(1, detailParallelism), changedIds.size()); i++) {
+            workers.add(CompletableFuture.runAsync(() -> {
+                String contentId;
+                while (!stopped.get() && (contentId = pending.poll()) != null) {
+                    if (!tourApiGuard.allowBackground(noBarrierUrl + "/detailWithTour2")) {
+                        stopped.set(true);
+                        pending.add(contentId);
+                        return;
+                    }
+                    try {
+                        Optional<Map<String, String>> features = fetchFeatures(contentId,
+                                TimeUnit.MINUTES.toNanos(1));
+                        if (features.isPresent()) {
+                            records.put(contentId, toRecord(contentId, features.get(), listed.get(contentId)));
+                            if (updated.incrementAndGet() % detailProgressInterval == 0) {
+                                writeSnapshot(previousSyncedAt);
+                            }
+                        }
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                        stopped.set(true);
+                        return;
+                    }
+                }
+            }, tourSyncPageExecutor));
+        }
+
+        try {
+            CompletableFuture.allOf(workers.toArray(new CompletableFuture[0]))
+                    .get(detailTimeoutMs, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            log.warn("⏱️ 무장애 상세 조회 시간 초과 ({}ms) - 남은 관광지는 다음 동기화로 미룸", detailTimeoutMs);
+        } catch (ExecutionException e) {
+            log.warn("무장애 상세 조회 오류: {}", e.getMessage());
+        } finally {
+            stopped.set(true);
+        }
+
+        return new DetailSync(updated.get(), pending.size());
+    }
+
+    /**
+     * areaBasedSyncList2 전체 페이지 → contentId별 modifiedtime (비표출 항목 제외)
+     * 페이지는 병렬로 수집하고, 중간에 실패하면 null (일부 목록으로 삭제 판단을 하지 않도록)
+     */
+    private Map<String, String> fetchSyncList() throws InterruptedException {
+        String url = noBarrierUrl + "/areaBasedSyncList2" +
+                "?serviceKey=" + serviceKey +
+                "&MobileOS=ETC&MobileApp=Act2gether&_type=json" +
+                "&contentTypeId=12";
+
+        PageWalk walk = pageWalker.walk("무장애 관광지 목록", url, pageSize, checkpointDir);
+        if (walk == null) {
+            return null;
+        }
+
+        Map<String, String> listed = new HashMap<>();
+        for (Item item : walk.items()) {
+            if (!item.contentid().isEmpty() && !"0".equals(item.showflag())) {
+                listed.put(item.contentid(), item.modifiedtime());
+            }
+        }
+        return listed;
+    }
+
+    // ========================================
+    // 조회
+    // ========================================
+
+    /**
+     * 전체 동기화가 한 번 이상 끝나 목록에 없는 관광지를 "정보 없음"으로 볼 수 있는 상태
+     */
+    public boolean isReady() {
+        return enabled && syncedAt > 0;
+    }
+
+    /**
+     * 저장소에 없는 관광지를 실시간으로 조회해야 하는지
+     * (동기화 전이거나, 목록에는 있지만 상세 조회가 보류/실패한 관광지)
+     */
+    public boolean needsLiveLookup(String contentId) {
+        return !isReady() || unresolvedIds.contains(contentId);
+    }
+
+    /**
+     * contentId 일괄 조회 (저장소에 있는 것만 반환)
+     */
+    public Map<String, BarrierFreeRecord> findAll(List<String> contentIds) {
+        Map<String, BarrierFreeRecord> found = new HashMap<>();
+        for (String contentId : contentIds) {
+            BarrierFreeRecord record = records.get(contentId);
+            if (record != null) {
+                found.put(contentId, record);
+            }
+        }
+        return found;
+    }
+
+    /**
+     * 저장소에 없는 관광지 실시간 조회 후 저장 (동기화 전 fallback)
+     * modifiedTime을 비워두어 다음 증분 동기화에서 다시 확인
+     */
+    public BarrierFreeRecord fetchAndStore(String contentId, long timeoutNanos) throws InterruptedException {
+        Optional<Map<String, String>> features = fetchFeatures(contentId, timeoutNanos);
+        BarrierFreeRecord record = toRecord(contentId, features.orElse(Map.of()), "");
+        if (features.isPresent() && enabled) {
+            records.put(contentId, record);
+            unresolvedIds.remove(contentId);
+        }
+        return record;
+    }
+
+    /**
+     * 마지막 동기화 시각 (동기화 전이면 0)
+     */
+    public long getSyncedAt() {
+        return syncedAt;
+    }
+
+    public Map<String, Object> getStatus() {
+        Map<String, Object> status = new LinkedHashMap<>();
+        status.put("enabled", enabled);
+        status.put("ready", isReady());
+        status.put("syncing", syncing.get());
+        status.put("recordCount", records.size());
+        status.put("unresolvedCount", unresolvedIds.size());
+        status.put("syncedAt", syncedAtText());
+        return status;
+    }
+
+    private boolean isStale() {
+        if (syncedAt == 0) {
+            return true;
+        }
+        return System.currentTimeMillis() - syncedAt > Duration.ofHours(maxAgeHours).toMillis();
+    }
+
+    private String syncedAtText() {
+        return syncedAt > 0 ? Instant.ofEpochMilli(syncedAt).toString() : "";
+    }
+
+    private void writeSnapshot(long snapshotSyncedAt) {
+        snapshotStore.write(snapshotPath, new BarrierFreeSnapshot(snapshotSyncedAt,
+                new ArrayList<>(records.values()), new ArrayList<>(unresolvedIds)));
+    }
+
+    private BarrierFreeRecord toRecord(String contentId, Map<String, String> features, String modifiedTime) {
+        return new BarrierFreeRecord(contentId, features, calculateAccessibilityScore(features), modifiedTime);
+    }
+
+    // ========================================
+    // detailWithTour2 조회 / 파싱
+    // ========================================
+
+    /**
+     * 🔍 무장애여행 API 호출하여 편의시설 정보 조회
+     *
+     * @return 편의시설 정보 Map (정보 없음은 빈 Map), 호출 실패 시 empty
+     */
+    private Optional<Map<String, String>> fetchFeatures(String contentId, long timeoutNanos)
+            throws InterruptedException {
+        if (!rateLimiter.acquire(System.nanoTime() + timeoutNanos)) {
+            return Optional.empty();
+        }
+
+        String url = noBarrierUrl + "/detailWithTour2" +
+                "?serviceKey=" + serviceKey +
+                "&contentId=" + contentId +
+                "&MobileOS=ETC&MobileApp=Act2gether&_type=json";
+
+        try {
+            ResponseEntity<String> response = tourApiClient.getForEntity(url);
+            JsonNode root = objectMapper.readTree(response.getBody());
+
+            String code = root.path("response").path("header").path("resultCode").asText();
+            if (!"0000".equals(code)) {
+                if ("03".equals(code)) {
+                    log.debug("📋 무장애 정보 없음: contentId={}", contentId);
+                    return Optional.of(Map.of());
+                }
+                log.error("❌ detailWithTour2 API 오류: contentId={}, code={}, msg={}",
+                        contentId, code, getErrorMessage(code));
+                return Optional.empty();
+            }
+
+            JsonNode items = root.path("response").path("body").path("items").path("item");
+            JsonNode item;
+            if (items.isArray() && items.size() > 0) {
+                item = items.get(0);
+            } else if (!items.isMissingNode() && items.isObject()) {
+                item = items;
+            } else {
+                return Optional.of(Map.of());
+            }
+
+            Map<String, String> barrierFreeInfo = new HashMap<>();
+            for (String field : CORE_FIELDS) {
+                String value = item.path(field).asText("");
+                // 빈 값이 아니고 의미있는 정보가 있는 경우만 추가
+                if (!value.trim().isEmpty() && !value.equals("0") && !value.equals("null")
+                        && containsValidBarrierFreeInfo(value)) {
+                    barrierFreeInfo.put(field, value);
+                }
+            }
+
+            log.debug("📊 detailWithTour2 완료: contentId={}, 편의시설수={}", contentId, barrierFreeInfo.size());
+            return Optional.of(barrierFreeInfo);
+
+        } catch (Exception e) {
+            log.warn("💥 detailWithTour2 호출 실패: contentId={}, 오류={}", contentId, e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * 🔍 유효한 편의시설 정보인지 검증
+     */
+    private boolean containsValidBarrierFreeInfo(String value) {
+        if (value == null || value.trim().isEmpty()) {
+            return false;
+        }
+
+        String lowerValue = value.toLowerCase().trim();
+
+        // 의미없는 기본값들 제외
+        if (lowerValue.equals("없음") || lowerValue.equals("no") ||
+                lowerValue.equals("해당없음") || lowerValue.equals("n/a") ||
+                lowerValue.equals("-") || lowerValue.equals(".") ||
+                lowerValue.equals("정보없음") || lowerValue.equals("미확인")) {
+            return false;
+        }
+
+        // 긍정적인 편의시설 정보 키워드 포함 확인
+        String[] positiveKeywords = {
+                "가능", "있음", "설치", "완비", "지원", "제공",
+                "대여", "운영", "이용가능", "편의", "접근가능",
+                "휠체어", "엘리베이터", "화장실", "주차"
+        };
+
+        for (String keyword : positiveKeywords) {
+            if (value.contains(keyword)) {
+                return true;
+            }
+        }
+
+        // 최소 길이 확인 (너무 짧은 정보는 제외)
+        return value.trim().length() >= 2;
+    }
+
+    /**
+     * 📊 접근성 점수 계산 (액티브 시니어 가중치 기반)
+     *
+     * @param barrierFreeInfo 편의시설 정보
+     * @return 접근성 점수 (0-100)
+     */
+    private int calculateAccessibilityScore(Map<String, String> barrierFreeInfo) {
+        if (barrierFreeInfo.isEmpty()) {
+            return 0;
+        }
+
+        int score = 0;
+
+        for (Map.Entry<String, String> entry : barrierFreeInfo.entrySet()) {
+            String field = entry.getKey();
+            String info = entry.getValue();
+
+            Integer weight = ACCESSIBILITY_WEIGHTS.get(field);
+            if (weight != null && !info.trim().isEmpty()) {
+                // 정보의 질에 따라 점수 차등 부여
+                if (info.contains("가능") || info.contains("있음") || info.contains("대여") || info.contains("설치")) {
+                    score += weight; // 완전한 편의시설
+                } else if (info.contains("일부") || info.contains("제한적")) {
+                    score += weight / 2; // 부분적 편의시설
+                } else {
+                    score += weight / 4; // 정보만 있어도 기본 점수
+                }
+            }
+        }
+
+        return Math.min(score, 100); // 최대 100점
+    }
+
+    /**
+     * 🚨 API 오류 코드별 메시지 반환
+     */
+    private String getErrorMessage(String code) {
+        Map<String, String> errorMessages = Map.of(
+                "03", "데이터없음에러(NODATA_ERROR)",
+                "02", "데이터베이스에러(DB_ERROR)",
+                "05", "서비스연결실패에러(SERVICETIMEOUT_ERROR)",
+                "10", "잘못된요청파라메터에러(INVALID_REQUEST_PARAMETER_ERROR)",
+                "11", "필수요청파라메터가없음(NO_MANDATORY_REQUEST_PARAMETERS_ERROR)",
+                "21", "일시적으로서비스를사용할수없습니다(TEMPORARILY_DISABLE_THE_SERVICEKEY_ERROR)",
+                "33", "서명되지않은호출(UNSIGNED_CALL_ERROR)");
+        return errorMessages.getOrDefault(code, "알 수 없는 오류");
+    }
+}
@@ -0,0 +1,84 @@
+package com.example.act2gether.service;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.Optional;
+
+import org.springframework.stereotype.Component;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 로컬 JSON 스냅샷 파일 저장소
+ * 관광공사 API에서 동기화한 데이터를 재시작 후에도 재사용하기 위해 디스크에 보관
+ * - 임시 파일에 쓴 뒤 교체하여 쓰는 도중 종료되어도 기존 스냅샷 유지
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class LocalSnapshotStore {
+
+    private final ObjectMapper objectMapper;
+
+    public <T> Optional<T> read(String location, Class<T> type) {
+        Path path = Paths.get(location);
+        if (!Files.exists(path)) {
+            return Optional.empty();
+        }
+
+        try {
+            return Optional.ofNullable(objectMapper.readValue(path.toFile(), type));
+        } catch (IOException e) {
+            log.warn("스냅샷 읽기 실패: {} - {}", location, e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    public <T> Optional<T> read(String location, TypeReference<T> type) {
+        Path path = Paths.get(location);
+        if (!Files.exists(path)) {
+            return Optional.empty();
+        }
+
+        try {
+            return Optional.ofNullable(objectMapper.readValue(path.toFile(), type));
+        } catch (IOException e) {
+            log.warn("스냅샷 읽기 실패: {} - {}", location, e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    public boolean write(String location, Object value) {
+        Path path = Paths.get(location);
+        try {
+            Path parent = path.toAbsolutePath().getParent();
+            if (parent != null) {
+                Files.createDirectories(parent);
+            }
+
+            Path tempFile = Files.createTempFile(parent, path.getFileName().toString(), ".tmp");
+            objectMapper.writeValue(tempFile.toFile(), value);
+            Files.move(tempFile, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            return true;
+
+        } catch (IOException e) {
+            log.warn("스냅샷 저장 실패: {} - {}", location, e.getMessage());
+            return false;
+        }
+    }
+
+    public void delete(String location) {
+        try {
+            Files.deleteIfExists(Paths.get(location));
+        } catch (IOException e) {
+            log.warn("스냅샷 삭제 실패: {} - {}", location, e.getMessage());
+        }
+    }
+}
@@ -29,6 +29,7 @@ public class LoginService {
     private final UserRepository userRepository;
     private final JavaMailSender mailSender;
     private final PasswordEncoder passwordEncoder;
+    private final UserRecommendationCache recommendationCache;
 
     // 수정
     public String createUser(UserDTO userDTO) {
@@ -89,6 +90,8 @@ public class LoginService {
             UserEntity userEntity = userRepository.findByEmail(email).orElse(null);
             if(userEntity != null){
                 userEntity.updateInterestsByEmail(interestsJson, updatedAt);
+                // 바뀐 관심사 기준 추천을 미리 생성 (이전 관심사 결과는 해시가 달라 더 이상 조회되지 않음)
+                recommendationCache.onProfileUpdated(userEntity.getUserId(), interestsJson);
             }
             // userRepository.updateInterestsByEmail(email, interestsJson, updatedAt);
             
@@ -0,0 +1,378 @@
+package com.example.act2gether.service;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.ResponseEntity;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.web.client.RestTemplate;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 지역/시군구 코드 디렉터리 (areaCode2 로컬 미러)
+ * - 광역 지역 17곳과 지역별 시군구 목록을 주기적으로 동기화하여 로컬 스냅샷 파일로 보관
+ * - /api/tours/areas, /api/tours/sigungu 및 투어 제목 생성의 시군구명 조회를 메모리에서 응답
+ * - 디렉터리가 아직 준비되지 않았을 때만 목록 조회를 실시간 API로 대체 (시군구명 조회는 API 호출 없음)
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class RegionDirectoryService {
+
+    private static final String SIGUNGU_ERROR_MESSAGE = "시군구 정보를 불러오는데 실패했습니다";
+
+    @Value("${tourism.api.key}")
+    private String serviceKey;
+
+    @Value("${tourism.api.base-url}")
+    private String baseUrl;
+
+    @Value("${tourism.regions.enabled:true}")
+    private boolean enabled;
+
+    @Value("${tourism.regions.snapshot-path:data/region/regions.json}")
+    private String snapshotPath;
+
+    @Value("${tourism.regions.max-age-hours:168}")
+    private long maxAgeHours;
+
+    private final RestTemplate restTemplate;
+    private final ObjectMapper objectMapper;
+    private final TourApiRateLimiter rateLimiter;
+    private final TourApiGuard tourApiGuard;
+    private final LocalSnapshotStore snapshotStore;
+
+    @Autowired
+    @Qualifier("tourSyncExecutor")
+    private Executor tourSyncExecutor;
+
+    private final AtomicBoolean syncing = new AtomicBoolean(false);
+    private volatile Directory directory = Directory.EMPTY;
+
+    public record Sigungu(String code, String name) {
+    }
+
+    public record Area(String code, String name, List<Sigungu> sigungu) {
+    }
+
+    /**
+     * 스냅샷 파일 구조 (동기화 시각 + 지역 목록)
+     */
+    public record RegionSnapshot(long syncedAt, List<Area> areas) {
+    }
+
+    // ========================================
+    // 시작 시 로드 및 주기 동기화
+    // ========================================
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadOnStartup() {
+        if (!enabled) {
+            log.info("지역 디렉터리 비활성화 - 실시간 API 사용");
+            return;
+        }
+
+        snapshotStore.read(snapshotPath, RegionSnapshot.class).ifPresent(snapshot -> {
+            directory = Directory.build(snapshot.areas(), snapshot.syncedAt(), objectMapper);
+            log.info("📦 지역 디렉터리 스냅샷 로드: 지역 {}곳, 시군구 {}곳 (동기화 {})",
+                    directory.areas.size(), directory.sigunguCount(), directory.syncedAtText());
+        });
+
+        if (isStale()) {
+            tourSyncExecutor.execute(this::syncRegions);
+        }
+    }
+
+    @Scheduled(cron = "${tourism.regions.sync-cron:0 0 3 * * MON}")
+    public void scheduledSync() {
+        if (enabled) {
+            tourSyncExecutor.execute(this::syncRegions);
+        }
+    }
+
+    /**
+     * 지역 목록 + 지역별 시군구 목록 동기화
+     * 한 지역이라도 실패하면 기존 디렉터리를 그대로 유지
+     */
+    public void syncRegions() {
+        if (!syncing.compareAndSet(false, true)) {
+            log.info("지역 디렉터리 동기화가 이미 진행 중");
+            return;
+        }
+
+        try {
+            long startedAt = System.currentTimeMillis();
+            List<Sigungu> areaCodes = fetchCodes(null);
+            if (areaCodes == null || areaCodes.isEmpty()) {
+                log.warn("❌ 지역 목록 조회 실패 - 기존 디렉터리 유지");
+                return;
+            }
+
+            List<Area> areas = new ArrayList<>();
+            for (Sigungu area : areaCodes) {
+                List<Sigungu> sigungu = fetchCodes(area.code());
+                if (sigungu == null) {
+                    log.warn("❌ 시군구 목록 조회 실패 ({}) - 기존 디렉터리 유지", area.name());
+                    return;
+                }
+                areas.add(new Area(area.code(), area.name(), sigungu));
+            }
+
+            Directory newDirectory = Directory.build(areas, System.currentTimeMillis(), objectMapper);
+            directory = newDirectory;
+            snapshotStore.write(snapshotPath, new RegionSnapshot(newDirectory.syncedAt, newDirectory.areas));
+
+            log.info("✅ 지역 디렉터리 동기화 완료: 지역 {}곳, 시군구 {}곳, {}ms",
+                    newDirectory.areas.size(), newDirectory.sigunguCount(), System.currentTimeMillis() - startedAt);
+
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (Exception e) {
+            log.error("❌ 지역 디렉터리 동기화 실패: {}", e.getMessage(), e);
+        } finally {
+            syncing.set(false);
+        }
+    }
+
+    /**
+     * areaCode2 조회 (areaCode가 null이면 광역 지역 목록, 있으면 해당 지역의 시군구 목록)
+     *
+     * @return 코드 목록, 조회 실패 시 null
+     */
+    private List<Sigungu> fetchCodes(String areaCode) throws Exception {
+        if (!rateLimiter.acquire(System.nanoTime() + TimeUnit.MINUTES.toNanos(1))) {
+            return null;
+        }
+
+        JsonNode items = requestCodes(areaCode);
+        if (items == null) {
+            return null;
+        }
+
+        List<Sigungu> codes = new ArrayList<>();
+        for (JsonNode item : items) {
+            String code = item.path("code").asText("");
+            if (!code.isEmpty()) {
+                codes.add(new Sigungu(code, item.path("name").asText("")));
+            }
+        }
+        return codes;
+    }
+
+    /**
+     * areaCode2 호출 후 items.item 배열 반환 (한 건이면 배열로 감쌈, 결과 코드 오류면 null)
+     */
+    private JsonNode requestCodes(String areaCode) throws Exception {
+        String finalUrl = baseUrl + "/areaCode2?serviceKey=" + serviceKey +
+                (areaCode != null ? "&areaCode=" + areaCode : "") +
+                "&numOfRows=100&pageNo=1&MobileOS=ETC&MobileApp=Act2gether&_type=json";
+
+        HttpHeaders headers = new HttpHeaders();
+        headers.set("Accept", "application/json");
+        headers.set("User-Agent", "Mozilla/5.0 (Windows NT 10.0; Win64; x64) AppleWebKit/537.36");
+
+        ResponseEntity<String> response = restTemplate.exchange(
+                finalUrl, HttpMethod.GET, new HttpEntity<>(headers), String.class);
+
+        JsonNode jsonNode = objectMapper.readTree(response.getBody());
+        JsonNode header = jsonNode.path("response").path("header");
+        tourApiGuard.recordResultCode(finalUrl, header.path("resultCode").asText());
+        if (!"0000".equals(header.path("resultCode").asText())) {
+            log.warn("areaCode2 조회 실패: areaCode={}, msg={}", areaCode, header.path("resultMsg").asText());
+            return null;
+        }
+
+        JsonNode item = jsonNode.path("response").path("body").path("items").path("item");
+        if (item.isArray()) {
+            return item;
+        }
+        ArrayNode items = objectMapper.createArrayNode();
+        if (item.isObject()) {
+            items.add(item);
+        }
+        return items;
+    }
+
+    // ========================================
+    // 조회
+    // ========================================
+
+    public boolean isReady() {
+        return enabled && !directory.areas.isEmpty();
+    }
+
+    /**
+     * 지역 코드 목록 (API 응답과 같은 rnum/code/name 형태)
+     * 반환 노드는 디렉터리와 공유되므로 수정하지 말 것
+     */
+    public Map<String, Object> getAreaCodes() {
+        Directory current = directory;
+        if (!current.areas.isEmpty()) {
+            return Map.of("success", true, "data", current.areaJson);
+        }
+
+        // 디렉터리 준비 전 - 실시간 API
+        try {
+            JsonNode items = requestCodes(null);
+            if (items == null) {
+                return Map.of("success", false, "message", "API 오류: 지역 코드 조회 실패");
+            }
+            return Map.of("success", true, "data", items);
+        } catch (Exception e) {
+            log.error("지역 코드 조회 중 예외 발생: {}", e.getMessage(), e);
+            return Map.of("success", false, "message", "네트워크 오류: " + e.getMessage());
+        }
+    }
+
+    /**
+     * 지역별 시군구 코드 목록 (API 응답과 같은 rnum/code/name 형태)
+     * 반환 노드는 디렉터리와 공유되므로 수정하지 말 것
+     */
+    public Map<String, Object> getSigunguCodes(String areaCode) {
+        Directory current = directory;
+        if (!current.areas.isEmpty()) {
+            ArrayNode sigungu = areaCode != null ? current.sigunguJson.get(areaCode.trim()) : null;
+            return sigungu != null
+                    ? Map.of("success", true, "data", sigungu)
+                    : Map.of("success", false, "message", SIGUNGU_ERROR_MESSAGE);
+        }
+
+        // 디렉터리 준비 전 - 실시간 API
+        try {
+            JsonNode items = requestCodes(areaCode);
+            return items != null
+                    ? Map.of("success", true, "data", items)
+                    : Map.of("success", false, "message", SIGUNGU_ERROR_MESSAGE);
+        } catch (Exception e) {
+            log.error("시군구 코드 조회 실패: {}", e.getMessage(), e);
+            return Map.of("success", false, "message", SIGUNGU_ERROR_MESSAGE);
+        }
+    }
+
+    /**
+     * 시군구명 조회 (메모리에서만, 디렉터리에 없으면 empty)
+     */
+    public Optional<String> findSigunguName(String areaCode, String sigunguCode) {
+        if (areaCode == null || sigunguCode == null) {
+            return Optional.empty();
+        }
+        Map<String, String> names = directory.sigunguNames.get(areaCode.trim());
+        return names != null ? Optional.ofNullable(names.get(sigunguCode.trim())) : Optional.empty();
+    }
+
+    public Map<String, Object> getStatus() {
+        Directory current = directory;
+        Map<String, Object> status = new LinkedHashMap<>();
+        status.put("enabled", enabled);
+        status.put("ready", isReady());
+        status.put("syncing", syncing.get());
+        status.put("areaCount", current.areas.size());
+        status.put("sigunguCount", current.sigunguCount());
+        status.put("syncedAt", current.syncedAtText());
+        return status;
+    }
+
+    private boolean isStale() {
+        Directory current = directory;
+        if (current.areas.isEmpty()) {
+            return true;
+        }
+        long ageMillis = System.currentTimeMillis() - current.syncedAt;
+        return ageMillis > Duration.ofHours(maxAgeHours).toMillis();
+    }
+
+    // ========================================
+    // 디렉터리
+    // ========================================
+
+    private static final class Directory {
+
+        static final Directory EMPTY = new Directory(Collections.emptyList(), null, Collections.emptyMap(),
+                Collections.emptyMap(), 0L);
+
+        final List<Area> areas;
+        final ArrayNode areaJson;
+        final Map<String, ArrayNode> sigunguJson;
+        final Map<String, Map<String, String>> sigunguNames;
+        final long syncedAt;
+
+        private Directory(List<Area> areas, ArrayNode areaJson, Map<String, ArrayNode> sigunguJson,
+                Map<String, Map<String, String>> sigunguNames, long syncedAt) {
+            this.areas = areas;
+            this.areaJson = areaJson;
+            this.sigunguJson = sigunguJson;
+            this.sigunguNames = sigunguNames;
+            this.syncedAt = syncedAt;
+        }
+
+        static Directory build(List<Area> areas, long syncedAt, ObjectMapper objectMapper) {
+            if (areas == null || areas.isEmpty()) {
+                return EMPTY;
+            }
+
+            ArrayNode areaJson = objectMapper.createArrayNode();
+            Map<String, ArrayNode> sigunguJson = new HashMap<>();
+            Map<String, Map<String, String>> sigunguNames = new HashMap<>();
+
+            for (int i = 0; i < areas.size(); i++) {
+                Area area = areas.get(i);
+                addCode(areaJson, i + 1, area.code(), area.name());
+
+                List<Sigungu> sigunguList = area.sigungu() != null ? area.sigungu() : List.of();
+                ArrayNode sigunguArray = objectMapper.createArrayNode();
+                Map<String, String> names = new HashMap<>();
+                for (int j = 0; j < sigunguList.size(); j++) {
+                    Sigungu sigungu = sigunguList.get(j);
+                    addCode(sigunguArray, j + 1, sigungu.code(), sigungu.name());
+                    names.put(sigungu.code(), sigungu.name());
+                }
+                sigunguJson.put(area.code(), sigunguArray);
+                sigunguNames.put(area.code(), Map.copyOf(names));
+            }
+
+            return new Directory(List.copyOf(areas), areaJson, Map.copyOf(sigunguJson), Map.copyOf(sigunguNames),
+                    syncedAt);
+        }
+
+        private static void addCode(ArrayNode array, int rnum, String code, String name) {
+            ObjectNode node = array.addObject();
+            node.put("rnum", rnum);
+            node.put("code", code);
+            node.put("name", name);
+        }
+
+        int sigunguCount() {
+            return sigunguNames.values().stream().mapToInt(Map::size).sum();
+        }
+
+        String syncedAtText() {
+            return syncedAt > 0 ? Instant.ofEpochMilli(syncedAt).toString() : "";
+        }
+    }
+}
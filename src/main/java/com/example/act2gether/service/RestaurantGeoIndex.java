@@ -0,0 +1,351 @@
+package com.example.act2gether.service;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import com.example.act2gether.service.TourApiPageWalker.PageWalk;
+import com.example.act2gether.service.TourApiResponseReader.Item;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 음식점(contentTypeId=39) 좌표 격자 색인
+ * - areaBasedList2 음식점 전체 페이지를 주기적으로 병렬 수집(TourApiPageWalker)하여 로컬 스냅샷 파일로 보관
+ * - 위경도를 일정 크기 격자로 나눈 색인을 메모리에 구성
+ * - 관광지 주변 맛집 검색(locationBasedList2 반경 검색)을 API 호출 없이 메모리에서 처리
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class RestaurantGeoIndex {
+
+    // 맛집 카드 표시에 사용하는 필드만 보관
+    private static final List<String> RESTAURANT_FIELDS = List.of(
+            "contentid", "title", "addr1", "tel", "firstimage", "cat3", "mapx", "mapy", "modifiedtime");
+
+    // 격자 한 칸 크기 (도 단위, 약 2km)
+    private static final double CELL_DEGREES = 0.02;
+
+    private static final double METERS_PER_DEGREE_LAT = 111_320.0;
+
+    @Value("${tourism.api.key}")
+    private String serviceKey;
+
+    @Value("${tourism.api.base-url}")
+    private String baseUrl;
+
+    @Value("${tourism.restaurants.enabled:true}")
+    private boolean enabled;
+
+    @Value("${tourism.restaurants.snapshot-path:data/catalog/restaurants.json}")
+    private String snapshotPath;
+
+    @Value("${tourism.restaurants.page-size:1000}")
+    private int pageSize;
+
+    @Value("${tourism.restaurants.checkpoint-dir:data/catalog/checkpoint/restaurant}")
+    private String checkpointDir;
+
+    @Value("${tourism.restaurants.max-age-hours:72}")
+    private long maxAgeHours;
+
+    private final TourApiPageWalker pageWalker;
+    private final ObjectMapper objectMapper;
+    private final LocalSnapshotStore snapshotStore;
+
+    @Autowired
+    @Qualifier("tourSyncExecutor")
+    private Executor tourSyncExecutor;
+
+    private final AtomicBoolean syncing = new AtomicBoolean(false);
+    private volatile GridIndex index = GridIndex.EMPTY;
+
+    /**
+     * 스냅샷 파일 구조 (동기화 시각 + 음식점 목록)
+     */
+    public record RestaurantSnapshot(long syncedAt, List<JsonNode> items) {
+    }
+
+    // ========================================
+    // 시작 시 로드 및 주기 동기화
+    // ========================================
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadOnStartup() {
+        if (!enabled) {
+            log.info("음식점 좌표 색인 비활성화 - 실시간 API 사용");
+            return;
+        }
+
+        snapshotStore.read(snapshotPath, RestaurantSnapshot.class).ifPresent(snapshot -> {
+            index = GridIndex.build(snapshot.items(), snapshot.syncedAt());
+            log.info("📦 음식점 스냅샷 로드: {}개 (동기화 {})", index.size(), index.syncedAtText());
+        });
+
+        if (isStale() || pageWalker.hasCheckpoint(checkpointDir)) {
+            tourSyncExecutor.execute(this::syncRestaurants);
+        }
+    }
+
+    @Scheduled(cron = "${tourism.restaurants.sync-cron:0 0 4 * * SUN}")
+    public void scheduledSync() {
+        if (enabled) {
+            tourSyncExecutor.execute(this::syncRestaurants);
+        }
+    }
+
+    /**
+     * 음식점 전체 페이지 동기화 (contentid 중복 제거)
+     * 실패하면 기존 색인을 그대로 유지 (받은 페이지는 체크포인트에 남음)
+     */
+    public void syncRestaurants() {
+        if (!syncing.compareAndSet(false, true)) {
+            log.info("음식점 동기화가 이미 진행 중");
+            return;
+        }
+
+        try {
+            long startedAt = System.currentTimeMillis();
+            String url = baseUrl + "/areaBasedList2" +
+                    "?serviceKey=" + serviceKey +
+                    "&MobileOS=ETC&MobileApp=Act2gether&_type=json" +
+                    "&contentTypeId=39&cat1=A05&cat2=A0502";
+
+            PageWalk walk = pageWalker.walk("음식점", url, pageSize, checkpointDir);
+            if (walk == null) {
+                log.warn("❌ 음식점 동기화 중단 - 기존 색인 유지");
+                return;
+            }
+
+            int totalCount = walk.totalCount();
+            Set<String> seen = new HashSet<>();
+            List<JsonNode> items = new ArrayList<>();
+            for (Item item : walk.items()) {
+                if (seen.add(item.contentid())) {
+                    items.add(item.toJson(objectMapper, RESTAURANT_FIELDS));
+                }
+            }
+
+            if (items.isEmpty()) {
+                log.warn("⚠️ 음식점 동기화 결과 없음 - 기존 색인 유지");
+                return;
+            }
+
+            GridIndex newIndex = GridIndex.build(items, System.currentTimeMillis());
+            index = newIndex;
+            snapshotStore.write(snapshotPath, new RestaurantSnapshot(newIndex.syncedAt, newIndex.items));
+
+            log.info("✅ 음식점 동기화 완료: {}개/{}개, 격자 {}칸, {}ms",
+                    newIndex.size(), totalCount, newIndex.cells.size(), System.currentTimeMillis() - startedAt);
+
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (Exception e) {
+            log.error("❌ 음식점 동기화 실패: {}", e.getMessage(), e);
+        } finally {
+            syncing.set(false);
+        }
+    }
+
+    // ========================================
+    // 조회
+    // ========================================
+
+    public boolean isReady() {
+        return enabled && index.size() > 0;
+    }
+
+    /**
+     * 중심 좌표 반경 내 음식점을 가까운 순으로 조회
+     * 반환 노드는 색인과 공유되므로 수정하지 말 것
+     *
+     * @param mapx         중심 경도
+     * @param mapy         중심 위도
+     * @param cat3         음식점 소분류 (null이면 전체)
+     * @param radiusMeters 반경 (m)
+     * @param limit        최대 개수
+     */
+    public List<JsonNode> findNearest(double mapx, double mapy, String cat3, int radiusMeters, int limit) {
+        return index.findNearest(mapx, mapy, cat3, radiusMeters, limit);
+    }
+
+    public Map<String, Object> getStatus() {
+        GridIndex current = index;
+        Map<String, Object> status = new LinkedHashMap<>();
+        status.put("enabled", enabled);
+        status.put("ready", isReady());
+        status.put("syncing", syncing.get());
+        status.put("itemCount", current.size());
+        status.put("cellCount", current.cells.size());
+        status.put("syncedAt", current.syncedAtText());
+        return status;
+    }
+
+    private boolean isStale() {
+        GridIndex current = index;
+        if (current.size() == 0) {
+            return true;
+        }
+        long ageMillis = System.currentTimeMillis() - current.syncedAt;
+        return ageMillis > Duration.ofHours(maxAgeHours).toMillis();
+    }
+
+    // ========================================
+    // 격자 색인
+    // ========================================
+
+    private static final class GridIndex {
+
+        static final GridIndex EMPTY = new GridIndex(Collections.emptyList(), new double[0], new double[0],
+                new String[0], Collections.emptyMap(), 0L);
+
+        final List<JsonNode> items;
+        final double[] xs;
+        final double[] ys;
+        final String[] cat3s;
+        final Map<Long, int[]> cells;
+        final long syncedAt;
+
+        private GridIndex(List<JsonNode> items, double[] xs, double[] ys, String[] cat3s,
+                Map<Long, int[]> cells, long syncedAt) {
+            this.items = items;
+            this.xs = xs;
+            this.ys = ys;
+            this.cat3s = cat3s;
+            this.cells = cells;
+            this.syncedAt = syncedAt;
+        }
+
+        static GridIndex build(List<JsonNode> source, long syncedAt) {
+            if (source == null || source.isEmpty()) {
+                return EMPTY;
+            }
+
+            // 좌표가 없는 음식점은 반경 검색 대상이 아니므로 제외
+            List<JsonNode> items = new ArrayList<>();
+            for (JsonNode item : source) {
+                if (parseCoordinate(item.path("mapx").asText()) != 0
+                        && parseCoordinate(item.path("mapy").asText()) != 0) {
+                    items.add(item);
+                }
+            }
+
+            double[] xs = new double[items.size()];
+            double[] ys = new double[items.size()];
+            String[] cat3s = new String[items.size()];
+            Map<Long, List<Integer>> building = new HashMap<>();
+
+            for (int i = 0; i < items.size(); i++) {
+                JsonNode item = items.get(i);
+                xs[i] = parseCoordinate(item.path("mapx").asText());
+                ys[i] = parseCoordinate(item.path("mapy").asText());
+                cat3s[i] = item.path("cat3").asText("");
+                building.computeIfAbsent(cellKey(cellOf(ys[i]), cellOf(xs[i])), k -> new ArrayList<>()).add(i);
+            }
+
+            Map<Long, int[]> cells = new HashMap<>();
+            building.forEach((key, ids) -> cells.put(key, ids.stream().mapToInt(Integer::intValue).toArray()));
+
+            return new GridIndex(List.copyOf(items), xs, ys, cat3s, cells, syncedAt);
+        }
+
+        int size() {
+            return items.size();
+        }
+
+        String syncedAtText() {
+            return syncedAt > 0 ? Instant.ofEpochMilli(syncedAt).toString() : "";
+        }
+
+        List<JsonNode> findNearest(double mapx, double mapy, String cat3, int radiusMeters, int limit) {
+            if (items.isEmpty()) {
+                return new ArrayList<>();
+            }
+
+            // 반경이 걸치는 격자 범위 계산 (경도 1도 거리는 위도에 따라 줄어듦)
+            double latSpan = radiusMeters / METERS_PER_DEGREE_LAT;
+            double lonSpan = radiusMeters / (METERS_PER_DEGREE_LAT * Math.cos(Math.toRadians(mapy)));
+            int minRow = cellOf(mapy - latSpan);
+            int maxRow = cellOf(mapy + latSpan);
+            int minCol = cellOf(mapx - lonSpan);
+            int maxCol = cellOf(mapx + lonSpan);
+
+            List<int[]> candidates = new ArrayList<>(); // {id, 거리(m)}
+            for (int row = minRow; row <= maxRow; row++) {
+                for (int col = minCol; col <= maxCol; col++) {
+                    int[] ids = cells.get(cellKey(row, col));
+                    if (ids == null) {
+                        continue;
+                    }
+                    for (int id : ids) {
+                        if (cat3 != null && !cat3.equals(cat3s[id])) {
+                            continue;
+                        }
+                        double distance = distanceMeters(mapy, mapx, ys[id], xs[id]);
+                        if (distance <= radiusMeters) {
+                            candidates.add(new int[] { id, (int) distance });
+                        }
+                    }
+                }
+            }
+
+            candidates.sort(Comparator.comparingInt(candidate -> candidate[1]));
+
+            List<JsonNode> results = new ArrayList<>();
+            for (int i = 0; i < Math.min(limit, candidates.size()); i++) {
+                results.add(items.get(candidates.get(i)[0]));
+            }
+            return results;
+        }
+
+        private static int cellOf(double degrees) {
+            return (int) Math.floor(degrees / CELL_DEGREES);
+        }
+
+        private static long cellKey(int row, int col) {
+            return ((long) row << 32) | (col & 0xffffffffL);
+        }
+
+        private static double parseCoordinate(String value) {
+            try {
+                return value == null || value.isEmpty() ? 0 : Double.parseDouble(value);
+            } catch (NumberFormatException e) {
+                return 0;
+            }
+        }
+
+        /**
+         * 하버사인 거리 (m)
+         */
+        private static double distanceMeters(double lat1, double lon1, double lat2, double lon2) {
+            double dLat = Math.toRadians(lat2 - lat1);
+            double dLon = Math.toRadians(lon2 - lon1);
+            double a = Math.sin(dLat / 2) * Math.sin(dLat / 2)
+                    + Math.cos(Math.toRadians(lat1)) * Math.cos(Math.toRadians(lat2))
+                            * Math.sin(dLon / 2) * Math.sin(dLon / 2);
+            return 6_371_000 * 2 * Math.atan2(Math.sqrt(a), Math.sqrt(1 - a));
+        }
+    }
+}
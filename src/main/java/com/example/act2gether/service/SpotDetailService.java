@@ -1,13 +1,34 @@
 package com.example.act2gether.service;
 
+import java.util.Arrays;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.Map;
-
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.BiConsumer;
+import java.util.stream.Collectors;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Service;
-import org.springframework.web.client.RestTemplate;
 
+import com.example.act2gether.service.TourDetailCache.DetailRecord;
+import com.example.act2gether.service.TourDetailCache.Fetched;
+import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 
@@ -29,27 +50,188 @@ public class SpotDetailService {
     @Value("${tourism.api.base-url}")
     private String baseUrl;
 
-    private final RestTemplate restTemplate;
+    private final TourApiClient tourApiClient;
     private final ObjectMapper objectMapper;
+    private final TourDetailCache tourDetailCache;
+
+    // 부가 정보(이용정보/반복정보) 호출별 시간 제한
+    @Value("${tourism.spot-detail.intro-timeout-ms:3000}")
+    private long introTimeoutMs;
+
+    @Value("${tourism.spot-detail.info-timeout-ms:3000}")
+    private long infoTimeoutMs;
+
+    // 상세정보 배치 조회 - 동시 조회 수 / 배치 전체 시간 제한 / 최대 관광지 수
+    @Value("${tourism.spot-detail.batch-parallelism:4}")
+    private int batchParallelism;
+
+    @Value("${tourism.spot-detail.batch-timeout-ms:8000}")
+    private long batchTimeoutMs;
+
+    @Value("${tourism.spot-detail.batch-max-ids:30}")
+    private int batchMaxIds;
+
+    @Autowired
+    @Qualifier("tourApiExecutor")
+    private Executor tourApiExecutor;
+
+    // 배치 조회의 관광지별 작업 (내부에서 tourApiExecutor 호출을 기다리므로 별도 풀)
+    @Autowired
+    @Qualifier("tourRequestExecutor")
+    private Executor tourRequestExecutor;
 
     /**
-     * 관광지 상세정보 통합 조회 (3개 API 호출)
+     * 관광지 상세정보 통합 조회 (상세정보 캐시 → 3개 API 호출)
      */
     public Map<String, Object> getSpotDetail(String contentId) {
+        DetailRecord record = tourDetailCache.get("spot", contentId, previous -> fetchSpotDetail(contentId));
+        if (record == null) {
+            return Map.of("success", false, "message", "상세정보를 불러올 수 없습니다");
+        }
+        return toResult(record);
+    }
+
+    /**
+     * 배치 조회용 contentId 정리 (공백 제거, 중복 제거, 최대 개수 제한)
+     */
+    public List<String> normalizeContentIds(String ids) {
+        return Arrays.stream(ids.split(","))
+                .map(String::trim)
+                .filter(id -> !id.isEmpty())
+                .distinct()
+                .limit(batchMaxIds)
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * 여러 관광지 상세정보 일괄 조회
+     *
+     * @return data: contentId → 상세정보, errors: contentId → 실패 사유
+     */
+    public Map<String, Object> getSpotDetails(List<String> contentIds) {
+        Map<String, Object> data = new LinkedHashMap<>();
+        Map<String, Object> errors = new LinkedHashMap<>();
+        forEachSpotDetail(contentIds, (contentId, result) -> {
+            if (Boolean.TRUE.equals(result.get("success"))) {
+                data.put(contentId, result.get("data"));
+            } else {
+                errors.put(contentId, result.get("message"));
+            }
+        });
+        return Map.of("data", data, "errors", errors);
+    }
+
+    /**
+     * 여러 관광지 상세정보를 완료되는 순서대로 전달
+     * - 동시 조회 수는 batch-parallelism으로 제한 (하나가 끝나면 다음 관광지 조회 시작)
+     * - 상세정보 캐시를 거치므로 다른 요청과 같은 관광지를 조회 중이면 그 결과를 함께 사용
+     * - batch-timeout-ms 안에 끝나지 않은 관광지는 시간 초과 결과로 전달
+     * - onResult는 호출한 스레드에서만 실행됨
+     */
+    public void forEachSpotDetail(List<String> contentIds, BiConsumer<String, Map<String, Object>> onResult) {
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(batchTimeoutMs);
+        Queue<String> pending = new ConcurrentLinkedQueue<>(contentIds);
+        BlockingQueue<Map.Entry<String, Map<String, Object>>> completed = new LinkedBlockingQueue<>();
+        AtomicBoolean cancelled = new AtomicBoolean(false);
+
+        for (int i = 0; i < Math.min(batchParallelism, contentIds.size()); i++) {
+            launchNext(pending, completed, cancelled);
+        }
+
+        Set<String> remaining = new LinkedHashSet<>(contentIds);
+        try {
+            while (!remaining.isEmpty()) {
+                long waitNanos = deadline - System.nanoTime();
+                Map.Entry<String, Map<String, Object>> entry = waitNanos > 0
+                        ? completed.poll(waitNanos, TimeUnit.NANOSECONDS)
+                        : null;
+                if (entry == null) {
+                    break;
+                }
+                if (remaining.remove(entry.getKey())) {
+                    onResult.accept(entry.getKey(), entry.getValue());
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            // 아직 시작하지 않은 관광지는 더 이상 조회하지 않음 (진행 중인 조회는 캐시에 채워지도록 둠)
+            cancelled.set(true);
+        }
+
+        if (!remaining.isEmpty()) {
+            log.warn("상세정보 배치 시간 초과 ({}ms): 미완료 {}개 / 전체 {}개", batchTimeoutMs, remaining.size(),
+                    contentIds.size());
+        }
+        for (String contentId : remaining) {
+            onResult.accept(contentId, Map.of("success", false, "timeout", true, "message", "상세정보 조회 시간 초과"));
+        }
+    }
+
+    private void launchNext(Queue<String> pending, BlockingQueue<Map.Entry<String, Map<String, Object>>> completed,
+            AtomicBoolean cancelled) {
+        if (cancelled.get()) {
+            return;
+        }
+        String contentId = pending.poll();
+        if (contentId == null) {
+            return;
+        }
+
+        CompletableFuture.supplyAsync(() -> getSpotDetail(contentId), tourRequestExecutor)
+                .exceptionally(e -> {
+                    log.warn("상세정보 배치 조회 실패: contentId={}, error={}", contentId, e.getMessage());
+                    return Map.of("success", false, "message", "상세정보를 불러올 수 없습니다");
+                })
+                .thenAccept(result -> {
+                    completed.add(Map.entry(contentId, result));
+                    launchNext(pending, completed, cancelled);
+                });
+    }
+
+    private Map<String, Object> toResult(DetailRecord record) {
+        Map<String, Object> data = objectMapper.convertValue(record.data(), new TypeReference<Map<String, Object>>() {
+        });
+        if (record.fallback()) {
+            return Map.of("success", true, "fallback", true, "data", data);
+        }
+        return Map.of("success", true, "data", data);
+    }
+
+    /**
+     * 3개 API 호출 후 통합 (상세정보 캐시 로더)
+     * detailCommon2로 기본정보를 확인한 뒤 detailIntro2 / detailInfo2를 동시에 호출하고,
+     * 각각의 시간 제한을 넘기면 해당 정보만 빠진 채로 응답 (기본정보 실패/대체 시에는 호출하지 않음)
+     *
+     * @return 기본정보 조회 실패 시 null
+     */
+    private Fetched fetchSpotDetail(String contentId) {
         try {
             log.info("관광지 상세정보 조회 시작: contentId={}", contentId);
+            long startedAt = System.nanoTime();
 
-            // 1. detailCommon2 - 기본정보
+            // 1. detailCommon2 - 기본정보 (현재 스레드에서 호출)
             Map<String, Object> commonData = getDetailCommon(contentId);
             if (!((Boolean) commonData.get("success"))) {
-                return commonData; // 기본정보 실패시 바로 반환
+                return null; // 기본정보 실패시 바로 반환
+            }
+            if (Boolean.TRUE.equals(commonData.get("fallback"))) {
+                // 대체 데이터에는 부가 정보를 붙이지 않으므로 이용정보/반복정보는 호출하지 않음
+                return Fetched.ofFallback(objectMapper.valueToTree(commonData.get("data")));
             }
 
-            // 2. detailIntro2 - 이용정보  
-            Map<String, Object> introData = getDetailIntro(contentId);
-            
-            // 3. detailInfo2 - 반복정보
-            Map<String, Object> infoData = getDetailInfo(contentId);
+            // 2. detailIntro2 - 이용정보 / 3. detailInfo2 - 반복정보 (서로 독립적이므로 동시에 호출)
+            long partialStartedAt = System.nanoTime();
+            CompletableFuture<Map<String, Object>> introFuture = CompletableFuture
+                    .supplyAsync(() -> getDetailIntro(contentId), tourApiExecutor);
+            CompletableFuture<Map<String, Object>> infoFuture = CompletableFuture
+                    .supplyAsync(() -> getDetailInfo(contentId), tourApiExecutor);
+
+            Map<String, Object> introData = awaitPartial(introFuture, partialStartedAt, introTimeoutMs, "이용정보",
+                    contentId);
+            Map<String, Object> infoData = awaitPartial(infoFuture, partialStartedAt, infoTimeoutMs, "반복정보",
+                    contentId);
+            boolean partial = Boolean.TRUE.equals(introData.get("timeout")) || Boolean.TRUE.equals(infoData.get("timeout"));
 
             // 4. 데이터 통합
             Map<String, Object> combinedData = new HashMap<>();
@@ -82,12 +264,37 @@ public class SpotDetailService {
             }
             combinedData.put("admission", admission);
 
-            log.info("관광지 상세정보 조회 완료: contentId={}", contentId);
-            return Map.of("success", true, "data", combinedData);
+            log.info("관광지 상세정보 조회 완료: contentId={}, {}ms{}", contentId,
+                    TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt), partial ? " (일부 정보 누락)" : "");
+            String modifiedTime = commonItem != null ? commonItem.path("modifiedtime").asText("") : "";
+            JsonNode data = objectMapper.valueToTree(combinedData);
+            // 시간 초과로 빠진 정보가 있으면 짧게만 캐시하여 곧 다시 채우도록 함
+            return partial ? Fetched.ofPartial(data, modifiedTime) : Fetched.of(data, modifiedTime, "");
 
         } catch (Exception e) {
             log.error("관광지 상세정보 조회 실패: contentId={}, error={}", contentId, e.getMessage(), e);
-            return Map.of("success", false, "message", "상세정보를 불러올 수 없습니다: " + e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * 부가 정보 호출 결과 대기 (startedAt 기준 timeoutMs까지)
+     * 시간 초과 시 실패 결과(timeout=true)를 반환하여 해당 정보만 빠지도록 함
+     * (진행 중인 호출은 중단되지 않고 TourApiClient 타임아웃까지 진행, 결과만 버림)
+     */
+    private Map<String, Object> awaitPartial(CompletableFuture<Map<String, Object>> future, long startedAt,
+            long timeoutMs, String label, String contentId) {
+        long remainingNanos = startedAt + TimeUnit.MILLISECONDS.toNanos(timeoutMs) - System.nanoTime();
+        try {
+            return future.get(Math.max(0, remainingNanos), TimeUnit.NANOSECONDS);
+        } catch (TimeoutException e) {
+            log.warn("{} 조회 시간 초과 ({}ms): contentId={}", label, timeoutMs, contentId);
+            return Map.of("success", false, "timeout", true, "message", label + " 조회 시간 초과");
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return Map.of("success", false, "timeout", true, "message", label + " 조회 중단");
+        } catch (ExecutionException e) {
+            return Map.of("success", false, "message", label + " 조회 실패");
         }
     }
 
@@ -101,7 +308,7 @@ public class SpotDetailService {
                 baseUrl, serviceKey, contentId);
 
             log.debug("detailCommon2 API 호출: {}", url);
-            ResponseEntity<String> response = restTemplate.getForEntity(url, String.class);
+            ResponseEntity<String> response = tourApiClient.getForEntity(url);
             String responseBody = response.getBody();
             
             if (responseBody == null || responseBody.trim().isEmpty()) {
@@ -170,7 +377,7 @@ public class SpotDetailService {
                 "%s/detailIntro2?serviceKey=%s&MobileOS=ETC&MobileApp=Act2gether&_type=json&contentId=%s&contentTypeId=12",
                 baseUrl, serviceKey, contentId);
 
-            ResponseEntity<String> response = restTemplate.getForEntity(url, String.class);
+            ResponseEntity<String> response = tourApiClient.getForEntity(url);
             JsonNode jsonNode = objectMapper.readTree(response.getBody());
 
             JsonNode header = jsonNode.path("response").path("header");
@@ -202,7 +409,7 @@ public class SpotDetailService {
                 "%s/detailInfo2?serviceKey=%s&MobileOS=ETC&MobileApp=Act2gether&_type=json&contentId=%s&contentTypeId=12",
                 baseUrl, serviceKey, contentId);
 
-            ResponseEntity<String> response = restTemplate.getForEntity(url, String.class);
+            ResponseEntity<String> response = tourApiClient.getForEntity(url);
             JsonNode jsonNode = objectMapper.readTree(response.getBody());
 
             JsonNode header = jsonNode.path("response").path("header");
@@ -0,0 +1,465 @@
+package com.example.act2gether.service;
+
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.ResourceAccessException;
+import org.springframework.web.client.ResponseExtractor;
+import org.springframework.web.client.RestTemplate;
+
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 관광공사 API 조회(GET) 클라이언트 - 적응형 타임아웃 + 헤지 요청
+ * - 엔드포인트(areaBasedList2, detailCommon2 등)별 최근 응답시간을 기록하여 p95/p99 계산
+ *   요청 1건당 표본 1개: 원 요청 시작부터 결과(헤지 승리 포함)까지의 시간,
+ *   시간 초과는 타임아웃 값을 하한 표본으로 기록 (실제 응답시간은 그 이상)
+ * - 타임아웃: p99 × timeout-multiplier (min/max 범위), 표본이 부족하면 max
+ *   연속 시간 초과가 timeout-escalate-after회 이상이면 max
+ * - 헤지: p95가 지나도 응답이 없으면 같은 요청을 한 번 더 보내고 먼저 성공한 응답 사용
+ *   (속도 제한 슬롯이 바로 없거나 헤지 비율 상한을 넘으면 보내지 않음)
+ *   헤지 요청도 일일 한도에서 한 건으로 차감되며, 진 쪽 요청은 커넥션 풀 모드에서 중단(abort)하여 연결/스레드를 바로 반환
+ * - 커넥션 풀 모드에서는 요청별 응답 타임아웃도 같은 값으로 설정
+ *   HTTP/2 모드(JDK HttpClient)는 요청을 중단할 수 없어 대기 시간만 제한하고 헤지는 끔
+ * - 동기화용 대량 페이지 조회는 이 클라이언트를 거치지 않음 (응답시간 분포가 달라 통계가 섞임)
+ * - 서킷이 열렸거나 일일 한도 보호 중이면 바로 실패, 헤지는 일일 한도에 여유가 있을 때만 (TourApiGuard)
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class TourApiClient {
+
+    // 요청 스레드에 적용할 응답 타임아웃 (RestTemplateConfig의 HttpContext 생성 시 사용)
+    private static final ThreadLocal<Long> RESPONSE_TIMEOUT_MS = new ThreadLocal<>();
+
+    // 요청 스레드에서 보내는 HTTP 요청의 중단 핸들 (RestTemplateConfig의 요청 생성 시 등록)
+    private static final ThreadLocal<AbortHandle> ABORT_HANDLE = new ThreadLocal<>();
+
+    private static final Pattern RESULT_CODE = Pattern.compile("\"resultCode\"\\s*:\\s*\"([^\"]*)\"");
+
+    @Value("${tourism.http.adaptive.min-timeout-ms:1500}")
+    private long minTimeoutMs;
+
+    @Value("${tourism.http.adaptive.max-timeout-ms:15000}")
+    private long maxTimeoutMs;
+
+    @Value("${tourism.http.adaptive.timeout-multiplier:2.0}")
+    private double timeoutMultiplier;
+
+    @Value("${tourism.http.adaptive.window-size:256}")
+    private int windowSize;
+
+    @Value("${tourism.http.adaptive.min-samples:20}")
+    private int minSamples;
+
+    // 연속 시간 초과가 이 횟수 이상이면 표본과 관계없이 max 타임아웃 사용 (상류가 갑자기 느려진 경우)
+    @Value("${tourism.http.adaptive.timeout-escalate-after:3}")
+    private int timeoutEscalateAfter;
+
+    @Value("${tourism.http.hedge.enabled:true}")
+    private boolean hedgeEnabled;
+
+    @Value("${tourism.http.http2-enabled:false}")
+    private boolean http2Enabled;
+
+    @Value("${tourism.http.hedge.min-delay-ms:200}")
+    private long minHedgeDelayMs;
+
+    // 전체 요청 대비 헤지 요청 비율 상한 (상류가 전체적으로 느릴 때 부하가 두 배가 되지 않도록)
+    @Value("${tourism.http.hedge.max-ratio:0.1}")
+    private double maxHedgeRatio;
+
+    private final RestTemplate restTemplate;
+    private final TourApiRateLimiter rateLimiter;
+    private final TourApiGuard tourApiGuard;
+
+    @Autowired
+    @Qualifier("tourApiHedgeExecutor")
+    private ThreadPoolTaskExecutor hedgeExecutor;
+
+    private final Map<String, EndpointStats> endpoints = new ConcurrentHashMap<>();
+
+    private final LongAdder requests = new LongAdder();
+    private final LongAdder hedges = new LongAdder();
+    private final LongAdder hedgeWins = new LongAdder();
+    private final LongAdder timeouts = new LongAdder();
+    private final LongAdder aborted = new LongAdder();
+
+    // HTTP/2 모드에서는 진 쪽 요청을 중단할 수 없어 헤지 요청이 연결/스레드를 계속 점유하므로 헤지 사용 안 함
+    @PostConstruct
+    void disableHedgeOnHttp2() {
+        if (http2Enabled && hedgeEnabled) {
+            hedgeEnabled = false;
+            log.warn("⚠️ HTTP/2 모드에서는 요청 중단을 지원하지 않아 관광공사 API 헤지 요청을 끕니다 (tourism.http.hedge.enabled 무시)");
+        }
+    }
+
+    /**
+     * 현재 스레드의 요청별 응답 타임아웃 (ms, 없으면 null)
+     */
+    public static Long currentResponseTimeoutMs() {
+        return RESPONSE_TIMEOUT_MS.get();
+    }
+
+    /**
+     * 현재 스레드에서 보내는 요청의 중단 핸들 (헤지/타임아웃 대상이 아니면 null)
+     */
+    public static AbortHandle currentAbortHandle() {
+        return ABORT_HANDLE.get();
+    }
+
+    /**
+     * 헤지 경합에서 진 요청 / 시간 초과된 요청을 중단하기 위한 핸들
+     * 요청이 만들어지기 전에 중단되면 등록 즉시 중단
+     */
+    public static final class AbortHandle {
+        private Runnable abortAction;
+        private boolean aborted;
+
+        public synchronized void register(Runnable action) {
+            if (aborted) {
+                action.run();
+            } else {
+                abortAction = action;
+            }
+        }
+
+        public synchronized boolean isAborted() {
+            return aborted;
+        }
+
+        synchronized void abort() {
+            if (aborted) {
+                return;
+            }
+            aborted = true;
+            if (abortAction != null) {
+                abortAction.run();
+            }
+        }
+    }
+
+    // ========================================
+    // 조회
+    // ========================================
+
+    public ResponseEntity<String> getForEntity(String url) {
+        return recordResultCode(url, get(url, () -> restTemplate.getForEntity(url, String.class)));
+    }
+
+    /**
+     * 헤더를 지정한 조회 (If-None-Match 조건부 요청 등)
+     */
+    public ResponseEntity<String> exchange(String url, HttpHeaders headers) {
+        return recordResultCode(url,
+                get(url, () -> restTemplate.exchange(url, HttpMethod.GET, new HttpEntity<>(headers), String.class)));
+    }
+
+    /**
+     * 응답 스트림을 직접 처리하는 조회 (헤지 요청이면 두 응답 중 먼저 끝난 쪽 결과 사용)
+     */
+    public <T> T execute(String url, ResponseExtractor<T> extractor) {
+        return get(url, () -> restTemplate.execute(url, HttpMethod.GET, null, extractor));
+    }
+
+    private <T> T get(String url, Supplier<T> call) {
+        // 서킷이 열렸거나 일일 한도 보호 중이면 스레드를 쓰지 않고 바로 실패
+        if (!tourApiGuard.isAvailable(url)) {
+            throw new ResourceAccessException("관광공사 API 호출 차단 중 (서킷 열림 또는 일일 한도): " + endpointOf(url));
+        }
+
+        EndpointStats stats = endpoints.computeIfAbsent(endpointOf(url), key -> new EndpointStats(windowSize));
+        long timeoutMs = timeoutFor(stats);
+        long startedAt = System.nanoTime();
+        requests.increment();
+
+        AbortHandle primaryAbort = new AbortHandle();
+        CompletableFuture<T> primary;
+        try {
+            primary = CompletableFuture.supplyAsync(() -> attempt(call, timeoutMs, primaryAbort), hedgeExecutor);
+        } catch (RejectedExecutionException e) {
+            // 헤지 풀이 가득 차면 호출 스레드에서 헤지 없이 실행
+            return recordLatency(stats, startedAt, attempt(call, timeoutMs, null));
+        }
+
+        AbortHandle hedgeAbort = new AbortHandle();
+        CompletableFuture<T> hedge = null;
+        try {
+            long hedgeDelayMs = hedgeDelayFor(stats, timeoutMs);
+            if (hedgeEnabled && hedgeDelayMs < timeoutMs) {
+                try {
+                    return recordLatency(stats, startedAt, primary.get(hedgeDelayMs, TimeUnit.MILLISECONDS));
+                } catch (TimeoutException e) {
+                    hedge = startHedge(url, call, timeoutMs, hedgeAbort);
+                }
+            }
+
+            long remainingMs = timeoutMs - elapsedMs(startedAt);
+            // 헤지가 이기면 원 요청 시작부터의 시간이 곧 진 쪽(원 요청) 응답시간의 하한
+            return recordLatency(stats, startedAt,
+                    firstSuccess(primary, hedge).get(Math.max(1, remainingMs), TimeUnit.MILLISECONDS));
+
+        } catch (TimeoutException e) {
+            // 실제 응답시간은 timeoutMs 이상 → 하한 표본으로 기록 (빼면 p95/p99가 빠른 응답 쪽으로 치우침)
+            timeouts.increment();
+            stats.recordTimeout(timeoutMs);
+            throw new ResourceAccessException("관광공사 API 응답 시간 초과 (" + timeoutMs + "ms): " + endpointOf(url));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ResourceAccessException("관광공사 API 호출 중단: " + endpointOf(url));
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new ResourceAccessException("관광공사 API 호출 실패: " + cause.getMessage());
+        } finally {
+            // 결과를 쓰지 않는 요청(헤지 경합에서 진 쪽, 시간 초과)은 HTTP 요청까지 중단
+            abortIfRunning(primary, primaryAbort);
+            if (hedge != null) {
+                abortIfRunning(hedge, hedgeAbort);
+            }
+        }
+    }
+
+    private void abortIfRunning(CompletableFuture<?> future, AbortHandle handle) {
+        if (!future.isDone()) {
+            handle.abort();
+            aborted.increment();
+        }
+    }
+
+    private <T> CompletableFuture<T> startHedge(String url, Supplier<T> call, long timeoutMs,
+            AbortHandle abortHandle) {
+        // 헤지 비율 상한 / 일일 한도 여유 없음 / 속도 제한 슬롯이 바로 없으면 원래 요청만 기다림
+        if (hedges.sum() >= requests.sum() * maxHedgeRatio || !tourApiGuard.allowBackground(url)) {
+            return null;
+        }
+        if (!rateLimiter.tryAcquire()) {
+            return null;
+        }
+
+        try {
+            CompletableFuture<T> hedge = CompletableFuture.supplyAsync(
+                    () -> attempt(call, timeoutMs, abortHandle), hedgeExecutor);
+            hedges.increment();
+            return hedge;
+        } catch (RejectedExecutionException e) {
+            return null;
+        }
+    }
+
+    /**
+     * 응답 본문 앞부분의 resultCode를 서킷 브레이커에 기록 (header가 본문 앞에 있으므로 전체를 파싱하지 않음)
+     * 본문이 없는 304(변경 없음) 응답은 정상 응답으로 기록
+     */
+    private ResponseEntity<String> recordResultCode(String url, ResponseEntity<String> response) {
+        String body = response.getBody();
+        if (body != null) {
+            Matcher matcher = RESULT_CODE.matcher(body);
+            matcher.region(0, Math.min(body.length(), 512));
+            if (matcher.find()) {
+                tourApiGuard.recordResultCode(url, matcher.group(1));
+            }
+        } else if (response.getStatusCode() == HttpStatus.NOT_MODIFIED) {
+            tourApiGuard.recordSuccess(url);
+        }
+        return response;
+    }
+
+    private <T> T attempt(Supplier<T> call, long timeoutMs, AbortHandle abortHandle) {
+        RESPONSE_TIMEOUT_MS.set(timeoutMs);
+        if (abortHandle != null) {
+            ABORT_HANDLE.set(abortHandle);
+        }
+        try {
+            return call.get();
+        } finally {
+            RESPONSE_TIMEOUT_MS.remove();
+            ABORT_HANDLE.remove();
+        }
+    }
+
+    private static <T> T recordLatency(EndpointStats stats, long startedAt, T result) {
+        stats.record(elapsedMs(startedAt));
+        return result;
+    }
+
+    private static long elapsedMs(long startedAt) {
+        return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt);
+    }
+
+    /**
+     * 먼저 성공한 응답으로 완료 (모두 실패하면 마지막 실패로 완료)
+     */
+    private <T> CompletableFuture<T> firstSuccess(CompletableFuture<T> primary, CompletableFuture<T> hedge) {
+        if (hedge == null) {
+            return primary;
+        }
+
+        CompletableFuture<T> winner = new CompletableFuture<>();
+        AtomicInteger remaining = new AtomicInteger(2);
+        for (CompletableFuture<T> future : Arrays.asList(primary, hedge)) {
+            future.whenComplete((result, error) -> {
+                if (error == null) {
+                    if (winner.complete(result) && future == hedge) {
+                        hedgeWins.increment();
+                    }
+                } else if (remaining.decrementAndGet() == 0) {
+                    winner.completeExceptionally(error instanceof CompletionException && error.getCause() != null
+                            ? error.getCause()
+                            : error);
+                }
+            });
+        }
+        return winner;
+    }
+
+    private long timeoutFor(EndpointStats stats) {
+        long p99 = stats.percentile(0.99, minSamples);
+        if (p99 < 0 || stats.consecutiveTimeouts() >= timeoutEscalateAfter) {
+            return maxTimeoutMs;
+        }
+        return clamp((long) (p99 * timeoutMultiplier), minTimeoutMs, maxTimeoutMs);
+    }
+
+    private long hedgeDelayFor(EndpointStats stats, long timeoutMs) {
+        long p95 = stats.percentile(0.95, minSamples);
+        if (p95 < 0) {
+            // 표본이 부족하면 타임아웃의 절반까지 기다린 뒤 헤지
+            return Math.max(minHedgeDelayMs, timeoutMs / 2);
+        }
+        return clamp(p95, minHedgeDelayMs, timeoutMs / 2);
+    }
+
+    private static long clamp(long value, long min, long max) {
+        return Math.max(min, Math.min(max, value));
+    }
+
+    /**
+     * URL → 엔드포인트 이름 (쿼리 앞 마지막 경로)
+     */
+    private static String endpointOf(String url) {
+        int query = url.indexOf('?');
+        String path = query >= 0 ? url.substring(0, query) : url;
+        return path.substring(path.lastIndexOf('/') + 1);
+    }
+
+    public Map<String, Object> getStats() {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("requests", requests.sum());
+        stats.put("hedges", hedges.sum());
+        stats.put("hedgeWins", hedgeWins.sum());
+        stats.put("timeouts", timeouts.sum());
+        stats.put("aborted", aborted.sum());
+
+        Map<String, Object> byEndpoint = new TreeMap<>();
+        endpoints.forEach((endpoint, endpointStats) -> {
+            long timeoutMs = timeoutFor(endpointStats);
+            Map<String, Object> entry = new LinkedHashMap<>();
+            entry.put("samples", endpointStats.size());
+            entry.put("timeouts", endpointStats.timeouts());
+            entry.put("p95Ms", endpointStats.percentile(0.95, 1));
+            entry.put("p99Ms", endpointStats.percentile(0.99, 1));
+            entry.put("timeoutMs", timeoutMs);
+            entry.put("hedgeDelayMs", hedgeDelayFor(endpointStats, timeoutMs));
+            byEndpoint.put(endpoint, entry);
+        });
+        stats.put("endpoints", byEndpoint);
+        return stats;
+    }
+
+    // ========================================
+    // 엔드포인트별 응답시간 (최근 windowSize건, 시간 초과는 하한 표본 + 별도 집계)
+    // ========================================
+
+    private static final class EndpointStats {
+
+        // 백분위는 표본이 이만큼 쌓일 때마다 다시 계산
+        private static final int RECOMPUTE_EVERY = 16;
+
+        private final long[] samples;
+        private int count;
+        private int next;
+        private int sinceRecompute = RECOMPUTE_EVERY;
+        private long[] sorted = new long[0];
+        private long timeouts;
+        private int consecutiveTimeouts;
+
+        EndpointStats(int windowSize) {
+            this.samples = new long[Math.max(16, windowSize)];
+        }
+
+        synchronized void record(long latencyMs) {
+            add(latencyMs);
+            consecutiveTimeouts = 0;
+        }
+
+        synchronized void recordTimeout(long timeoutMs) {
+            add(timeoutMs);
+            timeouts++;
+            consecutiveTimeouts++;
+        }
+
+        private void add(long latencyMs) {
+            samples[next] = latencyMs;
+            next = (next + 1) % samples.length;
+            count = Math.min(count + 1, samples.length);
+            sinceRecompute++;
+        }
+
+        synchronized long timeouts() {
+            return timeouts;
+        }
+
+        synchronized int consecutiveTimeouts() {
+            return consecutiveTimeouts;
+        }
+
+        synchronized int size() {
+            return count;
+        }
+
+        /**
+         * @return 백분위 응답시간 (ms), 표본이 minSamples 미만이면 -1
+         */
+        synchronized long percentile(double quantile, int minSamples) {
+            if (count < Math.max(1, minSamples)) {
+                return -1;
+            }
+            if (sinceRecompute >= RECOMPUTE_EVERY || sorted.length != count) {
+                sorted = Arrays.copyOf(samples, count);
+                Arrays.sort(sorted);
+                sinceRecompute = 0;
+            }
+            int index = (int) Math.ceil(quantile * sorted.length) - 1;
+            return sorted[Math.max(0, Math.min(sorted.length - 1, index))];
+        }
+    }
+}
@@ -0,0 +1,407 @@
+package com.example.act2gether.service;
+
+import java.io.IOException;
+import java.net.URI;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 관광공사 API(data.go.kr) 보호 장치 - 엔드포인트별 서킷 브레이커 + 일일 호출 한도
+ * - 서킷 브레이커: 최근 window-seconds 동안 오류율이 failure-rate 이상이면 open-seconds 동안 호출 차단,
+ *   이후 시험 호출 1건이 성공하면 다시 허용 (HTTP 오류, HTML/XML 오류 페이지, 실패 resultCode를 오류로 집계)
+ *   시험 호출은 HTTP 응답이 정상이어도 본문 resultCode까지 정상이어야 성공으로 판단,
+ *   open-seconds 안에 판정이 없으면(resultCode를 확인하지 않는 호출부) 다음 호출을 다시 시험 호출로 허용
+ * - 일일 한도: 서비스(KorService2, KorWithService2)별 호출 수를 한국 시간 자정 기준으로 집계
+ *   soft-ratio 이상이면 동기화/헤지 같은 부가 호출 중단, hard-ratio 이상이면 모든 호출 차단
+ *   (호출부는 캐시/로컬 미러 데이터로 응답)
+ * - 한도 초과 resultCode(22)를 받으면 그날은 한도 소진으로 처리
+ */
+@Component
+@Slf4j
+public class TourApiGuard {
+
+    private static final ZoneId QUOTA_ZONE = ZoneId.of("Asia/Seoul");
+
+    // 정상 / 데이터 없음 - 오류로 집계하지 않는 resultCode
+    private static final Set<String> OK_RESULT_CODES = Set.of("0000", "00", "03");
+
+    // LIMITED_NUMBER_OF_SERVICE_REQUESTS_EXCEEDS_ERROR
+    private static final String QUOTA_EXCEEDED_CODE = "22";
+
+    private final String guardedHost;
+
+    @Value("${tourism.api.breaker.window-seconds:60}")
+    private int windowSeconds;
+
+    @Value("${tourism.api.breaker.min-calls:20}")
+    private int minCalls;
+
+    @Value("${tourism.api.breaker.failure-rate:0.5}")
+    private double failureRate;
+
+    @Value("${tourism.api.breaker.open-seconds:30}")
+    private long openSeconds;
+
+    @Value("${tourism.api.quota.daily-limit:10000}")
+    private long dailyLimit;
+
+    @Value("${tourism.api.quota.soft-ratio:0.8}")
+    private double softRatio;
+
+    @Value("${tourism.api.quota.hard-ratio:0.97}")
+    private double hardRatio;
+
+    private final Map<String, Breaker> breakers = new ConcurrentHashMap<>();
+    private final Map<String, DailyQuota> quotas = new ConcurrentHashMap<>();
+
+    public TourApiGuard(@Value("${tourism.api.base-url}") String baseUrl) {
+        this.guardedHost = URI.create(baseUrl).getHost();
+    }
+
+    /**
+     * 차단된 호출 (RestTemplate에서는 ResourceAccessException으로 전달됨)
+     */
+    public static class TourApiUnavailableException extends IOException {
+        public TourApiUnavailableException(String message) {
+            super(message);
+        }
+    }
+
+    // ========================================
+    // 호출 전 / 후 (RestTemplate 인터셉터)
+    // ========================================
+
+    public boolean isGuarded(URI uri) {
+        return guardedHost != null && guardedHost.equalsIgnoreCase(uri.getHost());
+    }
+
+    /**
+     * 호출 허가 (허가되면 일일 호출 수에 포함)
+     *
+     * @throws TourApiUnavailableException 서킷이 열렸거나 일일 한도에 도달한 경우
+     */
+    public void acquire(URI uri) throws TourApiUnavailableException {
+        String service = serviceOf(uri.getPath());
+        String endpoint = endpointOf(uri.getPath());
+
+        DailyQuota quota = quota(service);
+        if (quota.used() >= hardLimit()) {
+            throw new TourApiUnavailableException("관광공사 API 일일 호출 한도 보호 중: " + service);
+        }
+        if (!breaker(endpoint).tryAcquire(System.currentTimeMillis())) {
+            throw new TourApiUnavailableException("관광공사 API 서킷 열림: " + endpoint);
+        }
+        quota.increment();
+    }
+
+    /**
+     * HTTP 응답 결과 기록 (시험 호출은 실패만 여기서 판정, 성공은 resultCode 확인 후)
+     *
+     * @param ok 2xx JSON 응답이면 true (연결 실패, 5xx, HTML/XML 오류 페이지는 false)
+     */
+    public void recordResponse(URI uri, boolean ok) {
+        breaker(endpointOf(uri.getPath())).record(ok, System.currentTimeMillis());
+    }
+
+    /**
+     * JSON 응답의 resultCode 기록 (응답을 파싱한 호출부에서)
+     */
+    public void recordResultCode(String url, String resultCode) {
+        if (resultCode == null || resultCode.isEmpty()) {
+            return;
+        }
+        if (OK_RESULT_CODES.contains(resultCode)) {
+            recordSuccess(url);
+            return;
+        }
+
+        String path = pathOf(url);
+        breaker(endpointOf(path)).recordFailure(System.currentTimeMillis());
+        if (QUOTA_EXCEEDED_CODE.equals(resultCode)) {
+            String service = serviceOf(path);
+            quota(service).exhaust();
+            log.warn("🚫 관광공사 API 일일 호출 한도 초과 응답 - 오늘은 캐시/미러 데이터로만 응답: {}", service);
+        }
+    }
+
+    /**
+     * 본문까지 확인한 정상 응답 기록 (본문이 없는 304 응답 등, 시험 호출이면 서킷을 닫음)
+     */
+    public void recordSuccess(String url) {
+        breaker(endpointOf(pathOf(url))).recordSuccess();
+    }
+
+    // ========================================
+    // 조회
+    // ========================================
+
+    /**
+     * 지금 호출하면 차단되지 않을지 (부수 효과 없음)
+     */
+    public boolean isAvailable(String url) {
+        String path = pathOf(url);
+        return quota(serviceOf(path)).used() < hardLimit()
+                && !breaker(endpointOf(path)).isOpen(System.currentTimeMillis());
+    }
+
+    /**
+     * 동기화/헤지 같은 부가 호출을 해도 되는지 (일일 한도 여유가 있고 서킷이 닫혀 있을 때만)
+     */
+    public boolean allowBackground(String url) {
+        String path = pathOf(url);
+        return quota(serviceOf(path)).used() < softLimit()
+                && !breaker(endpointOf(path)).isOpen(System.currentTimeMillis());
+    }
+
+    public Map<String, Object> getStatus() {
+        long now = System.currentTimeMillis();
+        Map<String, Object> status = new LinkedHashMap<>();
+
+        Map<String, Object> quotaStatus = new TreeMap<>();
+        quotas.forEach((service, quota) -> {
+            Map<String, Object> entry = new LinkedHashMap<>();
+            entry.put("used", quota.used());
+            entry.put("softLimit", softLimit());
+            entry.put("hardLimit", hardLimit());
+            entry.put("day", quota.day().toString());
+            quotaStatus.put(service, entry);
+        });
+        status.put("quota", quotaStatus);
+
+        Map<String, Object> breakerStatus = new TreeMap<>();
+        breakers.forEach((endpoint, breaker) -> breakerStatus.put(endpoint, breaker.status(now)));
+        status.put("breakers", breakerStatus);
+        return status;
+    }
+
+    private long softLimit() {
+        return (long) (dailyLimit * softRatio);
+    }
+
+    private long hardLimit() {
+        return (long) (dailyLimit * hardRatio);
+    }
+
+    private Breaker breaker(String endpoint) {
+        return breakers.computeIfAbsent(endpoint, key -> new Breaker(windowSeconds));
+    }
+
+    private DailyQuota quota(String service) {
+        return quotas.computeIfAbsent(service, key -> new DailyQuota());
+    }
+
+    private static String pathOf(String url) {
+        int query = url.indexOf('?');
+        String withoutQuery = query >= 0 ? url.substring(0, query) : url;
+        int scheme = withoutQuery.indexOf("://");
+        int pathStart = withoutQuery.indexOf('/', scheme >= 0 ? scheme + 3 : 0);
+        return pathStart >= 0 ? withoutQuery.substring(pathStart) : "";
+    }
+
+    // /B551011/KorService2/areaBasedList2 → areaBasedList2
+    private static String endpointOf(String path) {
+        return path.substring(path.lastIndexOf('/') + 1);
+    }
+
+    // /B551011/KorService2/areaBasedList2 → KorService2
+    private static String serviceOf(String path) {
+        int end = path.lastIndexOf('/');
+        int start = end > 0 ? path.lastIndexOf('/', end - 1) : -1;
+        return end > 0 ? path.substring(start + 1, end) : path;
+    }
+
+    // ========================================
+    // 서킷 브레이커 (초 단위 버킷으로 최근 windowSeconds 집계)
+    // ========================================
+
+    private enum State {
+        CLOSED, OPEN, HALF_OPEN
+    }
+
+    private final class Breaker {
+
+        private final long[] bucketSecond;
+        private final int[] calls;
+        private final int[] failures;
+
+        private State state = State.CLOSED;
+        private long openUntil;
+        private long trialStartedAt;
+        private long openedCount;
+
+        Breaker(int windowSeconds) {
+            int size = Math.max(1, windowSeconds);
+            this.bucketSecond = new long[size];
+            this.calls = new int[size];
+            this.failures = new int[size];
+        }
+
+        synchronized boolean tryAcquire(long now) {
+            if (state == State.CLOSED) {
+                return true;
+            }
+            if (state == State.OPEN && now >= openUntil) {
+                // 시험 호출 1건만 허용
+                state = State.HALF_OPEN;
+                trialStartedAt = now;
+                return true;
+            }
+            if (state == State.HALF_OPEN && now - trialStartedAt >= openSeconds * 1000) {
+                // 판정 없이 끝난 시험 호출 → 다음 호출을 다시 시험 호출로 허용
+                trialStartedAt = now;
+                return true;
+            }
+            return false;
+        }
+
+        synchronized boolean isOpen(long now) {
+            if (state == State.HALF_OPEN) {
+                // 판정 없이 openSeconds가 지난 시험 호출은 다음 호출이 다시 시험할 수 있도록 열림으로 보지 않음
+                return now - trialStartedAt < openSeconds * 1000;
+            }
+            return state == State.OPEN && now < openUntil;
+        }
+
+        synchronized void record(boolean ok, long now) {
+            if (state == State.HALF_OPEN) {
+                // HTTP 응답이 정상이어도 resultCode가 실패일 수 있으므로 성공 판정은 recordSuccess에서
+                if (!ok) {
+                    open(now);
+                }
+                return;
+            }
+
+            int index = bucket(now);
+            calls[index]++;
+            if (!ok) {
+                failures[index]++;
+                evaluate(now);
+            }
+        }
+
+        synchronized void recordSuccess() {
+            if (state == State.HALF_OPEN) {
+                close();
+            }
+        }
+
+        synchronized void recordFailure(long now) {
+            if (state == State.CLOSED) {
+                failures[bucket(now)]++;
+                evaluate(now);
+            } else if (state == State.HALF_OPEN) {
+                open(now);
+            }
+        }
+
+        private void evaluate(long now) {
+            int[] totals = totals(now);
+            if (totals[0] >= minCalls && totals[1] >= totals[0] * failureRate) {
+                log.warn("⛔ 관광공사 API 서킷 열림: 최근 {}초 {}건 중 {}건 오류 - {}초간 차단",
+                        bucketSecond.length, totals[0], totals[1], openSeconds);
+                open(now);
+            }
+        }
+
+        /**
+         * 최근 windowSeconds 동안의 {호출 수, 오류 수}
+         */
+        private int[] totals(long now) {
+            long since = now / 1000 - bucketSecond.length;
+            int[] totals = new int[2];
+            for (int i = 0; i < bucketSecond.length; i++) {
+                if (bucketSecond[i] > since) {
+                    totals[0] += calls[i];
+                    totals[1] += failures[i];
+                }
+            }
+            return totals;
+        }
+
+        private int bucket(long now) {
+            long second = now / 1000;
+            int index = (int) (second % bucketSecond.length);
+            if (bucketSecond[index] != second) {
+                bucketSecond[index] = second;
+                calls[index] = 0;
+                failures[index] = 0;
+            }
+            return index;
+        }
+
+        private void open(long now) {
+            state = State.OPEN;
+            openUntil = now + openSeconds * 1000;
+            openedCount++;
+        }
+
+        private void close() {
+            state = State.CLOSED;
+            Arrays.fill(bucketSecond, 0);
+            Arrays.fill(calls, 0);
+            Arrays.fill(failures, 0);
+            log.info("✅ 관광공사 API 서킷 닫힘 (시험 호출 성공)");
+        }
+
+        synchronized Map<String, Object> status(long now) {
+            int[] totals = totals(now);
+            Map<String, Object> entry = new LinkedHashMap<>();
+            entry.put("state", state.name());
+            entry.put("calls", totals[0]);
+            entry.put("failures", totals[1]);
+            entry.put("openedCount", openedCount);
+            entry.put("openUntil", state == State.OPEN ? Instant.ofEpochMilli(openUntil).toString() : "");
+            return entry;
+        }
+    }
+
+    // ========================================
+    // 일일 호출 수 (한국 시간 자정 초기화)
+    // ========================================
+
+    private final class DailyQuota {
+
+        private LocalDate day = LocalDate.now(QUOTA_ZONE);
+        private long used;
+
+        synchronized void increment() {
+            rollOver();
+            used++;
+        }
+
+        synchronized long used() {
+            rollOver();
+            return used;
+        }
+
+        synchronized LocalDate day() {
+            rollOver();
+            return day;
+        }
+
+        synchronized void exhaust() {
+            rollOver();
+            used = Math.max(used, dailyLimit);
+        }
+
+        private void rollOver() {
+            LocalDate today = LocalDate.now(QUOTA_ZONE);
+            if (!today.equals(day)) {
+                day = today;
+                used = 0;
+            }
+        }
+    }
+}
@@ -0,0 +1,292 @@
+package com.example.act2gether.service;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.TreeSet;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.example.act2gether.service.TourApiResponseReader.Item;
+import com.example.act2gether.service.TourApiResponseReader.ItemPage;
+import com.fasterxml.jackson.core.type.TypeReference;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 목록 API 전체 페이지 병렬 수집기 (동기화 전용)
+ * - 1페이지의 totalCount로 전체 페이지 수를 계산한 뒤 나머지 페이지를 parallelism개 작업으로 나누어 동시에 조회
+ *   (호출 간격은 전역 속도 제한기가 관리)
+ * - 받은 페이지는 체크포인트 디렉터리에 페이지별 파일로 저장, 중간에 실패/재시작해도 다음 수집에서 이어받음
+ *   (조회 조건, 페이지 크기, totalCount가 같고 checkpoint-max-age-hours 이내인 체크포인트만 사용)
+ * - 전체 페이지를 받으면 체크포인트 삭제
+ * - 수집 작업은 tourSyncPageExecutor에서 실행하고, walk-timeout-ms 안에 끝나지 않으면 중단 (받은 페이지는 체크포인트에 남음)
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class TourApiPageWalker {
+
+    // 비정상 응답으로 무한히 나뉘지 않도록 페이지 수 상한
+    private static final int MAX_PAGES = 500;
+
+    private static final String MANIFEST_FILE = "/manifest.json";
+
+    @Value("${tourism.sync.parallelism:4}")
+    private int parallelism;
+
+    @Value("${tourism.sync.checkpoint-max-age-hours:24}")
+    private long checkpointMaxAgeHours;
+
+    @Value("${tourism.sync.walk-timeout-ms:1800000}")
+    private long walkTimeoutMs;
+
+    private final TourApiResponseReader responseReader;
+    private final TourApiRateLimiter rateLimiter;
+    private final LocalSnapshotStore snapshotStore;
+
+    @Autowired
+    @Qualifier("tourSyncPageExecutor")
+    private Executor tourSyncPageExecutor;
+
+    /**
+     * 체크포인트 목록 파일
+     *
+     * @param query          serviceKey를 뺀 조회 URL (다른 조건의 체크포인트를 이어받지 않도록)
+     * @param completedPages 저장이 끝난 페이지 번호
+     */
+    public record PageCheckpoint(String query, int pageSize, int totalCount, long startedAt,
+            List<Integer> completedPages) {
+    }
+
+    /**
+     * 수집 결과
+     *
+     * @param items        페이지 순서대로 이어 붙인 항목 (페이지 경계에서 중복될 수 있으므로 호출부에서 contentid로 upsert)
+     * @param resumedPages 체크포인트에서 이어받은 페이지 수
+     */
+    public record PageWalk(int totalCount, int pageCount, int resumedPages, List<Item> items) {
+    }
+
+    /**
+     * 전체 페이지 수집
+     *
+     * @param url           numOfRows/pageNo를 뺀 목록 API URL
+     * @param checkpointDir 체크포인트 디렉터리 (수집 대상마다 달라야 함)
+     * @return 수집 결과, 한 페이지라도 실패하면 null (받은 페이지는 체크포인트에 남음)
+     */
+    public PageWalk walk(String name, String url, int pageSize, String checkpointDir) throws InterruptedException {
+        ItemPage first = fetchPage(name, url, pageSize, 1);
+        if (first == null) {
+            return null;
+        }
+
+        int totalCount = first.totalCount();
+        int pageCount = Math.min(Math.max(1, (totalCount + pageSize - 1) / pageSize), MAX_PAGES);
+        String query = url.replaceAll("serviceKey=[^&]*&?", "");
+
+        WalkState state = new WalkState(checkpointDir,
+                resumeOrReset(name, checkpointDir, query, pageSize, totalCount));
+        state.complete(1, first.items());
+
+        Queue<Integer> pending = new ConcurrentLinkedQueue<>();
+        for (int pageNo = 2; pageNo <= pageCount; pageNo++) {
+            if (!state.isCompleted(pageNo)) {
+                pending.add(pageNo);
+            }
+        }
+        int resumedPages = pageCount - 1 - pending.size();
+        if (resumedPages > 0) {
+            log.info("↩️ {} 체크포인트에서 이어받기: {}페이지/{}페이지", name, resumedPages, pageCount);
+        }
+
+        AtomicBoolean failed = new AtomicBoolean(false);
+        List<CompletableFuture<Void>> workers = new ArrayList<>();
+        for (int i = 0; i < Math.min(Math.max(1, parallelism), pending.size()); i++) {
+            workers.add(CompletableFuture.runAsync(() -> {
+                Integer pageNo;
+                while (!failed.get() && (pageNo = pending.poll()) != null) {
+                    ItemPage page = fetchPage(name, url, pageSize, pageNo);
+                    if (page == null) {
+                        failed.set(true);
+                        return;
+                    }
+                    state.complete(pageNo, page.items());
+                }
+            }, tourSyncPageExecutor));
+        }
+
+        try {
+            CompletableFuture.allOf(workers.toArray(new CompletableFuture[0]))
+                    .get(walkTimeoutMs, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            // 진행 중인 작업은 지금 받는 페이지까지만 저장하고 멈춤
+            log.warn("⏱️ {} 페이지 수집 시간 초과 ({}ms)", name, walkTimeoutMs);
+            failed.set(true);
+        } catch (ExecutionException e) {
+            log.warn("❌ {} 페이지 수집 오류: {}", name, e.getMessage());
+            failed.set(true);
+        } catch (InterruptedException e) {
+            failed.set(true);
+            throw e;
+        }
+
+        if (failed.get()) {
+            log.warn("⏸️ {} 페이지 수집 중단: {}페이지/{}페이지 저장됨 - 다음 동기화에서 이어받음",
+                    name, state.completedCount(), pageCount);
+            return null;
+        }
+
+        List<Item> items = new ArrayList<>(totalCount);
+        for (int pageNo = 1; pageNo <= pageCount; pageNo++) {
+            List<Item> pageItems = state.items(pageNo);
+            if (pageItems == null) {
+                log.warn("❌ {} 체크포인트 페이지 누락: {}페이지", name, pageNo);
+                state.clear();
+                return null;
+            }
+            items.addAll(pageItems);
+        }
+
+        state.clear();
+        return new PageWalk(totalCount, pageCount, resumedPages, items);
+    }
+
+    /**
+     * 이어받을 체크포인트가 있는지 (시작 시 중단된 동기화 재개 판단용)
+     */
+    public boolean hasCheckpoint(String checkpointDir) {
+        return snapshotStore.read(checkpointDir + MANIFEST_FILE, PageCheckpoint.class)
+                .filter(checkpoint -> System.currentTimeMillis() - checkpoint.startedAt() < Duration
+                        .ofHours(checkpointMaxAgeHours).toMillis())
+                .isPresent();
+    }
+
+    private ItemPage fetchPage(String name, String url, int pageSize, int pageNo) {
+        try {
+            if (!rateLimiter.acquire(System.nanoTime() + TimeUnit.MINUTES.toNanos(1))) {
+                return null;
+            }
+
+            ItemPage page = responseReader.getBulkItems(url + "&numOfRows=" + pageSize + "&pageNo=" + pageNo);
+            if (!page.isSuccess()) {
+                log.warn("{} 페이지 조회 실패: page={}, code={}, msg={}",
+                        name, pageNo, page.resultCode(), page.resultMsg());
+                return null;
+            }
+            return page;
+
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return null;
+        } catch (Exception e) {
+            log.warn("{} 페이지 조회 오류: page={} - {}", name, pageNo, e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * 조건이 같은 최근 체크포인트면 이어받고, 아니면 이전 페이지 파일을 지우고 새로 시작
+     */
+    private PageCheckpoint resumeOrReset(String name, String checkpointDir, String query, int pageSize,
+            int totalCount) {
+        PageCheckpoint previous = snapshotStore.read(checkpointDir + MANIFEST_FILE, PageCheckpoint.class)
+                .orElse(null);
+
+        if (previous != null && previous.completedPages() != null
+                && query.equals(previous.query())
+                && previous.pageSize() == pageSize
+                && previous.totalCount() == totalCount
+                && System.currentTimeMillis() - previous.startedAt() < Duration.ofHours(checkpointMaxAgeHours)
+                        .toMillis()) {
+            return previous;
+        }
+
+        if (previous != null) {
+            log.info("{} 이전 체크포인트 폐기 (조건 변경 또는 만료)", name);
+            deleteCheckpoint(checkpointDir, previous.completedPages());
+        }
+        return new PageCheckpoint(query, pageSize, totalCount, System.currentTimeMillis(), List.of());
+    }
+
+    private void deleteCheckpoint(String checkpointDir, List<Integer> pages) {
+        if (pages != null) {
+            pages.forEach(pageNo -> snapshotStore.delete(pageFile(checkpointDir, pageNo)));
+        }
+        snapshotStore.delete(checkpointDir + MANIFEST_FILE);
+    }
+
+    private static String pageFile(String checkpointDir, int pageNo) {
+        return checkpointDir + "/page-" + pageNo + ".json";
+    }
+
+    // ========================================
+    // 수집 중 상태 (받은 페이지 + 체크포인트 기록)
+    // ========================================
+
+    private final class WalkState {
+
+        private final String checkpointDir;
+        private final PageCheckpoint checkpoint;
+        private final TreeSet<Integer> completedPages;
+        private final Map<Integer, List<Item>> pages = new ConcurrentHashMap<>();
+
+        WalkState(String checkpointDir, PageCheckpoint checkpoint) {
+            this.checkpointDir = checkpointDir;
+            this.checkpoint = checkpoint;
+            this.completedPages = new TreeSet<>(checkpoint.completedPages());
+        }
+
+        synchronized boolean isCompleted(int pageNo) {
+            return completedPages.contains(pageNo);
+        }
+
+        synchronized int completedCount() {
+            return completedPages.size();
+        }
+
+        void complete(int pageNo, List<Item> items) {
+            pages.put(pageNo, items);
+            if (!snapshotStore.write(pageFile(checkpointDir, pageNo), items)) {
+                return;
+            }
+
+            synchronized (this) {
+                completedPages.add(pageNo);
+                snapshotStore.write(checkpointDir + MANIFEST_FILE, new PageCheckpoint(checkpoint.query(),
+                        checkpoint.pageSize(), checkpoint.totalCount(), checkpoint.startedAt(),
+                        new ArrayList<>(completedPages)));
+            }
+        }
+
+        /**
+         * 이번에 받은 페이지, 없으면 체크포인트 파일에서 읽음
+         */
+        List<Item> items(int pageNo) {
+            List<Item> items = pages.get(pageNo);
+            if (items != null) {
+                return items;
+            }
+            return snapshotStore.read(pageFile(checkpointDir, pageNo), new TypeReference<List<Item>>() {
+            }).orElse(null);
+        }
+
+        synchronized void clear() {
+            deleteCheckpoint(checkpointDir, new ArrayList<>(completedPages));
+        }
+    }
+}
@@ -0,0 +1,74 @@
+package com.example.act2gether.service;
+
+import java.util.OptionalLong;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 한국관광공사 API 전역 호출 속도 제한기
+ * 기존 callTourApiForCombination의 Thread.sleep(500)을 대체
+ * - 초당 허용 호출 수(permits-per-second)를 설정으로 관리
+ * - 호출 슬롯을 순서대로 예약하여 병렬 호출 시에도 전체 속도를 유지
+ * - 마감시각(deadline) 안에 슬롯을 받을 수 없으면 즉시 포기
+ */
+@Component
+@Slf4j
+public class TourApiRateLimiter {
+
+    private final long intervalNanos;
+    private long nextFreeSlotNanos = System.nanoTime();
+
+    public TourApiRateLimiter(@Value("${tourism.api.permits-per-second:10}") double permitsPerSecond) {
+        double permits = permitsPerSecond > 0 ? permitsPerSecond : 1;
+        this.intervalNanos = (long) (TimeUnit.SECONDS.toNanos(1) / permits);
+        log.info("관광공사 API 속도 제한: 초당 {}회", permits);
+    }
+
+    /**
+     * 호출 슬롯 획득 (필요하면 슬롯 시각까지 대기)
+     *
+     * @param deadlineNanos System.nanoTime() 기준 마감시각
+     * @return 마감 전에 슬롯을 받았으면 true
+     */
+    public boolean acquire(long deadlineNanos) throws InterruptedException {
+        OptionalLong slot = reserve(deadlineNanos);
+        if (slot.isEmpty()) {
+            return false;
+        }
+
+        long waitNanos = slot.getAsLong() - System.nanoTime();
+        if (waitNanos > 0) {
+            TimeUnit.NANOSECONDS.sleep(waitNanos);
+        }
+        return true;
+    }
+
+    /**
+     * 지금 바로 쓸 수 있는 슬롯이 있을 때만 획득 (대기하지 않음)
+     */
+    public synchronized boolean tryAcquire() {
+        long now = System.nanoTime();
+        if (nextFreeSlotNanos - now > 0) {
+            return false;
+        }
+        nextFreeSlotNanos = now + intervalNanos;
+        return true;
+    }
+
+    /**
+     * 마감 전 슬롯 예약 (nanoTime은 음수일 수 있어 값 대신 차이로만 비교)
+     */
+    private synchronized OptionalLong reserve(long deadlineNanos) {
+        long now = System.nanoTime();
+        long slot = nextFreeSlotNanos - now > 0 ? nextFreeSlotNanos : now;
+        if (slot - deadlineNanos > 0) {
+            return OptionalLong.empty();
+        }
+        nextFreeSlotNanos = slot + intervalNanos;
+        return OptionalLong.of(slot);
+    }
+}
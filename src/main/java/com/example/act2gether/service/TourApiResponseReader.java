@@ -0,0 +1,296 @@
+package com.example.act2gether.service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.http.HttpMethod;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.ResourceAccessException;
+import org.springframework.web.client.RestTemplate;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 관광공사 목록 API 응답 스트리밍 파서
+ * - 응답 본문을 String / JsonNode 트리로 만들지 않고 입력 스트림에서 바로 읽음
+ * - response.header.resultCode / response.body.totalCount / response.body.items.item 만 해석
+ * - item은 사용하는 필드를 Item 레코드로 변환하고, 그 밖의 단순 값 필드는 extra에 원본 문자열 그대로 보관
+ *   (응답 JSON에 API 원본 필드를 빠짐없이 내보내기 위함, 객체/배열 값은 건너뜀)
+ */
+@Component
+@RequiredArgsConstructor
+public class TourApiResponseReader {
+
+    private static final String SUCCESS_CODE = "0000";
+
+    private final RestTemplate restTemplate;
+    private final TourApiClient tourApiClient;
+    private final TourApiGuard tourApiGuard;
+    private final ObjectMapper objectMapper;
+
+    /**
+     * 목록 API 항목 (검색/색인/동기화에서 사용하는 필드 + 그 밖의 원본 필드)
+     * 값이 없는 필드는 빈 문자열
+     *
+     * @param extra 레코드 필드에 없는 API 필드 (zipcode, createdtime, dist 등, 없으면 빈 맵)
+     */
+    public record Item(String contentid, String contenttypeid, String title, String addr1, String addr2,
+            String tel, String firstimage, String firstimage2, String areacode, String sigungucode,
+            String cat1, String cat2, String cat3, String mapx, String mapy, String modifiedtime,
+            String showflag, @JsonInclude(JsonInclude.Include.NON_EMPTY) Map<String, String> extra) {
+
+        public Item {
+            // 파싱 중 만든 맵을 그대로 들고 있지 않도록 복사 (레코드 불변 유지)
+            extra = extra == null || extra.isEmpty()
+                    ? Map.of()
+                    : Collections.unmodifiableMap(new LinkedHashMap<>(extra));
+        }
+
+        // JSON 변환 시 기본으로 포함하는 필드 (showflag 제외)
+        public static final List<String> LIST_FIELDS = List.of(
+                "contentid", "contenttypeid", "title", "addr1", "addr2", "tel",
+                "firstimage", "firstimage2", "areacode", "sigungucode",
+                "cat1", "cat2", "cat3", "mapx", "mapy", "modifiedtime");
+
+        private static final int FIELD_COUNT = 17;
+
+        /**
+         * API 필드명 → 위치 (사용하지 않는 필드는 -1)
+         */
+        static int indexOf(String field) {
+            return switch (field) {
+                case "contentid" -> 0;
+                case "contenttypeid" -> 1;
+                case "title" -> 2;
+                case "addr1" -> 3;
+                case "addr2" -> 4;
+                case "tel" -> 5;
+                case "firstimage" -> 6;
+                case "firstimage2" -> 7;
+                case "areacode" -> 8;
+                case "sigungucode" -> 9;
+                case "cat1" -> 10;
+                case "cat2" -> 11;
+                case "cat3" -> 12;
+                case "mapx" -> 13;
+                case "mapy" -> 14;
+                case "modifiedtime" -> 15;
+                case "showflag" -> 16;
+                default -> -1;
+            };
+        }
+
+        static Item of(String[] values, Map<String, String> extra) {
+            for (int i = 0; i < values.length; i++) {
+                if (values[i] == null) {
+                    values[i] = "";
+                }
+            }
+            return new Item(values[0], values[1], values[2], values[3], values[4], values[5], values[6],
+                    values[7], values[8], values[9], values[10], values[11], values[12], values[13],
+                    values[14], values[15], values[16], extra);
+        }
+
+        public String get(String field) {
+            return switch (field) {
+                case "contentid" -> contentid;
+                case "contenttypeid" -> contenttypeid;
+                case "title" -> title;
+                case "addr1" -> addr1;
+                case "addr2" -> addr2;
+                case "tel" -> tel;
+                case "firstimage" -> firstimage;
+                case "firstimage2" -> firstimage2;
+                case "areacode" -> areacode;
+                case "sigungucode" -> sigungucode;
+                case "cat1" -> cat1;
+                case "cat2" -> cat2;
+                case "cat3" -> cat3;
+                case "mapx" -> mapx;
+                case "mapy" -> mapy;
+                case "modifiedtime" -> modifiedtime;
+                case "showflag" -> showflag;
+                default -> extra.getOrDefault(field, "");
+            };
+        }
+
+        /**
+         * 기존 JsonNode 기반 처리 로직에 넘기기 위한 변환 (지정한 필드 + extra 원본 필드)
+         */
+        public ObjectNode toJson(ObjectMapper objectMapper, List<String> fields) {
+            ObjectNode node = objectMapper.createObjectNode();
+            for (String field : fields) {
+                node.put(field, get(field));
+            }
+            extra.forEach(node::put);
+            return node;
+        }
+    }
+
+    /**
+     * 목록 API 한 페이지
+     *
+     * @param resultCode 결과 코드 (없으면 빈 값)
+     * @param resultMsg  결과 메시지
+     * @param totalCount 전체 건수
+     * @param items      이 페이지의 항목
+     */
+    public record ItemPage(String resultCode, String resultMsg, int totalCount, List<Item> items) {
+
+        public boolean isSuccess() {
+            return SUCCESS_CODE.equals(resultCode);
+        }
+    }
+
+    /**
+     * 목록 API 호출 후 응답 스트림을 바로 파싱 (적응형 타임아웃 + 헤지 요청)
+     * JSON이 아닌 응답(HTML/XML 오류 페이지 등)은 예외
+     */
+    public ItemPage getItems(String url) {
+        return recordResultCode(url, tourApiClient.execute(url, response -> read(response.getBody())));
+    }
+
+    /**
+     * 동기화용 대량 페이지 조회 (기본 타임아웃, 헤지 없음)
+     * 일일 호출 한도가 예비분(soft-ratio)에 들어서면 동기화를 멈추도록 예외
+     */
+    public ItemPage getBulkItems(String url) {
+        if (!tourApiGuard.allowBackground(url)) {
+            throw new ResourceAccessException("관광공사 API 일일 한도 예비분 보호 - 동기화 중단");
+        }
+        return recordResultCode(url,
+                restTemplate.execute(url, HttpMethod.GET, null, response -> read(response.getBody())));
+    }
+
+    private ItemPage recordResultCode(String url, ItemPage page) {
+        if (page != null) {
+            tourApiGuard.recordResultCode(url, page.resultCode());
+        }
+        return page;
+    }
+
+    ItemPage read(InputStream body) throws IOException {
+        try (JsonParser parser = objectMapper.getFactory().createParser(body)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                throw new JsonParseException(parser, "관광공사 API 응답이 JSON 객체가 아님");
+            }
+
+            PageState state = new PageState();
+            readRoot(parser, state);
+            return new ItemPage(state.resultCode, state.resultMsg, state.totalCount, state.items);
+        }
+    }
+
+    /**
+     * 파싱 중 누적 값
+     */
+    private static final class PageState {
+        String resultCode = "";
+        String resultMsg = "";
+        int totalCount;
+        final List<Item> items = new ArrayList<>();
+    }
+
+    // 루트 - 정상 응답은 response 아래, 일부 오류 응답은 루트에 resultCode/resultMsg
+    private void readRoot(JsonParser parser, PageState state) throws IOException {
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String name = parser.currentName();
+            JsonToken token = parser.nextToken();
+            if ("response".equals(name) && token == JsonToken.START_OBJECT) {
+                readResponse(parser, state);
+            } else if ("resultCode".equals(name)) {
+                state.resultCode = parser.getValueAsString("");
+            } else if ("resultMsg".equals(name)) {
+                state.resultMsg = parser.getValueAsString("");
+            } else {
+                parser.skipChildren();
+            }
+        }
+    }
+
+    private void readResponse(JsonParser parser, PageState state) throws IOException {
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String name = parser.currentName();
+            JsonToken token = parser.nextToken();
+            if ("header".equals(name) && token == JsonToken.START_OBJECT) {
+                readRoot(parser, state);
+            } else if ("body".equals(name) && token == JsonToken.START_OBJECT) {
+                readBody(parser, state);
+            } else {
+                parser.skipChildren();
+            }
+        }
+    }
+
+    private void readBody(JsonParser parser, PageState state) throws IOException {
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String name = parser.currentName();
+            JsonToken token = parser.nextToken();
+            if ("totalCount".equals(name)) {
+                state.totalCount = parser.getValueAsInt(0);
+            } else if ("items".equals(name) && token == JsonToken.START_OBJECT) {
+                // 결과가 없으면 items가 빈 문자열("")로 오는 경우가 있어 객체일 때만 해석
+                readItems(parser, state);
+            } else {
+                parser.skipChildren();
+            }
+        }
+    }
+
+    // items.item - 여러 건이면 배열, 한 건이면 객체
+    private void readItems(JsonParser parser, PageState state) throws IOException {
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String name = parser.currentName();
+            JsonToken token = parser.nextToken();
+            if (!"item".equals(name)) {
+                parser.skipChildren();
+            } else if (token == JsonToken.START_ARRAY) {
+                while ((token = parser.nextToken()) != JsonToken.END_ARRAY) {
+                    if (token == JsonToken.START_OBJECT) {
+                        state.items.add(readItem(parser));
+                    } else {
+                        parser.skipChildren();
+                    }
+                }
+            } else if (token == JsonToken.START_OBJECT) {
+                state.items.add(readItem(parser));
+            } else {
+                parser.skipChildren();
+            }
+        }
+    }
+
+    private Item readItem(JsonParser parser) throws IOException {
+        String[] values = new String[Item.FIELD_COUNT];
+        Map<String, String> extra = null;
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String name = parser.currentName();
+            int index = Item.indexOf(name);
+            JsonToken token = parser.nextToken();
+            if (!token.isScalarValue()) {
+                parser.skipChildren();
+            } else if (index >= 0) {
+                values[index] = parser.getValueAsString("");
+            } else {
+                // 레코드에 없는 필드도 응답에 그대로 내보낼 수 있도록 원본 문자열로 보관
+                if (extra == null) {
+                    extra = new LinkedHashMap<>();
+                }
+                extra.put(name, parser.getValueAsString(""));
+            }
+        }
+        return Item.of(values, extra);
+    }
+}
@@ -1,38 +1,523 @@
 package com.example.act2gether.service;
 
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Primary;
+import org.springframework.core.env.Environment;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+import lombok.extern.slf4j.Slf4j;
+
 import java.util.*;
-import java.time.LocalDateTime;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+import java.util.function.Supplier;
 
+/**
+ * 투어 결과 캐시 (LRU, 크기 제한)
+ * - 항목 수(max-entries)와 추정 바이트(max-bytes) 두 기준으로 제한, 초과 시 가장 오래 안 쓰인 항목부터 제거
+ * - 키 접두어(namespace) 별 TTL: tourism.cache.ttl-minutes.{namespace} (예: tour_, seasonal_)
+ * - 만료 항목은 주기적으로 백그라운드에서 정리
+ * - hit/miss/eviction/expiration 통계 제공
+ * - getOrLoad: 같은 키의 동시 미스는 하나의 로딩만 실행(single-flight)하고,
+ *   TTL이 지난 항목은 stale 구간(tourism.cache.stale-minutes.{namespace}) 동안 기존 값을 반환하며 백그라운드 갱신
+ *   다른 요청/백그라운드 갱신이 로딩 중인 값은 load-wait-ms까지만 기다림 (넘기면 로딩 실패와 같이 null)
+ * - 관광지 상세정보(detail_)는 별도 인스턴스(detailCacheStore, TourCacheConfig)에 저장
+ */
 @Service
+@Primary
+@Slf4j
 public class TourCacheService {
-    private final Map<String, Object> cache = new ConcurrentHashMap<>();
-    private final Map<String, LocalDateTime> cacheTime = new ConcurrentHashMap<>();
-    private static final int CACHE_MINUTES = 30;
-    
+    private static final int DEFAULT_CACHE_MINUTES = 30;
+    private static final int DEFAULT_STALE_MINUTES = 10;
+
+    private final Environment environment;
+    private final int maxEntries;
+    private final long maxBytes;
+    private final long loadWaitMs;
+
+    // accessOrder=true → 조회 순서 기반 LRU, 모든 접근은 this 락으로 보호
+    private final LinkedHashMap<String, CacheEntry> cache = new LinkedHashMap<>(16, 0.75f, true);
+    private final Map<String, Duration> namespaceTtls = new HashMap<>();
+    private final Map<String, Duration> namespaceStaleWindows = new HashMap<>();
+    private final ConcurrentHashMap<String, CompletableFuture<Object>> inFlight = new ConcurrentHashMap<>();
+    private long totalBytes = 0;
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+    private final LongAdder expirations = new LongAdder();
+    private final LongAdder staleHits = new LongAdder();
+    private final LongAdder coalescedLoads = new LongAdder();
+    private final LongAdder loads = new LongAdder();
+    private final LongAdder loadFailures = new LongAdder();
+    private final LongAdder loadWaitTimeouts = new LongAdder();
+
+    @Autowired
+    @Qualifier("cacheRefreshExecutor")
+    private Executor cacheRefreshExecutor;
+
+    // expiresAt 이후 ~ staleUntil 이전: getOrLoad에서만 기존 값 반환(갱신 중), staleUntil 이후 제거 대상
+    private record CacheEntry(Object value, long expiresAt, long staleUntil, long bytes) {
+        boolean isExpired(long now) {
+            return now >= expiresAt;
+        }
+
+        boolean isDead(long now) {
+            return now >= staleUntil;
+        }
+    }
+
+    public TourCacheService(Environment environment,
+            @Value("${tourism.cache.max-entries:500}") int maxEntries,
+            @Value("${tourism.cache.max-bytes:67108864}") long maxBytes,
+            @Value("${tourism.cache.load-wait-ms:15000}") long loadWaitMs) {
+        this.environment = environment;
+        this.maxEntries = maxEntries;
+        this.maxBytes = maxBytes;
+        this.loadWaitMs = loadWaitMs;
+    }
+
     public Optional<Object> get(String key) {
-        LocalDateTime cached = cacheTime.get(key);
-        if (cached != null && cached.plusMinutes(CACHE_MINUTES).isAfter(LocalDateTime.now())) {
-            return Optional.ofNullable(cache.get(key));
+        long now = System.currentTimeMillis();
+        synchronized (this) {
+            CacheEntry entry = cache.get(key);
+            if (entry == null) {
+                misses.increment();
+                return Optional.empty();
+            }
+            if (entry.isExpired(now)) {
+                if (entry.isDead(now)) {
+                    removeEntry(key);
+                    expirations.increment();
+                }
+                misses.increment();
+                return Optional.empty();
+            }
+            hits.increment();
+            return Optional.ofNullable(entry.value());
         }
-        cache.remove(key);
-        cacheTime.remove(key);
-        return Optional.empty();
     }
-    
+
+    /**
+     * 캐시 조회 후 없으면 loader로 로딩
+     * - 같은 키를 동시에 로딩 중이면 그 결과를 함께 기다림
+     * - TTL이 지났지만 stale 구간이면 기존 값을 바로 반환하고 백그라운드에서 갱신
+     * - loader가 null을 반환하면(실패) 캐시하지 않음
+     * - 다른 곳에서 시작한 로딩을 load-wait-ms 안에 받지 못하면 null
+     */
+    public <T> T getOrLoad(String key, Supplier<T> loader) {
+        return getOrLoad(key, loader, value -> ttlFor(key));
+    }
+
+    /**
+     * getOrLoad + 로딩 결과에 따라 TTL 결정 (예: 수정시각이 오래된 상세정보는 길게)
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T getOrLoad(String key, Supplier<T> loader, Function<T, Duration> ttlOf) {
+        long now = System.currentTimeMillis();
+        CacheEntry entry;
+        synchronized (this) {
+            entry = cache.get(key);
+            if (entry != null && entry.isDead(now)) {
+                removeEntry(key);
+                expirations.increment();
+                entry = null;
+            }
+        }
+
+        if (entry != null && !entry.isExpired(now)) {
+            hits.increment();
+            return (T) entry.value();
+        }
+
+        if (entry != null) {
+            staleHits.increment();
+            log.debug("stale 캐시 반환 후 백그라운드 갱신: {}", key);
+            load(key, loader, ttlOf, true);
+            return (T) entry.value();
+        }
+
+        misses.increment();
+        // 직접 시작한 로딩은 현재 스레드에서 끝난 뒤 반환되므로 기다리는 경우는 다른 곳에서 시작한 로딩뿐
+        CompletableFuture<Object> future = load(key, loader, ttlOf, false);
+        try {
+            return (T) future.get(loadWaitMs, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            loadWaitTimeouts.increment();
+            log.warn("⏱️ 캐시 로딩 대기 시간 초과 ({}ms): {}", loadWaitMs, key);
+            return null;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return null;
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new CompletionException(e.getCause());
+        }
+    }
+
+    /**
+     * 기다리지 않는 조회 (페이지 렌더링처럼 로딩을 기다리면 안 되는 호출부용)
+     * - 값이 있으면(stale 구간 포함) 바로 반환, stale이면 백그라운드 갱신
+     * - 없으면 백그라운드 로딩을 시작하고 null 반환
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T getOrLoadAsync(String key, Supplier<T> loader) {
+        long now = System.currentTimeMillis();
+        CacheEntry entry;
+        synchronized (this) {
+            entry = cache.get(key);
+            if (entry != null && entry.isDead(now)) {
+                removeEntry(key);
+                expirations.increment();
+                entry = null;
+            }
+        }
+
+        if (entry != null && !entry.isExpired(now)) {
+            hits.increment();
+            return (T) entry.value();
+        }
+
+        Function<T, Duration> ttlOf = value -> ttlFor(key);
+        if (entry != null) {
+            staleHits.increment();
+            load(key, loader, ttlOf, true);
+            return (T) entry.value();
+        }
+
+        misses.increment();
+        load(key, loader, ttlOf, true);
+        return null;
+    }
+
+    /**
+     * 만료 전 갱신 (캐시 예열용) - 값이 있어도 현재 스레드에서 loader를 실행해 교체
+     * 같은 키를 이미 로딩 중이면(사용자 미스, stale 갱신) 새로 실행하지 않고 그 로딩의 Future를 반환
+     */
+    public <T> CompletableFuture<Object> refresh(String key, Supplier<T> loader) {
+        return load(key, loader, value -> ttlFor(key), false);
+    }
+
+    /**
+     * 키별 로딩 단일화 - 이미 진행 중인 로딩이 있으면 그 Future를 반환
+     */
+    private <T> CompletableFuture<Object> load(String key, Supplier<T> loader, Function<T, Duration> ttlOf,
+            boolean background) {
+        CompletableFuture<Object> created = new CompletableFuture<>();
+        CompletableFuture<Object> existing = inFlight.putIfAbsent(key, created);
+        if (existing != null) {
+            coalescedLoads.increment();
+            return existing;
+        }
+
+        Runnable task = () -> {
+            try {
+                loads.increment();
+                T value = loader.get();
+                if (value != null) {
+                    put(key, value, ttlOf.apply(value));
+                } else {
+                    loadFailures.increment();
+                }
+                created.complete(value);
+            } catch (Throwable t) {
+                loadFailures.increment();
+                log.warn("캐시 로딩 실패: {} - {}", key, t.getMessage());
+                created.completeExceptionally(t);
+            } finally {
+                inFlight.remove(key, created);
+            }
+        };
+
+        if (!background) {
+            task.run();
+            return created;
+        }
+
+        try {
+            cacheRefreshExecutor.execute(task);
+        } catch (RejectedExecutionException e) {
+            // 갱신 대기열이 가득 차면 이번 갱신은 건너뛰고 다음 요청에서 다시 시도
+            inFlight.remove(key, created);
+            created.complete(null);
+        }
+        return created;
+    }
+
     public void put(String key, Object value) {
-        cache.put(key, value);
-        cacheTime.put(key, LocalDateTime.now());
+        put(key, value, ttlFor(key));
     }
-    
-    public void clear() {
+
+    /**
+     * 키별 TTL 지정 저장
+     */
+    public void put(String key, Object value, Duration ttl) {
+        // 크기 추정은 락 밖에서 수행
+        long bytes = estimateBytes(key) + estimateBytes(value);
+        if (bytes > maxBytes) {
+            log.warn("캐시 항목이 너무 커서 저장하지 않음: key={}, 약 {}바이트", key, bytes);
+            return;
+        }
+
+        long expiresAt = System.currentTimeMillis() + ttl.toMillis();
+        CacheEntry entry = new CacheEntry(value, expiresAt, expiresAt + staleWindowFor(key).toMillis(), bytes);
+        synchronized (this) {
+            CacheEntry previous = cache.put(key, entry);
+            if (previous != null) {
+                totalBytes -= previous.bytes();
+            }
+            totalBytes += bytes;
+            evictIfNecessary();
+        }
+    }
+
+    public synchronized void clear() {
         cache.clear();
-        cacheTime.clear();
+        totalBytes = 0;
+    }
+
+    public synchronized void remove(String key) {
+        removeEntry(key);
     }
-    
-    public void remove(String key) {
-        cache.remove(key);
-        cacheTime.remove(key);
+
+    /**
+     * 만료 항목 백그라운드 정리
+     */
+    @Scheduled(fixedDelayString = "${tourism.cache.cleanup-interval-ms:60000}")
+    public void evictExpired() {
+        long now = System.currentTimeMillis();
+        int removed = 0;
+        synchronized (this) {
+            Iterator<Map.Entry<String, CacheEntry>> iterator = cache.entrySet().iterator();
+            while (iterator.hasNext()) {
+                Map.Entry<String, CacheEntry> entry = iterator.next();
+                if (entry.getValue().isDead(now)) {
+                    totalBytes -= entry.getValue().bytes();
+                    iterator.remove();
+                    removed++;
+                }
+            }
+        }
+        if (removed > 0) {
+            expirations.add(removed);
+            log.debug("만료 캐시 {}개 정리", removed);
+        }
+    }
+
+    public Map<String, Object> getStats() {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        synchronized (this) {
+            stats.put("entries", cache.size());
+            stats.put("estimatedBytes", totalBytes);
+        }
+        stats.put("maxEntries", maxEntries);
+        stats.put("maxBytes", maxBytes);
+        stats.put("hits", hits.sum());
+        stats.put("misses", misses.sum());
+        stats.put("evictions", evictions.sum());
+        stats.put("expirations", expirations.sum());
+        stats.put("staleHits", staleHits.sum());
+        stats.put("loads", loads.sum());
+        stats.put("coalescedLoads", coalescedLoads.sum());
+        stats.put("loadFailures", loadFailures.sum());
+        stats.put("loadWaitTimeouts", loadWaitTimeouts.sum());
+        stats.put("inFlight", inFlight.size());
+        return stats;
+    }
+
+    /**
+     * 남은 유효 시간(ms), 없거나 만료됐으면 0 (조회 통계에는 반영하지 않음)
+     * 캐시 예열 작업이 만료 전에 갱신할 시점을 정할 때 사용
+     */
+    public long remainingTtlMillis(String key) {
+        long now = System.currentTimeMillis();
+        synchronized (this) {
+            CacheEntry entry = cache.get(key);
+            return entry != null ? Math.max(0, entry.expiresAt() - now) : 0;
+        }
+    }
+
+    public Duration getTtl(String key) {
+        return ttlFor(key);
+    }
+
+    /**
+     * 키 접두어(첫 '_'까지)로 TTL 결정
+     * 예) tour_culture → tourism.cache.ttl-minutes.tour_
+     */
+    private Duration ttlFor(String key) {
+        synchronized (namespaceTtls) {
+            return namespaceTtls.computeIfAbsent(namespaceOf(key), ns -> Duration.ofMinutes(
+                    environment.getProperty("tourism.cache.ttl-minutes." + ns, Long.class,
+                            (long) DEFAULT_CACHE_MINUTES)));
+        }
+    }
+
+    private Duration staleWindowFor(String key) {
+        synchronized (namespaceStaleWindows) {
+            return namespaceStaleWindows.computeIfAbsent(namespaceOf(key), ns -> Duration.ofMinutes(
+                    environment.getProperty("tourism.cache.stale-minutes." + ns, Long.class,
+                            (long) DEFAULT_STALE_MINUTES)));
+        }
+    }
+
+    private static String namespaceOf(String key) {
+        int separator = key.indexOf('_');
+        return separator >= 0 ? key.substring(0, separator + 1) : key;
+    }
+
+    private void removeEntry(String key) {
+        CacheEntry removed = cache.remove(key);
+        if (removed != null) {
+            totalBytes -= removed.bytes();
+        }
+    }
+
+    private void evictIfNecessary() {
+        Iterator<Map.Entry<String, CacheEntry>> iterator = cache.entrySet().iterator();
+        while ((cache.size() > maxEntries || totalBytes > maxBytes) && iterator.hasNext()) {
+            Map.Entry<String, CacheEntry> eldest = iterator.next();
+            totalBytes -= eldest.getValue().bytes();
+            iterator.remove();
+            evictions.increment();
+            log.debug("캐시 LRU 제거: {}", eldest.getKey());
+        }
+    }
+
+    // ========================================
+    // 크기 추정 (정확한 값이 아닌 힙 사용량 근사치)
+    // ========================================
+
+    // 필드를 따라가며 크기를 추정하는 값: 레코드 + 애플리케이션 DTO (그 외 객체는 고정값)
+    private static final String APP_PACKAGE = "com.example.act2gether.";
+
+    // 레코드/DTO 클래스별 인스턴스 필드 (레코드 컴포넌트도 private final 필드)
+    private static final ClassValue<Field[]> VALUE_FIELDS = new ClassValue<>() {
+        @Override
+        protected Field[] computeValue(Class<?> type) {
+            List<Field> fields = new ArrayList<>();
+            for (Class<?> current = type; current != null && isSizedByFields(current); current = current.getSuperclass()) {
+                for (Field field : current.getDeclaredFields()) {
+                    if (Modifier.isStatic(field.getModifiers())) {
+                        continue;
+                    }
+                    try {
+                        field.setAccessible(true);
+                        fields.add(field);
+                    } catch (RuntimeException e) {
+                        log.debug("캐시 크기 추정에서 제외한 필드: {}.{}", current.getName(), field.getName());
+                    }
+                }
+            }
+            return fields.toArray(new Field[0]);
+        }
+    };
+
+    private static long estimateBytes(Object value) {
+        return estimateBytes(value, 0);
+    }
+
+    private static long estimateBytes(Object value, int depth) {
+        if (value == null) {
+            return 8;
+        }
+        if (depth > 32) {
+            return 64;
+        }
+        if (value instanceof String text) {
+            return 40 + 2L * text.length();
+        }
+        if (value instanceof Number || value instanceof Boolean || value instanceof Character) {
+            return 16;
+        }
+        if (value instanceof Enum<?>) {
+            return 8;
+        }
+        if (value instanceof JsonNode node) {
+            return estimateJsonBytes(node, depth);
+        }
+        if (value instanceof Map<?, ?> map) {
+            long bytes = 48;
+            for (Map.Entry<?, ?> entry : map.entrySet()) {
+                bytes += 32 + estimateBytes(entry.getKey(), depth + 1) + estimateBytes(entry.getValue(), depth + 1);
+            }
+            return bytes;
+        }
+        if (value instanceof Collection<?> collection) {
+            long bytes = 40;
+            for (Object item : collection) {
+                bytes += 8 + estimateBytes(item, depth + 1);
+            }
+            return bytes;
+        }
+        if (value instanceof Object[] array) {
+            long bytes = 16;
+            for (Object item : array) {
+                bytes += 8 + estimateBytes(item, depth + 1);
+            }
+            return bytes;
+        }
+        if (isSizedByFields(value.getClass())) {
+            return estimateObjectBytes(value, depth);
+        }
+        return 64;
+    }
+
+    /**
+     * 레코드(Recommendations 등) / DTO(TourDTO 등): 객체 헤더 + 필드 값 합산
+     */
+    private static long estimateObjectBytes(Object value, int depth) {
+        long bytes = 16;
+        for (Field field : VALUE_FIELDS.get(value.getClass())) {
+            try {
+                bytes += 8 + estimateBytes(field.get(value), depth + 1);
+            } catch (IllegalAccessException e) {
+                bytes += 64;
+            }
+        }
+        return bytes;
+    }
+
+    private static boolean isSizedByFields(Class<?> type) {
+        return type.isRecord() || type.getName().startsWith(APP_PACKAGE);
+    }
+
+    private static long estimateJsonBytes(JsonNode node, int depth) {
+        if (node.isObject()) {
+            long bytes = 48;
+            for (Map.Entry<String, JsonNode> field : node.properties()) {
+                bytes += 32 + 40 + 2L * field.getKey().length() + estimateBytes(field.getValue(), depth + 1);
+            }
+            return bytes;
+        }
+        if (node.isArray()) {
+            long bytes = 40;
+            for (JsonNode item : node) {
+                bytes += 8 + estimateBytes(item, depth + 1);
+            }
+            return bytes;
+        }
+        if (node.isTextual()) {
+            return 56 + 2L * node.textValue().length();
+        }
+        return 24;
     }
-}
\ No newline at end of file
+}
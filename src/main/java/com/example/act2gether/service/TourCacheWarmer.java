@@ -0,0 +1,264 @@
+package com.example.act2gether.service;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Supplier;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 메인 페이지 투어 캐시 예열
+ * - 대상: 여행 타입별 투어(tour_<타입>), 현재 계절 테마 투어(seasonal_<계절>)
+ *   선호 지역별 키(tour_<타입>_<지역코드>)는 예열하지 않음 (타입 × 17개 지역을 계속 갱신하면 일일 호출 한도를 소모)
+ *   해당 사용자는 첫 요청에서 생성하고, 이후 만료 시에는 stale 값 반환 + 백그라운드 갱신(TourCacheService)
+ *   계절이 바뀌기 season-lookahead-days 전부터는 다음 계절 투어도 함께 생성
+ * - 시작 시 startup-spread-ms 안에 나누어 생성하고, 이후에는 TTL의 refresh-ratio 지점에서 만료 전에 다시 생성
+ *   (키마다 TTL의 jitter-ratio 범위에서 갱신 시점을 흩어 한꺼번에 API를 호출하지 않도록 함)
+ * - 사용자 요청으로 이미 갱신된 키는 남은 TTL 기준으로 다음 갱신 시점만 다시 계산
+ * - 생성은 스케줄러 스레드가 아닌 cacheRefreshExecutor에서 실행
+ *   TourCacheService.refresh를 거치므로 사용자 미스로 이미 같은 키를 생성 중이면 중복 생성하지 않고 다음 주기에 다시 판단
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class TourCacheWarmer {
+
+    @Value("${tourism.cache.warm.enabled:true}")
+    private boolean enabled;
+
+    @Value("${tourism.cache.warm.refresh-ratio:0.8}")
+    private double refreshRatio;
+
+    @Value("${tourism.cache.warm.jitter-ratio:0.1}")
+    private double jitterRatio;
+
+    @Value("${tourism.cache.warm.startup-spread-ms:30000}")
+    private long startupSpreadMs;
+
+    @Value("${tourism.cache.warm.retry-ms:120000}")
+    private long retryMs;
+
+    @Value("${tourism.cache.warm.season-lookahead-days:3}")
+    private int seasonLookaheadDays;
+
+    private final TourRecommendationService recommendationService;
+    private final TourCacheService cacheService;
+
+    @Autowired
+    @Qualifier("cacheRefreshExecutor")
+    private Executor cacheRefreshExecutor;
+
+    private final Map<String, WarmTarget> targets = new ConcurrentHashMap<>();
+
+    private volatile boolean started = false;
+
+    private static final class WarmTarget {
+        final String key;
+        final Supplier<Object> loader;
+        final AtomicBoolean running = new AtomicBoolean(false);
+        volatile long nextRefreshAt;
+        volatile long leadMillis;
+        volatile long lastSuccessAt;
+        volatile long lastDurationMs;
+        volatile boolean lastFailed;
+        volatile int failures;
+
+        WarmTarget(String key, Supplier<Object> loader) {
+            this.key = key;
+            this.loader = loader;
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmOnStartup() {
+        if (!enabled) {
+            log.info("캐시 예열 비활성화");
+            return;
+        }
+
+        long now = System.currentTimeMillis();
+        List<WarmTarget> current = currentTargets();
+        current.forEach(target -> target.nextRefreshAt = now + randomMillis(startupSpreadMs));
+        started = true;
+        log.info("🔥 캐시 예열 시작: {}개 키, {}ms 안에 나누어 생성", current.size(), startupSpreadMs);
+
+        refreshDueTargets();
+    }
+
+    /**
+     * 갱신 시점이 된 키만 생성 작업으로 넘김 (스케줄러 스레드에서는 판단만)
+     */
+    @Scheduled(initialDelayString = "${tourism.cache.warm.tick-ms:15000}",
+            fixedDelayString = "${tourism.cache.warm.tick-ms:15000}")
+    public void refreshDueTargets() {
+        if (!enabled || !started) {
+            return;
+        }
+
+        long now = System.currentTimeMillis();
+        for (WarmTarget target : currentTargets()) {
+            if (target.running.get()) {
+                continue;
+            }
+
+            long remaining = cacheService.remainingTtlMillis(target.key);
+            // 한 번 생성한 키가 LRU 제거/무효화로 사라졌으면 예정 시점을 기다리지 않음
+            boolean evicted = remaining == 0 && target.lastSuccessAt > 0 && !target.lastFailed;
+            if (now < target.nextRefreshAt && !evicted) {
+                continue;
+            }
+
+            // 다른 요청이 이미 갱신했으면 남은 TTL 기준으로 다음 시점만 다시 계산
+            if (remaining > target.leadMillis) {
+                target.nextRefreshAt = now + remaining - target.leadMillis;
+                continue;
+            }
+
+            submit(target);
+        }
+    }
+
+    public Map<String, Object> getStatus() {
+        long now = System.currentTimeMillis();
+        Map<String, Object> status = new LinkedHashMap<>();
+        status.put("enabled", enabled);
+        status.put("started", started);
+
+        Map<String, Object> keys = new LinkedHashMap<>();
+        targets.values().stream()
+                .sorted((a, b) -> a.key.compareTo(b.key))
+                .forEach(target -> {
+                    Map<String, Object> item = new LinkedHashMap<>();
+                    item.put("running", target.running.get());
+                    item.put("nextRefreshInSec", Math.max(0, (target.nextRefreshAt - now) / 1000));
+                    item.put("remainingTtlSec", cacheService.remainingTtlMillis(target.key) / 1000);
+                    item.put("lastSuccessAt", target.lastSuccessAt);
+                    item.put("lastDurationMs", target.lastDurationMs);
+                    item.put("failures", target.failures);
+                    keys.put(target.key, item);
+                });
+        status.put("targets", keys);
+        return status;
+    }
+
+    private void submit(WarmTarget target) {
+        if (!target.running.compareAndSet(false, true)) {
+            return;
+        }
+
+        try {
+            cacheRefreshExecutor.execute(() -> refresh(target));
+        } catch (RejectedExecutionException e) {
+            // 갱신 대기열이 가득 차면 다음 주기에서 다시 시도
+            target.running.set(false);
+        }
+    }
+
+    private void refresh(WarmTarget target) {
+        long startedAt = System.currentTimeMillis();
+        try {
+            CompletableFuture<Object> loading = cacheService.refresh(target.key, target.loader);
+            if (!loading.isDone()) {
+                // 다른 요청이 생성 중 → 끝나면 다음 주기에서 남은 TTL 기준으로 다시 계산
+                log.debug("캐시 예열 건너뜀 (다른 요청이 생성 중): {}", target.key);
+                return;
+            }
+
+            Object value = loading.join();
+            long finishedAt = System.currentTimeMillis();
+            target.lastDurationMs = finishedAt - startedAt;
+
+            if (value != null) {
+                target.lastSuccessAt = finishedAt;
+                target.lastFailed = false;
+                target.leadMillis = refreshLeadMillis(target.key);
+                target.nextRefreshAt = finishedAt + cacheService.getTtl(target.key).toMillis()
+                        - target.leadMillis;
+                log.info("🔥 캐시 예열: {} ({}ms)", target.key, target.lastDurationMs);
+            } else {
+                markFailed(target, finishedAt, "생성 결과 없음");
+            }
+
+        } catch (Exception e) {
+            markFailed(target, System.currentTimeMillis(), e.getMessage());
+        } finally {
+            target.running.set(false);
+        }
+    }
+
+    private void markFailed(WarmTarget target, long now, String reason) {
+        target.lastFailed = true;
+        target.failures++;
+        target.nextRefreshAt = now + retryMs + randomMillis((long) (retryMs * jitterRatio));
+        log.warn("캐시 예열 실패: {} - {} ({}초 후 재시도)", target.key, reason,
+                (target.nextRefreshAt - now) / 1000);
+    }
+
+    /**
+     * 만료 몇 ms 전에 갱신할지: TTL × (1 - refresh-ratio) + 키마다 다른 지터
+     */
+    private long refreshLeadMillis(String key) {
+        long ttlMillis = cacheService.getTtl(key).toMillis();
+        return (long) (ttlMillis * (1 - refreshRatio)) + randomMillis((long) (ttlMillis * jitterRatio));
+    }
+
+    /**
+     * 지금 예열할 키 목록 (계절이 바뀌면 지난 계절 키는 제외)
+     */
+    private List<WarmTarget> currentTargets() {
+        List<WarmTarget> current = new ArrayList<>();
+
+        for (String travelType : TourRecommendationService.TRAVEL_TYPES) {
+            current.add(target(TourRecommendationService.travelTypeCacheKey(travelType),
+                    () -> recommendationService.buildTravelTypeTours(travelType, "")));
+        }
+
+        LocalDate today = LocalDate.now();
+        String season = recommendationService.seasonOf(today);
+        String upcoming = recommendationService.seasonOf(today.plusDays(seasonLookaheadDays));
+        current.add(seasonalTarget(season));
+        if (!upcoming.equals(season)) {
+            current.add(seasonalTarget(upcoming));
+        }
+
+        targets.keySet().retainAll(current.stream().map(target -> target.key).toList());
+        return current;
+    }
+
+    private WarmTarget seasonalTarget(String season) {
+        return target(TourRecommendationService.seasonalCacheKey(season),
+                () -> recommendationService.buildSeasonalTours(season));
+    }
+
+    private WarmTarget target(String key, Supplier<Object> loader) {
+        return targets.computeIfAbsent(key, k -> {
+            WarmTarget created = new WarmTarget(k, loader);
+            created.leadMillis = refreshLeadMillis(k);
+            // 실행 중에 새로 추가된 키(다음 계절)는 다음 주기에 바로 생성
+            created.nextRefreshAt = System.currentTimeMillis();
+            return created;
+        });
+    }
+
+    private static long randomMillis(long bound) {
+        return bound > 0 ? ThreadLocalRandom.current().nextLong(bound) : 0;
+    }
+}
@@ -0,0 +1,433 @@
+package com.example.act2gether.service;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import com.example.act2gether.service.BarrierFreeStore.BarrierFreeRecord;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 지역 × 장소별 관광지 후보 풀 (메인/맞춤 투어 즉시 생성용)
+ * - 카탈로그 색인, 무장애 저장소, 분류 체계 중 하나라도 바뀌면 백그라운드에서 다시 구성 (API 호출 없음)
+ * - 풀마다 시군구별로 묶고, 시군구 안에서는 가중치(이미지 품질 + 접근성 점수) 내림차순으로 정렬한 배열로 보관
+ *   (관광지 배열 + 누적 가중치 배열 + 시군구 경계 배열, 무장애 정보는 구성 시 통합)
+ * - 요청 시에는 여러 장소 풀에서 가중치에 비례해 중복 없이 추출
+ * - 후보가 모자라면 빈 목록 → 호출부에서 기존 검색으로 대체
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class TourCandidatePools {
+
+    // 한 개를 뽑을 때 중복으로 다시 뽑는 최대 횟수 (넘으면 순위 순서로 채움)
+    private static final int MAX_ATTEMPTS_PER_PICK = 8;
+
+    @Value("${tourism.pools.enabled:true}")
+    private boolean enabled;
+
+    // 가중치 = 1 + image-weight × 이미지 품질(0~1) + accessibility-weight × 접근성 점수(0~1)
+    @Value("${tourism.pools.image-weight:3.0}")
+    private double imageWeight;
+
+    @Value("${tourism.pools.accessibility-weight:2.0}")
+    private double accessibilityWeight;
+
+    private final TourCatalogService catalogService;
+    private final BarrierFreeStore barrierFreeStore;
+    private final BarrierFreeService barrierFreeService;
+    private final TourTaxonomyService taxonomy;
+
+    // 풀 구성은 스케줄러 스레드를 오래 잡지 않도록 동기화 풀에서 실행
+    @Autowired
+    @Qualifier("tourSyncExecutor")
+    private Executor tourSyncExecutor;
+
+    private final AtomicBoolean rebuilding = new AtomicBoolean(false);
+
+    private volatile PoolIndex index = PoolIndex.EMPTY;
+
+    /**
+     * 풀 구성에 사용한 원본 버전 (하나라도 다르면 다시 구성)
+     */
+    private record SourceVersion(long catalogSyncedAt, long barrierFreeSyncedAt, long taxonomyLoadedAt) {
+    }
+
+    // ========================================
+    // 풀 구성
+    // ========================================
+
+    @Scheduled(initialDelayString = "${tourism.pools.initial-delay-ms:5000}",
+            fixedDelayString = "${tourism.pools.check-interval-ms:60000}")
+    public void rebuildIfChanged() {
+        if (!enabled || !catalogService.isReady()) {
+            return;
+        }
+
+        SourceVersion version = new SourceVersion(catalogService.getSyncedAt(), barrierFreeStore.getSyncedAt(),
+                taxonomy.getLoadedAt());
+        if (version.equals(index.version) || !rebuilding.compareAndSet(false, true)) {
+            return;
+        }
+
+        try {
+            tourSyncExecutor.execute(() -> {
+                try {
+                    rebuild(version);
+                } finally {
+                    rebuilding.set(false);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            // 동기화 풀이 가득 차면 다음 주기에서 다시 시도
+            rebuilding.set(false);
+        }
+    }
+
+    private void rebuild(SourceVersion version) {
+        try {
+            long startedAt = System.currentTimeMillis();
+            Map<String, CandidatePool> pools = new HashMap<>();
+            int spotCount = 0;
+
+            for (String areaCode : taxonomy.areaCodes()) {
+                for (String place : taxonomy.placeNames()) {
+                    List<TourSpot> spots = new ArrayList<>();
+                    for (String cat3 : taxonomy.placeCat3Codes(place)) {
+                        spots.addAll(catalogService.find(areaCode, null, null, null, cat3));
+                    }
+                    if (spots.isEmpty()) {
+                        continue;
+                    }
+
+                    CandidatePool pool = buildPool(spots);
+                    pools.put(poolKey(areaCode, place), pool);
+                    spotCount += pool.size();
+                }
+            }
+
+            index = new PoolIndex(pools, version, System.currentTimeMillis(), spotCount);
+            log.info("🎯 후보 풀 구성 완료: {}개 풀, {}개 관광지, {}ms",
+                    pools.size(), spotCount, System.currentTimeMillis() - startedAt);
+
+        } catch (Exception e) {
+            log.error("❌ 후보 풀 구성 실패 - 기존 풀 유지: {}", e.getMessage(), e);
+        }
+    }
+
+    private CandidatePool buildPool(List<TourSpot> spots) {
+        Map<String, BarrierFreeRecord> records = barrierFreeStore.findAll(
+                spots.stream().map(TourSpot::contentId).toList());
+
+        List<TourSpot> enriched = new ArrayList<>(spots.size());
+        Map<String, Double> weights = new HashMap<>();
+        for (TourSpot spot : spots) {
+            BarrierFreeRecord record = records.get(spot.contentId());
+            TourSpot candidate = record != null && record.hasInfo()
+                    ? spot.withBarrierFree(true, record.accessibilityScore(), record.featureMask(),
+                            barrierFreeService.toJson(record.features()))
+                    : spot;
+            enriched.add(candidate);
+            weights.put(candidate.contentId(), weightOf(candidate));
+        }
+
+        // 시군구별로 묶고, 시군구 안에서는 가중치 내림차순
+        enriched.sort(Comparator.comparing(TourSpot::sigunguCode)
+                .thenComparing(spot -> weights.get(spot.contentId()), Comparator.reverseOrder())
+                .thenComparing(TourSpot::contentId));
+
+        TourSpot[] sorted = enriched.toArray(new TourSpot[0]);
+        double[] cumulative = new double[sorted.length];
+        List<String> sigunguCodes = new ArrayList<>();
+        List<Integer> sigunguStarts = new ArrayList<>();
+        double sum = 0;
+        for (int i = 0; i < sorted.length; i++) {
+            sum += weights.get(sorted[i].contentId());
+            cumulative[i] = sum;
+            if (i == 0 || !sorted[i].sigunguCode().equals(sorted[i - 1].sigunguCode())) {
+                sigunguCodes.add(sorted[i].sigunguCode());
+                sigunguStarts.add(i);
+            }
+        }
+        sigunguStarts.add(sorted.length);
+
+        return new CandidatePool(sorted, cumulative, sigunguCodes.toArray(new String[0]),
+                sigunguStarts.stream().mapToInt(Integer::intValue).toArray());
+    }
+
+    private double weightOf(TourSpot spot) {
+        return 1 + imageWeight * imageQuality(spot) / 2.0
+                + accessibilityWeight * Math.min(100, Math.max(0, spot.accessibilityScore())) / 100.0;
+    }
+
+    /**
+     * 이미지 품질 (2: 대표 이미지, 1: 보조 이미지만, 0: 없음) - 검색의 균형 선별과 같은 기준
+     */
+    private static int imageQuality(TourSpot spot) {
+        if (isGoodImage(spot.firstImage())) {
+            return 2;
+        }
+        return isGoodImage(spot.firstImage2()) ? 1 : 0;
+    }
+
+    private static boolean isGoodImage(String imageUrl) {
+        return imageUrl != null && imageUrl.startsWith("http") && !imageUrl.contains("no-image");
+    }
+
+    // ========================================
+    // 추출
+    // ========================================
+
+    public boolean isReady() {
+        return enabled && index.size() > 0;
+    }
+
+    /**
+     * 지역 전체에서 count개 추출 (후보가 모자라면 빈 목록)
+     */
+    public List<TourSpot> sample(String areaCode, Collection<String> places, int count) {
+        List<Slice> slices = new ArrayList<>();
+        for (CandidatePool pool : poolsOf(areaCode, places)) {
+            slices.add(new Slice(pool, 0, pool.size()));
+        }
+        return sampleFrom(slices, count);
+    }
+
+    /**
+     * 한 시군구에서 count개 추출 (후보가 count개 이상인 시군구 중 가중치 합에 비례해 선택, 없으면 빈 목록)
+     */
+    public List<TourSpot> sampleSameSigungu(String areaCode, Collection<String> places, int count) {
+        Map<String, List<Slice>> bySigungu = new LinkedHashMap<>();
+        for (CandidatePool pool : poolsOf(areaCode, places)) {
+            for (int i = 0; i < pool.sigunguCodes.length; i++) {
+                bySigungu.computeIfAbsent(pool.sigunguCodes[i], code -> new ArrayList<>())
+                        .add(new Slice(pool, pool.sigunguStarts[i], pool.sigunguStarts[i + 1]));
+            }
+        }
+
+        List<List<Slice>> eligible = new ArrayList<>();
+        List<Double> eligibleWeights = new ArrayList<>();
+        double total = 0;
+        for (List<Slice> slices : bySigungu.values()) {
+            if (distinctCount(slices, count) >= count) {
+                double weight = weightOf(slices);
+                eligible.add(slices);
+                eligibleWeights.add(weight);
+                total += weight;
+            }
+        }
+        if (eligible.isEmpty()) {
+            return List.of();
+        }
+
+        double target = ThreadLocalRandom.current().nextDouble(total);
+        for (int i = 0; i < eligible.size(); i++) {
+            target -= eligibleWeights.get(i);
+            if (target < 0 || i == eligible.size() - 1) {
+                return sampleFrom(eligible.get(i), count);
+            }
+        }
+        return List.of();
+    }
+
+    /**
+     * 분류(cat1)에 속한 장소명 (관심 테마 → 풀 조회용)
+     */
+    public List<String> placesOfCategory(String cat1) {
+        List<String> places = new ArrayList<>();
+        for (String place : taxonomy.placeNames()) {
+            if (cat1.equals(taxonomy.themeCategory(taxonomy.placeTheme(place)))) {
+                places.add(place);
+            }
+        }
+        return places;
+    }
+
+    public Map<String, Object> getStatus() {
+        PoolIndex current = index;
+        Map<String, Object> status = new LinkedHashMap<>();
+        status.put("enabled", enabled);
+        status.put("ready", isReady());
+        status.put("poolCount", current.pools.size());
+        status.put("spotCount", current.spotCount);
+        status.put("builtAt", current.builtAt > 0 ? Instant.ofEpochMilli(current.builtAt).toString() : "");
+        return status;
+    }
+
+    private List<CandidatePool> poolsOf(String areaCode, Collection<String> places) {
+        if (areaCode == null || areaCode.isEmpty() || places == null) {
+            return List.of();
+        }
+
+        PoolIndex current = index;
+        List<CandidatePool> pools = new ArrayList<>();
+        // 다른 이름(예: 창질방)으로 저장된 관심사도 대표 장소명의 풀을 사용
+        Set<String> canonicalPlaces = new LinkedHashSet<>();
+        places.forEach(place -> canonicalPlaces.add(taxonomy.canonicalPlace(place)));
+        for (String place : canonicalPlaces) {
+            CandidatePool pool = current.pools.get(poolKey(areaCode, place));
+            if (pool != null) {
+                pools.add(pool);
+            }
+        }
+        return pools;
+    }
+
+    /**
+     * 가중치 비례 비복원 추출
+     * 같은 관광지가 여러 장소 풀에 있으면 다시 뽑고, 가중치가 한쪽에 몰려 계속 겹치면 순위 순서로 채움
+     */
+    private static List<TourSpot> sampleFrom(List<Slice> slices, int count) {
+        if (count <= 0 || distinctCount(slices, count) < count) {
+            return List.of();
+        }
+
+        double total = weightOf(slices);
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        List<TourSpot> picked = new ArrayList<>(count);
+        Set<String> pickedIds = new HashSet<>();
+
+        for (int attempt = 0; picked.size() < count && attempt < count * MAX_ATTEMPTS_PER_PICK; attempt++) {
+            double target = random.nextDouble(total);
+            for (Slice slice : slices) {
+                double weight = slice.weight();
+                if (target < weight) {
+                    TourSpot spot = slice.pick(target);
+                    if (pickedIds.add(spot.contentId())) {
+                        picked.add(spot);
+                    }
+                    break;
+                }
+                target -= weight;
+            }
+        }
+
+        for (Slice slice : slices) {
+            for (int i = slice.start; i < slice.end && picked.size() < count; i++) {
+                TourSpot spot = slice.pool.spots[i];
+                if (pickedIds.add(spot.contentId())) {
+                    picked.add(spot);
+                }
+            }
+        }
+
+        return picked.size() >= count ? picked : List.of();
+    }
+
+    /**
+     * 서로 다른 관광지 수 (여러 장소 풀에 같은 관광지가 있을 수 있으므로 contentId 기준, limit개까지만 셈)
+     */
+    private static int distinctCount(List<Slice> slices, int limit) {
+        if (slices.size() == 1) {
+            return slices.get(0).end - slices.get(0).start;
+        }
+
+        Set<String> ids = new HashSet<>();
+        for (Slice slice : slices) {
+            for (int i = slice.start; i < slice.end && ids.size() < limit; i++) {
+                ids.add(slice.pool.spots[i].contentId());
+            }
+        }
+        return ids.size();
+    }
+
+    private static double weightOf(List<Slice> slices) {
+        return slices.stream().mapToDouble(Slice::weight).sum();
+    }
+
+    private static String poolKey(String areaCode, String place) {
+        return areaCode + ":" + place;
+    }
+
+    // ========================================
+    // 불변 풀
+    // ========================================
+
+    /**
+     * 장소 1개 × 지역 1곳의 후보
+     *
+     * @param cumulative    spots 순서의 누적 가중치
+     * @param sigunguStarts 시군구별 시작 위치 (마지막 원소는 spots 길이)
+     */
+    private record CandidatePool(TourSpot[] spots, double[] cumulative, String[] sigunguCodes,
+            int[] sigunguStarts) {
+
+        int size() {
+            return spots.length;
+        }
+
+        double weightBefore(int position) {
+            return position > 0 ? cumulative[position - 1] : 0;
+        }
+    }
+
+    /**
+     * 풀의 일부 구간 (지역 전체 또는 시군구 하나)
+     */
+    private record Slice(CandidatePool pool, int start, int end) {
+
+        double weight() {
+            return pool.weightBefore(end) - pool.weightBefore(start);
+        }
+
+        /**
+         * 구간 안에서 누적 가중치가 offset을 넘는 첫 관광지 (이진 탐색)
+         */
+        TourSpot pick(double offset) {
+            double target = pool.weightBefore(start) + offset;
+            int low = start;
+            int high = end - 1;
+            while (low < high) {
+                int mid = (low + high) >>> 1;
+                if (pool.cumulative[mid] > target) {
+                    high = mid;
+                } else {
+                    low = mid + 1;
+                }
+            }
+            return pool.spots[low];
+        }
+    }
+
+    private static final class PoolIndex {
+
+        static final PoolIndex EMPTY = new PoolIndex(Collections.emptyMap(), null, 0L, 0);
+
+        final Map<String, CandidatePool> pools;
+        final SourceVersion version;
+        final long builtAt;
+        final int spotCount;
+
+        PoolIndex(Map<String, CandidatePool> pools, SourceVersion version, long builtAt, int spotCount) {
+            this.pools = pools;
+            this.version = version;
+            this.builtAt = builtAt;
+            this.spotCount = spotCount;
+        }
+
+        int size() {
+            return pools.size();
+        }
+    }
+}
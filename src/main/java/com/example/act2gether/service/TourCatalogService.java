@@ -0,0 +1,350 @@
+package com.example.act2gether.service;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import com.example.act2gether.service.TourApiResponseReader.Item;
+import com.example.act2gether.service.TourApiPageWalker.PageWalk;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 관광지(contentTypeId=12) 카탈로그 로컬 미러
+ * - areaBasedList2 전체 페이지를 주기적으로 병렬 수집(TourApiPageWalker)하여 contentid 기준으로 upsert,
+ *   로컬 스냅샷 파일로 보관 (중단된 수집은 체크포인트에서 이어받음)
+ * - areaCode / sigunguCode / cat1 / cat2 / cat3 역색인을 메모리에 구성
+ * - searchTours는 색인이 준비되어 있으면 관광공사 API를 호출하지 않고 색인에서 응답
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class TourCatalogService {
+
+    @Value("${tourism.api.key}")
+    private String serviceKey;
+
+    @Value("${tourism.api.base-url}")
+    private String baseUrl;
+
+    @Value("${tourism.catalog.enabled:true}")
+    private boolean enabled;
+
+    @Value("${tourism.catalog.snapshot-path:data/catalog/tour-catalog.json}")
+    private String snapshotPath;
+
+    @Value("${tourism.catalog.page-size:1000}")
+    private int pageSize;
+
+    @Value("${tourism.catalog.checkpoint-dir:data/catalog/checkpoint/tour}")
+    private String checkpointDir;
+
+    @Value("${tourism.catalog.max-age-hours:24}")
+    private long maxAgeHours;
+
+    private final TourApiPageWalker pageWalker;
+    private final LocalSnapshotStore snapshotStore;
+
+    @Autowired
+    @Qualifier("tourSyncExecutor")
+    private Executor tourSyncExecutor;
+
+    private final AtomicBoolean syncing = new AtomicBoolean(false);
+    private volatile CatalogIndex index = CatalogIndex.EMPTY;
+
+    /**
+     * 스냅샷 파일 구조 (동기화 시각 + 관광지 목록)
+     */
+    public record CatalogSnapshot(long syncedAt, List<TourSpot> items) {
+    }
+
+    // ========================================
+    // 시작 시 로드 및 주기 동기화
+    // ========================================
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadOnStartup() {
+        if (!enabled) {
+            log.info("관광지 카탈로그 미러 비활성화 - 실시간 API 사용");
+            return;
+        }
+
+        snapshotStore.read(snapshotPath, CatalogSnapshot.class).ifPresent(snapshot -> {
+            index = CatalogIndex.build(snapshot.items(), snapshot.syncedAt());
+            log.info("📦 카탈로그 스냅샷 로드: {}개 관광지 (동기화 {})", index.size(), index.syncedAtText());
+        });
+
+        if (isStale() || pageWalker.hasCheckpoint(checkpointDir)) {
+            tourSyncExecutor.execute(this::syncCatalog);
+        }
+    }
+
+    @Scheduled(cron = "${tourism.catalog.sync-cron:0 30 4 * * *}")
+    public void scheduledSync() {
+        if (enabled) {
+            tourSyncExecutor.execute(this::syncCatalog);
+        }
+    }
+
+    /**
+     * areaBasedList2 전체 페이지 동기화
+     * - 받은 항목을 contentid 기준으로 기존 색인에 upsert, 전체 목록에 없는 관광지는 삭제
+     * - 한 페이지라도 실패하면 기존 색인을 그대로 유지 (받은 페이지는 체크포인트에 남음)
+     */
+    public void syncCatalog() {
+        if (!syncing.compareAndSet(false, true)) {
+            log.info("카탈로그 동기화가 이미 진행 중");
+            return;
+        }
+
+        try {
+            long startedAt = System.currentTimeMillis();
+            String url = baseUrl + "/areaBasedList2" +
+                    "?serviceKey=" + serviceKey +
+                    "&MobileOS=ETC&MobileApp=Act2gether&_type=json" +
+                    "&contentTypeId=12";
+
+            PageWalk walk = pageWalker.walk("카탈로그", url, pageSize, checkpointDir);
+            if (walk == null) {
+                log.warn("❌ 카탈로그 동기화 중단 - 기존 색인 유지");
+                return;
+            }
+            if (walk.items().isEmpty()) {
+                log.warn("⚠️ 카탈로그 동기화 결과 없음 - 기존 색인 유지");
+                return;
+            }
+
+            CatalogIndex current = index;
+            Map<String, TourSpot> upserted = new LinkedHashMap<>();
+            int added = 0;
+            int updated = 0;
+            for (Item item : walk.items()) {
+                TourSpot spot = TourSpot.from(item);
+                if (spot.contentId().isEmpty() || upserted.containsKey(spot.contentId())) {
+                    continue;
+                }
+
+                Optional<TourSpot> existing = current.findByContentId(spot.contentId());
+                if (existing.isEmpty()) {
+                    added++;
+                } else if (!existing.get().modifiedTime().equals(spot.modifiedTime())) {
+                    updated++;
+                }
+                upserted.put(spot.contentId(), spot);
+            }
+            int removed = (int) current.items.stream()
+                    .filter(spot -> !upserted.containsKey(spot.contentId()))
+                    .count();
+
+            CatalogIndex newIndex = CatalogIndex.build(new ArrayList<>(upserted.values()),
+                    System.currentTimeMillis());
+            index = newIndex;
+            snapshotStore.write(snapshotPath, new CatalogSnapshot(newIndex.syncedAt, newIndex.items));
+
+            log.info("✅ 카탈로그 동기화 완료: {}개/{}개 ({}페이지, 이어받음 {}), 추가 {}, 변경 {}, 삭제 {}, {}ms",
+                    newIndex.size(), walk.totalCount(), walk.pageCount(), walk.resumedPages(),
+                    added, updated, removed, System.currentTimeMillis() - startedAt);
+
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (Exception e) {
+            log.error("❌ 카탈로그 동기화 실패: {}", e.getMessage(), e);
+        } finally {
+            syncing.set(false);
+        }
+    }
+
+    // ========================================
+    // 조회
+    // ========================================
+
+    public boolean isReady() {
+        return enabled && index.size() > 0;
+    }
+
+    /**
+     * 색인 조회 (null 조건은 무시)
+     * 반환 목록은 새로 만든 목록 (TourSpot은 불변이므로 그대로 전달 가능)
+     */
+    public List<TourSpot> find(String areaCode, String sigunguCode, String cat1, String cat2, String cat3) {
+        return index.find(areaCode, sigunguCode, cat1, cat2, cat3);
+    }
+
+    /**
+     * 관광지 수정시각 (상세정보 캐시 재검증용)
+     */
+    public Optional<String> findModifiedTime(String contentId) {
+        return index.findByContentId(contentId)
+                .map(TourSpot::modifiedTime)
+                .filter(modifiedTime -> !modifiedTime.isEmpty());
+    }
+
+    /**
+     * 색인 동기화 시각 (색인이 바뀌었는지 판단용, 색인이 없으면 0)
+     */
+    public long getSyncedAt() {
+        return index.syncedAt;
+    }
+
+    public Map<String, Object> getStatus() {
+        CatalogIndex current = index;
+        Map<String, Object> status = new LinkedHashMap<>();
+        status.put("enabled", enabled);
+        status.put("ready", isReady());
+        status.put("syncing", syncing.get());
+        status.put("itemCount", current.size());
+        status.put("syncedAt", current.syncedAtText());
+        return status;
+    }
+
+    private boolean isStale() {
+        CatalogIndex current = index;
+        if (current.size() == 0) {
+            return true;
+        }
+        long ageMillis = System.currentTimeMillis() - current.syncedAt;
+        return ageMillis > Duration.ofHours(maxAgeHours).toMillis();
+    }
+
+    // ========================================
+    // 역색인
+    // ========================================
+
+    private static final class CatalogIndex {
+
+        static final CatalogIndex EMPTY = new CatalogIndex(Collections.emptyList(), Collections.emptyMap(),
+                Collections.emptyMap(), 0L);
+
+        final List<TourSpot> items;
+        final Map<String, int[]> postings;
+        final Map<String, Integer> byContentId;
+        final long syncedAt;
+
+        private CatalogIndex(List<TourSpot> items, Map<String, int[]> postings, Map<String, Integer> byContentId,
+                long syncedAt) {
+            this.items = items;
+            this.postings = postings;
+            this.byContentId = byContentId;
+            this.syncedAt = syncedAt;
+        }
+
+        static CatalogIndex build(List<TourSpot> items, long syncedAt) {
+            if (items == null || items.isEmpty()) {
+                return EMPTY;
+            }
+
+            Map<String, List<Integer>> building = new HashMap<>();
+            Map<String, Integer> byContentId = new HashMap<>();
+            for (int i = 0; i < items.size(); i++) {
+                TourSpot item = items.get(i);
+                String areaCode = item.areaCode();
+                byContentId.put(item.contentId(), i);
+
+                addPosting(building, areaKey(areaCode), i);
+                addPosting(building, sigunguKey(areaCode, item.sigunguCode()), i);
+                addPosting(building, "c1:" + item.cat1(), i);
+                addPosting(building, "c2:" + item.cat2(), i);
+                addPosting(building, "c3:" + item.cat3(), i);
+            }
+
+            Map<String, int[]> postings = new HashMap<>();
+            building.forEach((key, ids) -> postings.put(key, ids.stream().mapToInt(Integer::intValue).toArray()));
+
+            return new CatalogIndex(List.copyOf(items), postings, byContentId, syncedAt);
+        }
+
+        private static void addPosting(Map<String, List<Integer>> building, String key, int id) {
+            building.computeIfAbsent(key, k -> new ArrayList<>()).add(id);
+        }
+
+        private static String areaKey(String areaCode) {
+            return "a:" + areaCode;
+        }
+
+        private static String sigunguKey(String areaCode, String sigunguCode) {
+            return "s:" + areaCode + ":" + sigunguCode;
+        }
+
+        int size() {
+            return items.size();
+        }
+
+        Optional<TourSpot> findByContentId(String contentId) {
+            Integer id = byContentId.get(contentId);
+            return id != null ? Optional.of(items.get(id)) : Optional.empty();
+        }
+
+        String syncedAtText() {
+            return syncedAt > 0 ? Instant.ofEpochMilli(syncedAt).toString() : "";
+        }
+
+        List<TourSpot> find(String areaCode, String sigunguCode, String cat1, String cat2, String cat3) {
+            List<int[]> lists = new ArrayList<>();
+
+            if (!isBlank(areaCode)) {
+                lists.add(postings.get(areaKey(areaCode)));
+                if (!isBlank(sigunguCode)) {
+                    lists.add(postings.get(sigunguKey(areaCode, sigunguCode)));
+                }
+            }
+            if (!isBlank(cat1)) {
+                lists.add(postings.get("c1:" + cat1));
+            }
+            if (!isBlank(cat2)) {
+                lists.add(postings.get("c2:" + cat2));
+            }
+            if (!isBlank(cat3)) {
+                lists.add(postings.get("c3:" + cat3));
+            }
+
+            if (lists.isEmpty()) {
+                return new ArrayList<>(items);
+            }
+            if (lists.contains(null)) {
+                return new ArrayList<>();
+            }
+
+            // 가장 짧은 목록을 기준으로 나머지 목록에 포함되는지 이진 탐색
+            lists.sort(Comparator.comparingInt(list -> list.length));
+            int[] smallest = lists.get(0);
+
+            List<TourSpot> results = new ArrayList<>();
+            for (int id : smallest) {
+                boolean matchesAll = true;
+                for (int i = 1; i < lists.size(); i++) {
+                    if (Arrays.binarySearch(lists.get(i), id) < 0) {
+                        matchesAll = false;
+                        break;
+                    }
+                }
+                if (matchesAll) {
+                    results.add(items.get(id));
+                }
+            }
+            return results;
+        }
+
+        private static boolean isBlank(String value) {
+            return value == null || value.isEmpty();
+        }
+    }
+}
@@ -0,0 +1,297 @@
+package com.example.act2gether.service;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.JsonNode;
+
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 관광지 상세정보 캐시 (contentId 단위, 2단계)
+ * - 1단계: 상세정보 전용 메모리 캐시 (detailCacheStore, tourism.detail-cache.max-entries/max-bytes로 제한, 동시 미스 단일화)
+ *   투어 결과 캐시와 분리하여 상세 조회가 많아도 예열한 tour_/seasonal_ 항목이 밀려나지 않음
+ * - 2단계: 로컬 스냅샷 파일 (재시작 후에도 유지, 주기적으로 저장)
+ *   파일에 쓸 항목은 메모리에도 들고 있으므로 저장 시점에 persistent-max-entries로 제한 (10% 여유 후 한 번에 정리)
+ * - TTL은 관광지 modifiedtime 기준 (최근 수정된 관광지일수록 짧게)
+ * - 만료 시 카탈로그의 modifiedtime이 그대로면 API 호출 없이 연장, 바뀌었으면 재조회
+ * - 재조회 시 이전 ETag를 전달하여 조건부 요청 가능 (304 응답 시 연장)
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class TourDetailCache {
+
+    private static final DateTimeFormatter MODIFIED_TIME_FORMAT = DateTimeFormatter.ofPattern("yyyyMMdd");
+
+    // 대체(fallback) 데이터나 일부 API만 성공한 데이터는 짧게 보관하고 파일에는 저장하지 않음
+    private static final Duration FALLBACK_TTL = Duration.ofMinutes(5);
+
+    @Value("${tourism.detail-cache.persistent-enabled:true}")
+    private boolean persistentEnabled;
+
+    @Value("${tourism.detail-cache.snapshot-path:data/detail/detail-cache.json}")
+    private String snapshotPath;
+
+    @Value("${tourism.detail-cache.persistent-max-entries:5000}")
+    private int persistentMaxEntries;
+
+    @Value("${tourism.detail-cache.max-ttl-hours:24}")
+    private long maxTtlHours;
+
+    private final TourCatalogService tourCatalogService;
+    private final LocalSnapshotStore snapshotStore;
+
+    @Autowired
+    @Qualifier("detailCacheStore")
+    private TourCacheService detailCacheStore;
+
+    // 2단계(영속) 저장소 - 키: detail_{kind}:{contentId}
+    private final Map<String, DetailRecord> persistent = new ConcurrentHashMap<>();
+    private final AtomicBoolean dirty = new AtomicBoolean(false);
+
+    private final LongAdder persistentHits = new LongAdder();
+    private final LongAdder revalidated = new LongAdder();
+    private final LongAdder fetches = new LongAdder();
+
+    /**
+     * 캐시 항목
+     *
+     * @param data         상세정보 (API 응답을 가공한 결과)
+     * @param modifiedTime 관광지 수정시각 (yyyyMMddHHmmss, 없으면 빈 값)
+     * @param etag         응답 ETag (없으면 빈 값)
+     * @param fallback     대체 데이터 여부
+     * @param partial      일부 API 응답이 빠진 데이터 여부
+     * @param fetchedAt    조회 시각
+     * @param expiresAt    만료 시각
+     */
+    public record DetailRecord(JsonNode data, String modifiedTime, String etag, boolean fallback,
+            boolean partial, long fetchedAt, long expiresAt) {
+
+        boolean isTemporary() {
+            return fallback || partial;
+        }
+    }
+
+    /**
+     * 상세정보 조회 결과
+     * notModified=true 이면 조건부 요청(If-None-Match)에 304가 온 경우
+     */
+    public record Fetched(JsonNode data, String modifiedTime, String etag, boolean fallback, boolean partial,
+            boolean notModified) {
+
+        public static Fetched of(JsonNode data, String modifiedTime, String etag) {
+            return new Fetched(data, modifiedTime, etag, false, false, false);
+        }
+
+        public static Fetched ofPartial(JsonNode data, String modifiedTime) {
+            return new Fetched(data, modifiedTime, "", false, true, false);
+        }
+
+        public static Fetched ofFallback(JsonNode data) {
+            return new Fetched(data, "", "", true, false, false);
+        }
+
+        public static Fetched unchanged() {
+            return new Fetched(null, "", "", false, false, true);
+        }
+    }
+
+    // ========================================
+    // 조회
+    // ========================================
+
+    /**
+     * 상세정보 조회 (메모리 → 파일 → 재검증 → API)
+     *
+     * @param kind      상세정보 종류 (tour, spot 등)
+     * @param fetcher   API 조회 함수 (이전 항목을 받아 조건부 요청에 사용, 실패 시 null)
+     * @return 상세정보, 조회 실패 시 null
+     */
+    public DetailRecord get(String kind, String contentId, Function<DetailRecord, Fetched> fetcher) {
+        String key = cacheKey(kind, contentId);
+        return detailCacheStore.getOrLoad(key,
+                () -> load(key, contentId, fetcher),
+                record -> Duration.ofMillis(Math.max(1000, record.expiresAt() - System.currentTimeMillis())));
+    }
+
+    private DetailRecord load(String key, String contentId, Function<DetailRecord, Fetched> fetcher) {
+        long now = System.currentTimeMillis();
+        DetailRecord previous = persistent.get(key);
+
+        // 1. 파일 캐시가 아직 유효하면 그대로 사용
+        if (previous != null && now < previous.expiresAt()) {
+            persistentHits.increment();
+            return previous;
+        }
+
+        // 2. 카탈로그 수정시각이 그대로면 API 호출 없이 연장
+        if (previous != null && !previous.modifiedTime().isEmpty()) {
+            String catalogModifiedTime = tourCatalogService.findModifiedTime(contentId).orElse("");
+            if (previous.modifiedTime().equals(catalogModifiedTime)) {
+                revalidated.increment();
+                return store(key, extend(previous, now));
+            }
+        }
+
+        // 3. API 조회
+        fetches.increment();
+        Fetched fetched = fetcher.apply(previous);
+        if (fetched == null) {
+            // 조회 실패 시 만료된 항목이라도 있으면 반환
+            return previous;
+        }
+        if (fetched.notModified() && previous != null) {
+            revalidated.increment();
+            return store(key, extend(previous, now));
+        }
+        if (fetched.data() == null || (fetched.fallback() && previous != null && !previous.fallback())) {
+            // 대체 데이터보다는 만료된 실제 데이터를 우선
+            return previous;
+        }
+
+        Duration ttl = fetched.fallback() || fetched.partial() ? FALLBACK_TTL : ttlFor(fetched.modifiedTime());
+        DetailRecord record = new DetailRecord(fetched.data(), nullToEmpty(fetched.modifiedTime()),
+                nullToEmpty(fetched.etag()), fetched.fallback(), fetched.partial(), now, now + ttl.toMillis());
+        return store(key, record);
+    }
+
+    private DetailRecord extend(DetailRecord record, long now) {
+        return new DetailRecord(record.data(), record.modifiedTime(), record.etag(), record.fallback(),
+                record.partial(), record.fetchedAt(), now + ttlFor(record.modifiedTime()).toMillis());
+    }
+
+    private DetailRecord store(String key, DetailRecord record) {
+        if (persistentEnabled && !record.isTemporary()) {
+            persistent.put(key, record);
+            dirty.set(true);
+            if (persistent.size() > persistentMaxEntries + Math.max(1, persistentMaxEntries / 10)) {
+                trimPersistent();
+            }
+        }
+        return record;
+    }
+
+    /**
+     * 수정시각 기반 TTL
+     * - 7일 이내 수정: 1시간 (내용이 계속 바뀌는 중일 가능성)
+     * - 90일 이내 수정: 6시간
+     * - 그 외 / 수정시각 없음: max-ttl-hours
+     */
+    private Duration ttlFor(String modifiedTime) {
+        Duration maxTtl = Duration.ofHours(maxTtlHours);
+        if (modifiedTime == null || modifiedTime.length() < 8) {
+            return maxTtl;
+        }
+
+        try {
+            LocalDate modifiedDate = LocalDate.parse(modifiedTime.substring(0, 8), MODIFIED_TIME_FORMAT);
+            long daysSinceModified = ChronoUnit.DAYS.between(modifiedDate, LocalDate.now());
+            if (daysSinceModified <= 7) {
+                return min(Duration.ofHours(1), maxTtl);
+            }
+            if (daysSinceModified <= 90) {
+                return min(Duration.ofHours(6), maxTtl);
+            }
+        } catch (Exception e) {
+            log.debug("modifiedtime 해석 실패: {}", modifiedTime);
+        }
+        return maxTtl;
+    }
+
+    private static Duration min(Duration a, Duration b) {
+        return a.compareTo(b) <= 0 ? a : b;
+    }
+
+    private static String nullToEmpty(String value) {
+        return value == null ? "" : value;
+    }
+
+    private static String cacheKey(String kind, String contentId) {
+        return "detail_" + kind + ":" + contentId;
+    }
+
+    // ========================================
+    // 파일 저장 / 로드
+    // ========================================
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadOnStartup() {
+        if (!persistentEnabled) {
+            return;
+        }
+
+        snapshotStore.read(snapshotPath, new TypeReference<Map<String, DetailRecord>>() {
+        }).ifPresent(records -> {
+            persistent.putAll(records);
+            trimPersistent();
+            log.info("📦 상세정보 캐시 파일 로드: {}개", records.size());
+        });
+    }
+
+    @Scheduled(fixedDelayString = "${tourism.detail-cache.flush-interval-ms:300000}")
+    public void flush() {
+        if (!persistentEnabled || !dirty.compareAndSet(true, false)) {
+            return;
+        }
+
+        trimPersistent();
+        if (!snapshotStore.write(snapshotPath, new LinkedHashMap<>(persistent))) {
+            dirty.set(true);
+        }
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+    }
+
+    /**
+     * 파일 캐시 항목 수 제한 - 오래 전에 조회한 항목부터 제거
+     */
+    private synchronized void trimPersistent() {
+        int overflow = persistent.size() - persistentMaxEntries;
+        if (overflow <= 0) {
+            return;
+        }
+
+        List<Map.Entry<String, DetailRecord>> entries = new ArrayList<>(persistent.entrySet());
+        entries.sort(Comparator.comparingLong(entry -> entry.getValue().fetchedAt()));
+        for (int i = 0; i < overflow; i++) {
+            persistent.remove(entries.get(i).getKey());
+        }
+    }
+
+    public Map<String, Object> getStats() {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("memory", detailCacheStore.getStats());
+        stats.put("persistentEnabled", persistentEnabled);
+        stats.put("persistentEntries", persistent.size());
+        stats.put("persistentHits", persistentHits.sum());
+        stats.put("revalidated", revalidated.sum());
+        stats.put("fetches", fetches.sum());
+        return stats;
+    }
+}
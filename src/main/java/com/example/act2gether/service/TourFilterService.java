@@ -1,10 +1,14 @@
 package com.example.act2gether.service;
 
+import java.util.Comparator;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.PriorityQueue;
 import java.util.Set;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 import java.net.URI;
 import java.net.URLEncoder;
@@ -13,26 +17,35 @@ import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.apache.tomcat.util.http.parser.MediaType;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.http.HttpEntity;
-import org.springframework.http.HttpMethod;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Service;
 import org.springframework.web.client.HttpClientErrorException;
 import org.springframework.web.client.HttpServerErrorException;
-import org.springframework.web.client.RestTemplate;
 import org.springframework.web.util.UriComponentsBuilder;
 
+import com.example.act2gether.service.TourApiResponseReader.Item;
+import com.example.act2gether.service.TourApiResponseReader.ItemPage;
+import com.example.act2gether.service.TourDetailCache.DetailRecord;
+import com.example.act2gether.service.TourDetailCache.Fetched;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.node.ArrayNode;
 import com.fasterxml.jackson.databind.node.ObjectNode;
 
+import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
@@ -41,19 +54,43 @@ import lombok.extern.slf4j.Slf4j;
 @Slf4j
 public class TourFilterService {
 
+    // 추천 관광지 기본 개수 (/api/tours/recommended, 메인 기본 추천)
+    private static final int DEFAULT_RECOMMENDED_ROWS = 6;
+
+    // 검색 조합 1개당 조회 개수 (API 첫 페이지 크기, 카탈로그 색인 조회도 같은 개수까지)
+    private static final int COMBINATION_PAGE_SIZE = 100;
+
     @Value("${tourism.api.key}")
     private String serviceKey;
 
     @Value("${tourism.api.base-url}")
     private String baseUrl;
 
-    private final RestTemplate restTemplate;
+    // 검색 1건당 조합 병렬 호출 마감시각 (ms)
+    @Value("${tourism.search.deadline-ms:8000}")
+    private long searchDeadlineMs;
+
+    private final TourApiClient tourApiClient;
     private final ObjectMapper objectMapper;
+    private final TourApiRateLimiter rateLimiter;
+    private final TourCatalogService tourCatalogService;
+    private final RestaurantGeoIndex restaurantGeoIndex;
+    private final TourDetailCache tourDetailCache;
+    private final TourApiResponseReader responseReader;
+    private final TourTaxonomyService tourTaxonomy;
+    private final RegionDirectoryService regionDirectory;
+    private final UserRecommendationCache recommendationCache;
+    private final TourCandidatePools candidatePools;
 
     // 무장애여행 API 통합
     @Autowired
     private BarrierFreeService barrierFreeService;
 
+    // 검색 조합 병렬 호출용 스레드 풀
+    @Autowired
+    @Qualifier("tourApiExecutor")
+    private Executor tourApiExecutor;
+
     // ========================================
     // 핵심 검색 메서드 (무장애여행 통합)
     // ========================================
@@ -110,18 +147,19 @@ public class TourFilterService {
                     places);
             log.info("🔄 생성된 검색 조합: {}개", searchParams.size());
 
-            // 4. 각 조합별로 API 호출 (기존과 동일)
-            List<JsonNode> allResults = new ArrayList<>();
+            // 4. 각 조합별로 API 병렬 호출 (속도 제한 + 요청 마감시각 적용)
+            List<TourSpot> allResults = new ArrayList<>();
             Set<String> seenContentIds = new HashSet<>();
             int successfulCalls = 0;
+            AtomicInteger apiCalls = new AtomicInteger();
 
-            for (SearchParam searchParam : searchParams) {
-                List<JsonNode> results = callTourApiForCombination(searchParam);
+            List<List<TourSpot>> combinationResults = callTourApiForCombinations(searchParams, apiCalls);
 
+            for (List<TourSpot> results : combinationResults) {
                 if (!results.isEmpty()) {
                     successfulCalls++;
-                    for (JsonNode result : results) {
-                        String contentId = result.path("contentid").asText();
+                    for (TourSpot result : results) {
+                        String contentId = result.contentId();
                         if (!seenContentIds.contains(contentId)) {
                             seenContentIds.add(contentId);
                             allResults.add(result);
@@ -140,13 +178,12 @@ public class TourFilterService {
             }
 
             // 6. 편의시설 필터링 로직 (기존과 동일)
-            List<JsonNode> finalResults = allResults;
+            List<TourSpot> finalResults = allResults;
             boolean hasAccessibilityFilter = (needs != null && !needs.isEmpty() && !"필요없음".equals(needs));
 
             if (hasAccessibilityFilter) {
                 log.info("🆕 무장애여행 정보 통합 시작 - 편의시설: {}", needs);
-                List<JsonNode> enrichedResults = barrierFreeService.enrichWithBarrierFreeInfo(allResults, areaCode,
-                        sigunguCode);
+                List<TourSpot> enrichedResults = barrierFreeService.enrichWithBarrierFreeInfo(allResults);
                 finalResults = barrierFreeService.filterByAccessibilityNeeds(enrichedResults, needs);
                 log.info("🎯 편의시설 필터 적용 완료 - {}개 → {}개", allResults.size(), finalResults.size());
             } else {
@@ -156,17 +193,17 @@ public class TourFilterService {
             // 접근성 점수 기준 정렬 (기존과 동일)
             if (hasAccessibilityFilter && !finalResults.isEmpty()) {
                 finalResults.sort((a, b) -> {
-                    int scoreA = a.path("accessibilityScore").asInt(0);
-                    int scoreB = b.path("accessibilityScore").asInt(0);
+                    int scoreA = a.accessibilityScore();
+                    int scoreB = b.accessibilityScore();
                     return Integer.compare(scoreB, scoreA);
                 });
             }
 
             // 7. 장소별 균형 선별 (기존과 동일)
-            List<JsonNode> balancedResults = selectBalancedResults(finalResults, numOfRows, themes, activities, places);
+            List<TourSpot> balancedResults = selectBalancedResults(finalResults, numOfRows, themes, activities, places);
 
-            // 8. 데이터 후처리 (기존과 동일)
-            JsonNode processedItems = processTourData(objectMapper.valueToTree(balancedResults));
+            // 8. 응답 JSON 생성 (검색 파이프라인에서 유일한 직렬화 지점)
+            JsonNode processedItems = processTourData(balancedResults);
 
             // 🎯 개선된 응답 생성 부분 - 기존 "9. 응답 생성" 부분을 이것으로 교체
             int requestedCount = Integer.parseInt(params.getOrDefault("numOfRows", "6"));
@@ -177,7 +214,8 @@ public class TourFilterService {
             result.put("data", processedItems);
             result.put("totalFound", allResults.size());
             result.put("finalCount", actualCount);
-            result.put("apiCalls", searchParams.size());
+            result.put("apiCalls", apiCalls.get());
+            result.put("dataSource", tourCatalogService.isReady() ? "catalog" : "api");
             result.put("successfulCalls", successfulCalls);
             result.put("version", "v3.0");
             result.put("features", Arrays.asList("무장애여행통합", "논리적조합", "균형선별", "장소기반자동매핑"));
@@ -199,7 +237,7 @@ public class TourFilterService {
 
             // 무장애여행 정보 통계 추가 (기존과 동일)
             int barrierFreeCount = (int) balancedResults.stream()
-                    .mapToInt(node -> node.path("hasBarrierFreeInfo").asBoolean() ? 1 : 0)
+                    .mapToInt(node -> node.hasBarrierFreeInfo() ? 1 : 0)
                     .sum();
             result.put("barrierFreeCount", barrierFreeCount);
             result.put("hasAccessibilityFilter", hasAccessibilityFilter);
@@ -268,10 +306,16 @@ public class TourFilterService {
                 log.info("{}번째 관광지 '{}' 주변 맛집 검색 중...",
                         i + 1, spot.get("title"));
 
-                // 각 카테고리별로 이 관광지 주변 검색
-                for (Map.Entry<String, String> category : foodCategories.entrySet()) {
-                    searchRestaurantsAroundSpot(centerX, centerY, category,
-                            uniqueRestaurants, groupedRestaurants, i + 1);
+                // 각 카테고리별로 이 관광지 주변 검색 (음식점 색인이 준비되어 있으면 메모리에서 조회)
+                boolean searchedInIndex = restaurantGeoIndex.isReady()
+                        && searchRestaurantsInIndex(centerX, centerY, foodCategories,
+                                uniqueRestaurants, groupedRestaurants, i + 1);
+
+                if (!searchedInIndex) {
+                    for (Map.Entry<String, String> category : foodCategories.entrySet()) {
+                        searchRestaurantsAroundSpot(centerX, centerY, category,
+                                uniqueRestaurants, groupedRestaurants, i + 1);
+                    }
                 }
             }
 
@@ -300,6 +344,36 @@ public class TourFilterService {
         return groupedRestaurants;
     }
 
+    /**
+     * 개별 관광지 주변 맛집 검색 (음식점 좌표 색인 사용)
+     * locationBasedList2와 동일하게 반경 1500m, 카테고리별 최대 3개 (가까운 순)
+     *
+     * @return 좌표를 해석하지 못해 색인 검색을 못 했으면 false
+     */
+    private boolean searchRestaurantsInIndex(String centerX, String centerY,
+            Map<String, String> foodCategories,
+            Map<String, Set<String>> uniqueRestaurants,
+            Map<String, List<Map<String, Object>>> groupedRestaurants,
+            int spotNumber) {
+
+        double mapx;
+        double mapy;
+        try {
+            mapx = Double.parseDouble(centerX);
+            mapy = Double.parseDouble(centerY);
+        } catch (NumberFormatException e) {
+            return false;
+        }
+
+        for (Map.Entry<String, String> category : foodCategories.entrySet()) {
+            for (JsonNode restaurant : restaurantGeoIndex.findNearest(mapx, mapy, category.getKey(), 1500, 3)) {
+                addUniqueRestaurant(restaurant, category.getValue(),
+                        uniqueRestaurants, groupedRestaurants, spotNumber);
+            }
+        }
+        return true;
+    }
+
     /**
      * 개별 관광지 주변 맛집 검색 (locationBasedList2 API 사용)
      */
@@ -318,27 +392,15 @@ public class TourFilterService {
 
             log.debug("API 호출: {}번째 관광지 {} 검색", spotNumber, category.getValue());
 
-            ResponseEntity<String> response = restTemplate.getForEntity(url, String.class);
-            JsonNode jsonNode = objectMapper.readTree(response.getBody());
-
-            JsonNode header = jsonNode.path("response").path("header");
-            if (!"0000".equals(header.path("resultCode").asText())) {
+            ItemPage page = responseReader.getItems(url);
+            if (!page.isSuccess()) {
                 log.warn("API 오류: {}번 관광지 {} - 코드: {}, 메시지: {}",
-                        spotNumber, category.getValue(),
-                        header.path("resultCode").asText(),
-                        header.path("resultMsg").asText());
+                        spotNumber, category.getValue(), page.resultCode(), page.resultMsg());
                 return;
             }
 
-            JsonNode items = jsonNode.path("response").path("body").path("items").path("item");
-
-            if (items.isArray()) {
-                for (JsonNode restaurant : items) {
-                    addUniqueRestaurant(restaurant, category.getValue(),
-                            uniqueRestaurants, groupedRestaurants, spotNumber);
-                }
-            } else if (!items.isMissingNode()) {
-                addUniqueRestaurant(items, category.getValue(),
+            for (Item restaurant : page.items()) {
+                addUniqueRestaurant(restaurant.toJson(objectMapper, Item.LIST_FIELDS), category.getValue(),
                         uniqueRestaurants, groupedRestaurants, spotNumber);
             }
 
@@ -388,10 +450,14 @@ public class TourFilterService {
     // cat3 코드로 장소명 찾기
     // ========================================
     private String findPlaceNameByCat3(String cat3, List<String> places) {
-        for (String place : places) {
-            List<String> placeCodes = mapPlaceToMultipleCat3(place);
-            if (placeCodes.contains(cat3)) {
-                return place;
+        String place = tourTaxonomy.placeOfCat3(cat3);
+        if (place == null) {
+            return "기타";
+        }
+        // 선택한 장소가 다른 이름(예: 창질방)이면 선택한 이름 그대로 그룹에 넣음
+        for (String selected : places) {
+            if (place.equals(tourTaxonomy.canonicalPlace(selected))) {
+                return selected;
             }
         }
         return "기타";
@@ -399,8 +465,11 @@ public class TourFilterService {
 
     // ========================================
     // 공정한 균형 선별 알고리즘 --> 수정 Phase 2 알고리즘을 호출하도록 변경 250819
+    // - 관광지별 종합 점수는 선별 시작 시 1회만 계산하여 배열로 보관
+    // - 그룹별로는 필요한 개수만큼만 제한 크기 힙으로 상위 선별 (그룹 전체 정렬 없음)
+    // - 그룹별 할당량은 우선순위 가중치에 비례 (최대 잔여 방식)
     // ========================================
-    private List<JsonNode> selectBalancedResults(List<JsonNode> allResults, int targetCount,
+    private List<TourSpot> selectBalancedResults(List<TourSpot> allResults, int targetCount,
             List<String> themes, List<String> activities, List<String> places) {
 
         if (allResults.size() <= targetCount) {
@@ -416,140 +485,40 @@ public class TourFilterService {
             return selectBalancedResultsByPlaces(allResults, targetCount, themes, activities, places);
         }
 
-        // 일반 카테고리 기반 선별
-        Map<String, List<JsonNode>> categoryGroups = allResults.stream()
-                .collect(Collectors.groupingBy(result -> result.path("cat1").asText()));
+        // 이미지 품질 30% + 접근성 20% + 관련성 50%
+        double[] scores = computeScores(allResults, relevanceCriteria(themes, activities, places), 0.3, 0.2, 0.5);
 
-        List<JsonNode> balancedResults = new ArrayList<>();
+        // 일반 카테고리 기반 선별
+        Map<String, List<Integer>> categoryGroups = groupIndices(allResults, TourSpot::cat1);
 
         // 🔥 핵심 수정: 카테고리가 적으면 간단하게 처리
         if (categoryGroups.size() == 1) {
             // 카테고리가 1개뿐이면 그냥 상위 N개 선택
             String singleCategory = categoryGroups.keySet().iterator().next();
-            List<JsonNode> categoryResults = categoryGroups.get(singleCategory);
-
-            // 이미지 품질 + 접근성 점수로 정렬
-            categoryResults.sort((a, b) -> {
-                int imageScoreA = getImageQualityScore(a);
-                int imageScoreB = getImageQualityScore(b);
-                int accessibilityA = a.path("accessibilityScore").asInt(0);
-                int accessibilityB = b.path("accessibilityScore").asInt(0);
-                int relevanceA = calculateRelevanceScore(a, themes, activities, places);
-                int relevanceB = calculateRelevanceScore(b, themes, activities, places);
-
-                double totalScoreA = imageScoreA * 0.3 + accessibilityA * 0.2 + relevanceA * 0.5;
-                double totalScoreB = imageScoreB * 0.3 + accessibilityB * 0.2 + relevanceB * 0.5;
-
-                return Double.compare(totalScoreB, totalScoreA);
-            });
-
-            // 목표 개수만큼 선별
-            int selectCount = Math.min(targetCount, categoryResults.size());
-            for (int i = 0; i < selectCount; i++) {
-                balancedResults.add(categoryResults.get(i));
-            }
+            List<TourSpot> balancedResults = selectTop(allResults, scores, categoryGroups.get(singleCategory),
+                    targetCount);
 
             log.info("✅ 단일 카테고리 선별 완료: {} - {}개 선별",
-                    getCategoryDisplayName(singleCategory), selectCount);
+                    getCategoryDisplayName(singleCategory), balancedResults.size());
 
             return balancedResults;
         }
 
-        // 카테고리가 여러 개인 경우 기본 균형 로직
-        Set<String> categories = categoryGroups.keySet();
-        int categoriesCount = categories.size();
-        int basePerCategory = targetCount / categoriesCount;
-        int extraSlots = targetCount % categoriesCount;
-
-        log.info("📊 카테고리 균형: {}개 카테고리, 기본 {}개씩, 추가 {}개",
-                categoriesCount, basePerCategory, extraSlots);
-
-        // 카테고리 우선순위 계산
-        Map<String, Double> categoryPriority = calculateCategoryPriority(themes, activities, places, categories);
+        // 카테고리 우선순위 계산 (할당량 가중치)
+        Map<String, Double> categoryPriority = calculateCategoryPriority(themes, activities, places,
+                categoryGroups.keySet());
+        List<String> sortedCategories = sortByPriority(categoryGroups.keySet(), categoryPriority);
 
-        List<String> sortedCategories = categories.stream()
-                .sorted((cat1, cat2) -> Double.compare(
-                        categoryPriority.getOrDefault(cat2, 0.0),
-                        categoryPriority.getOrDefault(cat1, 0.0)))
-                .collect(Collectors.toList());
+        log.info("📊 카테고리 균형: {}개 카테고리, 가중치 {}", sortedCategories.size(), categoryPriority);
 
-        // 1단계: 기본 할당
-        Map<String, Integer> categoryAllocated = new HashMap<>();
-        int totalSelected = 0;
-
-        for (int i = 0; i < sortedCategories.size(); i++) {
-            String category = sortedCategories.get(i);
-            List<JsonNode> categoryResults = categoryGroups.get(category);
-
-            int assignedSlots = basePerCategory + (i < extraSlots ? 1 : 0);
-            int actualSlots = Math.min(assignedSlots, categoryResults.size());
-
-            // 이미지 품질 + 접근성 + 관련성 점수로 정렬
-            categoryResults.sort((a, b) -> {
-                int imageScoreA = getImageQualityScore(a);
-                int imageScoreB = getImageQualityScore(b);
-                int accessibilityA = a.path("accessibilityScore").asInt(0);
-                int accessibilityB = b.path("accessibilityScore").asInt(0);
-                int relevanceA = calculateRelevanceScore(a, themes, activities, places);
-                int relevanceB = calculateRelevanceScore(b, themes, activities, places);
-
-                double totalScoreA = imageScoreA * 0.3 + accessibilityA * 0.2 + relevanceA * 0.5;
-                double totalScoreB = imageScoreB * 0.3 + accessibilityB * 0.2 + relevanceB * 0.5;
-
-                return Double.compare(totalScoreB, totalScoreA);
-            });
-
-            // 선별
-            for (int j = 0; j < actualSlots; j++) {
-                balancedResults.add(categoryResults.get(j));
-                totalSelected++;
-            }
-
-            categoryAllocated.put(category, actualSlots);
-
-            log.info("✅ {} ({}): {}개 선별 (전체 {}개 중)",
-                    getCategoryDisplayName(category), category, actualSlots, categoryResults.size());
-        }
-
-        // 🔥 2단계: 부족분 무조건 채우기
-        while (totalSelected < targetCount) {
-            // 가장 많은 여유 데이터를 가진 카테고리 찾기
-            String richestCategory = null;
-            int maxRemaining = 0;
-
-            for (String category : sortedCategories) {
-                List<JsonNode> categoryResults = categoryGroups.get(category);
-                int currentUsed = categoryAllocated.getOrDefault(category, 0);
-                int remaining = categoryResults.size() - currentUsed;
-
-                if (remaining > maxRemaining) {
-                    maxRemaining = remaining;
-                    richestCategory = category;
-                }
-            }
-
-            if (richestCategory == null || maxRemaining == 0) {
-                log.warn("⚠️ 더 이상 선별할 관광지가 없음: {}/{} (이론적으로 불가능)", totalSelected, targetCount);
-                break;
-            }
-
-            // 해당 카테고리에서 1개 더 선별
-            List<JsonNode> categoryResults = categoryGroups.get(richestCategory);
-            int currentUsed = categoryAllocated.get(richestCategory);
-
-            JsonNode additional = categoryResults.get(currentUsed);
-            balancedResults.add(additional);
-            categoryAllocated.put(richestCategory, currentUsed + 1);
-            totalSelected++;
-
-            log.info("🔄 부족분 보완: {} 카테고리에서 1개 추가 ({}/{})",
-                    getCategoryDisplayName(richestCategory), totalSelected, targetCount);
-        }
+        List<TourSpot> balancedResults = selectByQuota(allResults, scores, categoryGroups, sortedCategories,
+                categoryPriority, targetCount, true,
+                category -> getCategoryDisplayName(category) + " (" + category + ")");
 
         // 최종 분포 로깅
         Map<String, Long> finalDistribution = balancedResults.stream()
                 .collect(Collectors.groupingBy(
-                        node -> getCategoryDisplayName(node.path("cat1").asText()),
+                        spot -> getCategoryDisplayName(spot.cat1()),
                         Collectors.counting()));
 
         log.info("🎯 최종 배분 완료: 요청 {}개 → 실제 {}개, 분포: {}",
@@ -558,24 +527,19 @@ public class TourFilterService {
         return balancedResults;
     }
 
-    // 🆕 이미지 품질 점수 계산 메서드 추가
-    private int getImageQualityScore(JsonNode tour) {
-        String firstImage = tour.path("firstimage").asText("");
-        String firstImage2 = tour.path("firstimage2").asText("");
-        String optimizedImage = tour.path("optimizedImage").asText("");
-
-        // 1순위: 최적화된 실제 이미지
-        if (hasGoodImage(optimizedImage)) {
-            return 3;
+    // 🆕 이미지 품질 점수 계산 메서드 추가 (optimizedImage는 응답 생성 시에만 붙으므로 원본 이미지로 판단)
+    private int getImageQualityScore(TourSpot tour) {
+        if (!tour.hasImage()) {
+            return 0;
         }
 
-        // 2순위: 메인 이미지
-        if (hasGoodImage(firstImage)) {
+        // 1순위: 메인 이미지
+        if (hasGoodImage(tour.firstImage())) {
             return 2;
         }
 
-        // 3순위: 보조 이미지
-        if (hasGoodImage(firstImage2)) {
+        // 2순위: 보조 이미지
+        if (hasGoodImage(tour.firstImage2())) {
             return 1;
         }
 
@@ -595,24 +559,25 @@ public class TourFilterService {
     /**
      * 🆕 장소별 균형 선별 알고리즘 (places 2개 이상일 때)
      */
-    private List<JsonNode> selectBalancedResultsByPlaces(List<JsonNode> allResults, int targetCount,
+    private List<TourSpot> selectBalancedResultsByPlaces(List<TourSpot> allResults, int targetCount,
             List<String> themes, List<String> activities, List<String> places) {
 
         log.info("🎯 장소별 균형 선별 시작: {}개 장소, 목표 {}개", places.size(), targetCount);
 
-        // 장소별 그룹화 (cat3 기준)
-        Map<String, List<JsonNode>> placeGroups = new HashMap<>();
-
-        for (JsonNode result : allResults) {
-            String cat3 = result.path("cat3").asText();
-
-            // 각 선택된 장소와 매칭 시도
-            for (String place : places) {
-                List<String> placeCodes = mapPlaceToMultipleCat3(place);
+        // 장소 → cat3 코드 (관광지마다 다시 매핑하지 않도록 미리 계산)
+        Map<String, List<String>> placeCodes = new LinkedHashMap<>();
+        for (String place : places) {
+            placeCodes.put(place, mapPlaceToMultipleCat3(place));
+        }
 
-                if (placeCodes.contains(cat3)) {
-                    placeGroups.computeIfAbsent(place, k -> new ArrayList<>()).add(result);
-                    break; // 첫 번째 매칭에서 중단 (중복 방지)
+        // 장소별 그룹화 (cat3 기준, 첫 번째 매칭 장소에만 포함)
+        Map<String, List<Integer>> placeGroups = new HashMap<>();
+        for (int i = 0; i < allResults.size(); i++) {
+            String cat3 = allResults.get(i).cat3();
+            for (Map.Entry<String, List<String>> entry : placeCodes.entrySet()) {
+                if (entry.getValue().contains(cat3)) {
+                    placeGroups.computeIfAbsent(entry.getKey(), k -> new ArrayList<>()).add(i);
+                    break;
                 }
             }
         }
@@ -628,237 +593,306 @@ public class TourFilterService {
             return selectBalancedResultsByCategory(allResults, targetCount, themes, activities, places);
         }
 
-        List<JsonNode> balancedResults = new ArrayList<>();
-        int placesCount = placeGroups.size();
+        // 이미지 품질 30% + 접근성 20% + 관련성 50%
+        double[] scores = computeScores(allResults, relevanceCriteria(themes, activities, places), 0.3, 0.2, 0.5);
 
-        // 기본 할당량 계산
-        int basePerPlace = targetCount / placesCount;
-        int extraSlots = targetCount % placesCount;
+        // 장소 간 가중치는 동일 (기본 할당량 균등 + 남는 자리는 앞 장소부터)
+        List<String> placeNames = new ArrayList<>(placeGroups.keySet());
+        Map<String, Double> placeWeights = new HashMap<>();
+        placeNames.forEach(placeName -> placeWeights.put(placeName, 1.0));
 
         log.info("📊 장소별 기본 할당: {}개 장소, 기본 {}개씩, 추가 {}개",
-                placesCount, basePerPlace, extraSlots);
+                placeNames.size(), targetCount / placeNames.size(), targetCount % placeNames.size());
 
-        // 각 장소별 품질 기준 정렬
-        Map<String, List<JsonNode>> sortedPlaceGroups = new HashMap<>();
-        for (Map.Entry<String, List<JsonNode>> entry : placeGroups.entrySet()) {
-            String placeName = entry.getKey();
-            List<JsonNode> placeResults = new ArrayList<>(entry.getValue());
+        List<TourSpot> balancedResults = selectByQuota(allResults, scores, placeGroups, placeNames, placeWeights,
+                targetCount, true, placeName -> placeName + " 장소");
 
-            // 품질 점수 기준 정렬
-            placeResults.sort((a, b) -> {
-                int imageScoreA = getImageQualityScore(a);
-                int imageScoreB = getImageQualityScore(b);
-                int accessibilityA = a.path("accessibilityScore").asInt(0);
-                int accessibilityB = b.path("accessibilityScore").asInt(0);
-                int relevanceA = calculateRelevanceScore(a, themes, activities, places);
-                int relevanceB = calculateRelevanceScore(b, themes, activities, places);
+        // 최종 분포 로깅
+        Map<String, Long> finalDistribution = balancedResults.stream()
+                .collect(Collectors.groupingBy(
+                        spot -> findPlaceNameByCat3(spot.cat3(), places),
+                        Collectors.counting()));
+
+        log.info("🎯 장소별 균형 선별 완료: 요청 {}개 → 실제 {}개, 분포: {}",
+                targetCount, balancedResults.size(), finalDistribution);
 
-                double totalScoreA = imageScoreA * 0.3 + accessibilityA * 0.2 + relevanceA * 0.5;
-                double totalScoreB = imageScoreB * 0.3 + accessibilityB * 0.2 + relevanceB * 0.5;
+        return balancedResults;
+    }
 
-                return Double.compare(totalScoreB, totalScoreA);
-            });
+    /**
+     * 🔧 카테고리 기반 선별 (기존 로직, 분리됨)
+     */
+    private List<TourSpot> selectBalancedResultsByCategory(List<TourSpot> allResults, int targetCount,
+            List<String> themes, List<String> activities, List<String> places) {
 
-            sortedPlaceGroups.put(placeName, placeResults);
+        if (allResults.size() <= targetCount) {
+            return allResults;
         }
 
-        // 1단계: 기본 할당량 선별
-        List<String> placeNames = new ArrayList<>(sortedPlaceGroups.keySet());
-        Map<String, Integer> placeAllocated = new HashMap<>();
-        int totalSelected = 0;
+        log.info("🎯 카테고리 기반 균형 선별: {}개 → {}개", allResults.size(), targetCount);
 
-        for (int i = 0; i < placeNames.size(); i++) {
-            String placeName = placeNames.get(i);
-            List<JsonNode> placeResults = sortedPlaceGroups.get(placeName);
+        // 접근성 20% + 관련성 80%
+        double[] scores = computeScores(allResults, relevanceCriteria(themes, activities, places), 0, 0.2, 0.8);
 
-            int assignedSlots = basePerPlace + (i < extraSlots ? 1 : 0);
-            int actualSlots = Math.min(assignedSlots, placeResults.size());
+        // 카테고리별 그룹화
+        Map<String, List<Integer>> categoryGroups = groupIndices(allResults, TourSpot::cat1);
 
-            for (int j = 0; j < actualSlots; j++) {
-                balancedResults.add(placeResults.get(j));
-                totalSelected++;
-            }
+        // 카테고리 우선순위 계산 (할당량 가중치)
+        Map<String, Double> categoryPriority = calculateCategoryPriority(themes, activities, places,
+                categoryGroups.keySet());
+        List<String> sortedCategories = sortByPriority(categoryGroups.keySet(), categoryPriority);
+
+        log.info("📊 카테고리 균형: {}개 카테고리, 가중치 {}", sortedCategories.size(), categoryPriority);
+
+        // 기존 로직과 같이 할당량만 선별 (부족분 보완 없음)
+        return selectByQuota(allResults, scores, categoryGroups, sortedCategories, categoryPriority,
+                targetCount, false, category -> getCategoryDisplayName(category) + " (" + category + ")");
+    }
+
+    // ========================================
+    // 선별 공통 처리
+    // ========================================
+
+    /**
+     * 그룹별 할당량만큼 상위 관광지 선별
+     *
+     * @param groups         그룹 → 관광지 위치 목록
+     * @param order          그룹 순서 (우선순위 높은 순)
+     * @param weights        그룹별 할당량 가중치
+     * @param fillShortage   할당량을 못 채운 그룹이 있으면 남은 관광지가 가장 많은 그룹에서 보완
+     * @param describeGroup  로그용 그룹 이름
+     */
+    private List<TourSpot> selectByQuota(List<TourSpot> allResults, double[] scores,
+            Map<String, List<Integer>> groups, List<String> order, Map<String, Double> weights,
+            int targetCount, boolean fillShortage, Function<String, String> describeGroup) {
 
-            placeAllocated.put(placeName, actualSlots);
+        Map<String, Integer> quotas = allocateQuotas(order, weights, targetCount);
 
-            log.info("✅ {} 장소: {}개 선별 (전체 {}개 중)",
-                    placeName, actualSlots, placeResults.size());
+        // 한 그룹에서 targetCount개를 넘게 뽑을 일은 없으므로 그룹별 상위 targetCount개만 순위 계산
+        Map<String, List<TourSpot>> rankedGroups = new HashMap<>();
+        for (String group : order) {
+            rankedGroups.put(group, selectTop(allResults, scores, groups.get(group), targetCount));
         }
 
-        // 2단계: 부족분 보완 (가장 많은 데이터를 가진 장소에서)
-        while (totalSelected < targetCount) {
-            String richestPlace = null;
-            int maxRemaining = 0;
+        // 1단계: 할당량 선별
+        List<TourSpot> balancedResults = new ArrayList<>();
+        Map<String, Integer> allocated = new HashMap<>();
 
-            for (String placeName : placeNames) {
-                List<JsonNode> placeResults = sortedPlaceGroups.get(placeName);
-                int currentUsed = placeAllocated.getOrDefault(placeName, 0);
-                int remaining = placeResults.size() - currentUsed;
+        for (String group : order) {
+            List<TourSpot> ranked = rankedGroups.get(group);
+            int actualSlots = Math.min(quotas.getOrDefault(group, 0), ranked.size());
+
+            balancedResults.addAll(ranked.subList(0, actualSlots));
+            allocated.put(group, actualSlots);
 
+            log.info("✅ {}: {}개 선별 (전체 {}개 중)",
+                    describeGroup.apply(group), actualSlots, groups.get(group).size());
+        }
+
+        if (!fillShortage) {
+            return balancedResults;
+        }
+
+        // 🔥 2단계: 부족분 채우기 (가장 많은 여유 데이터를 가진 그룹에서 1개씩)
+        while (balancedResults.size() < targetCount) {
+            String richestGroup = null;
+            int maxRemaining = 0;
+
+            for (String group : order) {
+                int remaining = groups.get(group).size() - allocated.get(group);
                 if (remaining > maxRemaining) {
                     maxRemaining = remaining;
-                    richestPlace = placeName;
+                    richestGroup = group;
                 }
             }
 
-            if (richestPlace == null || maxRemaining == 0) {
-                log.warn("⚠️ 더 이상 선별할 장소 데이터 없음: {}/{}", totalSelected, targetCount);
+            if (richestGroup == null) {
+                log.warn("⚠️ 더 이상 선별할 관광지가 없음: {}/{}", balancedResults.size(), targetCount);
                 break;
             }
 
-            List<JsonNode> placeResults = sortedPlaceGroups.get(richestPlace);
-            int currentUsed = placeAllocated.get(richestPlace);
-
-            JsonNode additional = placeResults.get(currentUsed);
-            balancedResults.add(additional);
-            placeAllocated.put(richestPlace, currentUsed + 1);
-            totalSelected++;
+            int used = allocated.get(richestGroup);
+            balancedResults.add(rankedGroups.get(richestGroup).get(used));
+            allocated.put(richestGroup, used + 1);
 
-            log.info("🔄 부족분 보완: {} 장소에서 1개 추가 ({}개/{}개)",
-                    richestPlace, totalSelected, targetCount);
+            log.info("🔄 부족분 보완: {}에서 1개 추가 ({}/{})",
+                    describeGroup.apply(richestGroup), balancedResults.size(), targetCount);
         }
 
-        // 최종 분포 로깅
-        Map<String, Long> finalDistribution = balancedResults.stream()
-                .collect(Collectors.groupingBy(
-                        node -> findPlaceNameByCat3(node.path("cat3").asText(), places),
-                        Collectors.counting()));
-
-        log.info("🎯 장소별 균형 선별 완료: 요청 {}개 → 실제 {}개, 분포: {}",
-                targetCount, balancedResults.size(), finalDistribution);
-
         return balancedResults;
     }
 
     /**
-     * 🔧 카테고리 기반 선별 (기존 로직, 분리됨)
+     * 가중치 비례 할당량 (최대 잔여 방식)
+     * 가중치가 모두 같으면 균등 배분 후 남는 자리를 order 앞쪽 그룹부터 1개씩
      */
-    private List<JsonNode> selectBalancedResultsByCategory(List<JsonNode> allResults, int targetCount,
-            List<String> themes, List<String> activities, List<String> places) {
-
-        if (allResults.size() <= targetCount) {
-            return allResults;
+    private Map<String, Integer> allocateQuotas(List<String> order, Map<String, Double> weights, int targetCount) {
+        double totalWeight = 0;
+        for (String group : order) {
+            totalWeight += weights.getOrDefault(group, 1.0);
         }
 
-        log.info("🎯 카테고리 기반 균형 선별: {}개 → {}개", allResults.size(), targetCount);
-
-        // 카테고리별 그룹화
-        Map<String, List<JsonNode>> categoryGroups = allResults.stream()
-                .collect(Collectors.groupingBy(result -> result.path("cat1").asText()));
+        Map<String, Integer> quotas = new HashMap<>();
+        double[] remainders = new double[order.size()];
+        int assigned = 0;
 
-        List<JsonNode> balancedResults = new ArrayList<>();
-        Set<String> categories = categoryGroups.keySet();
-        int categoriesCount = categories.size();
-        int basePerCategory = targetCount / categoriesCount;
-        int extraSlots = targetCount % categoriesCount;
-
-        log.info("📊 카테고리 균형: {}개 카테고리, 기본 {}개씩 할당", categoriesCount, basePerCategory);
-
-        // 카테고리 우선순위 계산
-        Map<String, Double> categoryPriority = calculateCategoryPriority(themes, activities, places, categories);
+        for (int i = 0; i < order.size(); i++) {
+            double exact = targetCount * weights.getOrDefault(order.get(i), 1.0) / totalWeight;
+            int quota = (int) Math.floor(exact + 1e-9);
+            quotas.put(order.get(i), quota);
+            remainders[i] = exact - quota;
+            assigned += quota;
+        }
 
-        List<String> sortedCategories = categories.stream()
-                .sorted((cat1, cat2) -> Double.compare(
-                        categoryPriority.getOrDefault(cat2, 0.0),
-                        categoryPriority.getOrDefault(cat1, 0.0)))
-                .collect(Collectors.toList());
+        // 남는 자리는 소수점 이하가 큰 그룹부터 (같으면 order 순서)
+        List<Integer> byRemainder = new ArrayList<>();
+        for (int i = 0; i < order.size(); i++) {
+            byRemainder.add(i);
+        }
+        byRemainder.sort((a, b) -> Double.compare(remainders[b], remainders[a]) != 0
+                ? Double.compare(remainders[b], remainders[a])
+                : Integer.compare(a, b));
 
-        // 각 카테고리에서 선별
-        for (int i = 0; i < sortedCategories.size(); i++) {
-            String category = sortedCategories.get(i);
-            List<JsonNode> categoryResults = categoryGroups.get(category);
+        for (int i = 0; assigned < targetCount && i < byRemainder.size(); i++, assigned++) {
+            String group = order.get(byRemainder.get(i));
+            quotas.put(group, quotas.get(group) + 1);
+        }
 
-            int assignedSlots = basePerCategory + (i < extraSlots ? 1 : 0);
-            int actualSlots = Math.min(assignedSlots, categoryResults.size());
+        return quotas;
+    }
 
-            // 카테고리 내에서 관련성 점수로 정렬 (🆕 접근성 점수 포함)
-            categoryResults.sort((a, b) -> {
-                // 접근성 점수 고려 (가중치 20%)
-                int accessibilityA = a.path("accessibilityScore").asInt(0);
-                int accessibilityB = b.path("accessibilityScore").asInt(0);
+    /**
+     * 점수 상위 k개 (점수 높은 순, 동점이면 원래 순서)
+     * 크기 k의 최소 힙으로 선별하므로 그룹 크기 n에 대해 O(n log k)
+     */
+    private List<TourSpot> selectTop(List<TourSpot> allResults, double[] scores, List<Integer> indices, int k) {
+        // 힙의 루트 = 현재 상위 k개 중 가장 약한 관광지 (점수가 낮고, 같으면 뒤에 있던 것)
+        Comparator<Integer> weakestFirst = (a, b) -> scores[a] != scores[b]
+                ? Double.compare(scores[a], scores[b])
+                : Integer.compare(b, a);
 
-                // 관련성 점수 (가중치 80%)
-                int relevanceA = calculateRelevanceScore(a, themes, activities, places);
-                int relevanceB = calculateRelevanceScore(b, themes, activities, places);
+        PriorityQueue<Integer> heap = new PriorityQueue<>(Math.max(1, k), weakestFirst);
+        for (int index : indices) {
+            if (heap.size() < k) {
+                heap.add(index);
+            } else if (k > 0 && weakestFirst.compare(index, heap.peek()) > 0) {
+                heap.poll();
+                heap.add(index);
+            }
+        }
 
-                // 총 점수 계산
-                double totalScoreA = accessibilityA * 0.2 + relevanceA * 0.8;
-                double totalScoreB = accessibilityB * 0.2 + relevanceB * 0.8;
+        List<Integer> top = new ArrayList<>(heap);
+        top.sort(weakestFirst.reversed());
 
-                return Double.compare(totalScoreB, totalScoreA);
-            });
+        List<TourSpot> results = new ArrayList<>(top.size());
+        for (int index : top) {
+            results.add(allResults.get(index));
+        }
+        return results;
+    }
 
-            // 선별
-            for (int j = 0; j < actualSlots; j++) {
-                balancedResults.add(categoryResults.get(j));
-            }
+    /**
+     * 관광지별 종합 점수 (선별 1회당 관광지마다 한 번만 계산)
+     */
+    private double[] computeScores(List<TourSpot> allResults, RelevanceCriteria criteria,
+            double imageWeight, double accessibilityWeight, double relevanceWeight) {
+        double[] scores = new double[allResults.size()];
+        for (int i = 0; i < scores.length; i++) {
+            TourSpot spot = allResults.get(i);
+            scores[i] = getImageQualityScore(spot) * imageWeight
+                    + spot.accessibilityScore() * accessibilityWeight
+                    + calculateRelevanceScore(spot, criteria) * relevanceWeight;
+        }
+        return scores;
+    }
 
-            log.info("✅ {} ({}): {}개 선별 (전체 {}개 중)",
-                    getCategoryDisplayName(category), category, actualSlots, categoryResults.size());
+    private Map<String, List<Integer>> groupIndices(List<TourSpot> allResults, Function<TourSpot, String> key) {
+        Map<String, List<Integer>> groups = new HashMap<>();
+        for (int i = 0; i < allResults.size(); i++) {
+            groups.computeIfAbsent(key.apply(allResults.get(i)), k -> new ArrayList<>()).add(i);
         }
+        return groups;
+    }
 
-        return balancedResults;
+    private List<String> sortByPriority(Set<String> groups, Map<String, Double> priority) {
+        return groups.stream()
+                .sorted((cat1, cat2) -> Double.compare(
+                        priority.getOrDefault(cat2, 0.0),
+                        priority.getOrDefault(cat1, 0.0)))
+                .collect(Collectors.toList());
     }
 
     // ========================================
     // 공정한 점수 계산
     // ========================================
 
-    private int calculateRelevanceScore(JsonNode item, List<String> themes,
-            List<String> activities, List<String> places) {
-        int score = 0;
-
-        String cat1 = item.path("cat1").asText();
-        String cat2 = item.path("cat2").asText();
-        String cat3 = item.path("cat3").asText();
+    /**
+     * 관련성 점수 계산용 코드 집합 (선별 1회당 한 번만 매핑)
+     */
+    private record RelevanceCriteria(Set<String> themeCodes, Set<String> activityCodes, Set<String> placeCodes) {
+    }
 
-        // 테마 매칭 (30점)
+    private RelevanceCriteria relevanceCriteria(List<String> themes, List<String> activities, List<String> places) {
+        Set<String> themeCodes = new HashSet<>();
         for (String theme : themes) {
             String themeCode = mapThemeToCategory(theme);
-            if (themeCode != null && themeCode.equals(cat1)) {
-                score += 30;
-                break;
+            if (themeCode != null) {
+                themeCodes.add(themeCode);
             }
         }
 
-        // 활동 매칭 (20점)
+        Set<String> activityCodes = new HashSet<>();
         for (String activity : activities) {
             String activityCode = mapActivityToCat2(activity);
-            if (activityCode != null && activityCode.equals(cat2)) {
-                score += 20;
-                break;
+            if (activityCode != null) {
+                activityCodes.add(activityCode);
             }
         }
 
-        // 장소 매칭 (15점)
+        Set<String> placeCodes = new HashSet<>();
         for (String place : places) {
-            List<String> placeCodes = mapPlaceToMultipleCat3(place);
-            if (placeCodes != null && placeCodes.contains(cat3)) {
-                score += 15;
-                break;
-            }
+            placeCodes.addAll(mapPlaceToMultipleCat3(place));
+        }
+
+        return new RelevanceCriteria(themeCodes, activityCodes, placeCodes);
+    }
+
+    private int calculateRelevanceScore(TourSpot item, RelevanceCriteria criteria) {
+        int score = 0;
+
+        // 테마 매칭 (30점)
+        if (criteria.themeCodes().contains(item.cat1())) {
+            score += 30;
+        }
+
+        // 활동 매칭 (20점)
+        if (criteria.activityCodes().contains(item.cat2())) {
+            score += 20;
+        }
+
+        // 장소 매칭 (15점)
+        if (criteria.placeCodes().contains(item.cat3())) {
+            score += 15;
         }
 
         // 품질 점수 (17점)
-        if (!item.path("firstimage").asText().isEmpty())
+        if (!item.firstImage().isEmpty())
             score += 5;
-        if (!item.path("addr1").asText().isEmpty())
+        if (!item.addr1().isEmpty())
             score += 3;
-        if (!item.path("addr2").asText().isEmpty())
+        if (!item.addr2().isEmpty())
             score += 2;
-        if (!item.path("tel").asText().isEmpty())
+        if (!item.tel().isEmpty())
             score += 2;
 
-        String modifiedTime = item.path("modifiedtime").asText();
+        String modifiedTime = item.modifiedTime();
         if (modifiedTime.startsWith("2024") || modifiedTime.startsWith("2025")) {
             score += 3;
         } else if (modifiedTime.startsWith("2023") || modifiedTime.startsWith("2022")) {
             score += 1;
         }
 
-        String mapx = item.path("mapx").asText();
-        String mapy = item.path("mapy").asText();
-        if (!mapx.isEmpty() && !mapy.isEmpty() && !mapx.equals("0") && !mapy.equals("0")) {
+        if (item.hasCoordinates()) {
             score += 2;
         }
 
@@ -996,70 +1030,18 @@ public class TourFilterService {
         if (cat2 == null || cat3 == null)
             return true; // null인 경우는 허용
 
-        // 완전한 한국관광공사 API 계층 구조 정의
-        Map<String, Map<String, List<String>>> validHierarchy = new HashMap<>();
-
-        // A01 자연관광지 계층
-        Map<String, List<String>> natureHierarchy = new HashMap<>();
-        natureHierarchy.put("A0101", Arrays.asList(
-                "A01010100", "A01010200", "A01010300", "A01010400", // 산, 공원
-                "A01010500", "A01010600", "A01010700", // 생태, 휴양림, 수목원
-                "A01010800", "A01010900", // 계곡, 폭포
-                "A01011100", "A01011200", "A01011400", // 해변, 해수욕장
-                "A01011700", "A01011800" // 호수, 강
-        ));
-        validHierarchy.put("A01", natureHierarchy);
-
-        // A02 문화/역사 계층
-        Map<String, List<String>> cultureHierarchy = new HashMap<>();
-        // 역사관광지
-        cultureHierarchy.put("A0201", Arrays.asList(
-                "A02010100", "A02010200", "A02010300", // 고궁, 성
-                "A02010400", "A02010500", "A02010600", // 민속마을, 가옥
-                "A02010700", "A02010800", "A02010900" // 유적지, 사찰, 종교성지
-        ));
-        // 휴양관광지
-        cultureHierarchy.put("A0202", Arrays.asList(
-                "A02020200", "A02020300", "A02020400", // 관광단지, 온천, 찜질방
-                "A02020600", "A02020800" // 테마파크, 유람선
-        ));
-        // 체험관광지
-        cultureHierarchy.put("A0203", Arrays.asList(
-                "A02030100", "A02030200", "A02030300", "A02030400" // 농어촌체험, 전통체험
-        ));
-        // 문화시설
-        cultureHierarchy.put("A0206", Arrays.asList(
-                "A02060100", "A02060200", "A02060300", "A02060500" // 박물관, 미술관
-        ));
-        validHierarchy.put("A02", cultureHierarchy);
-
-        // A03 레포츠 계층
-        Map<String, List<String>> sportsHierarchy = new HashMap<>();
-        // 육상레포츠
-        sportsHierarchy.put("A0302", Arrays.asList(
-                "A03020700", "A03021200", "A03021300", "A03021400", // 골프, 스키
-                "A03021700", "A03022700" // 캠핑, 트래킹
-        ));
-        // 수상레포츠
-        sportsHierarchy.put("A0303", Arrays.asList(
-                "A03030500", "A03030600" // 낚시
-        ));
-        validHierarchy.put("A03", sportsHierarchy);
-
-        // 계층 구조 검증
-        if (!validHierarchy.containsKey(cat1)) {
+        // 계층 구조는 분류 체계 파일(taxonomy/tour-taxonomy.json)의 hierarchy 트리로 검증
+        if (!tourTaxonomy.hasCat1(cat1)) {
             log.debug("❌ 잘못된 대분류: {}", cat1);
             return false;
         }
 
-        Map<String, List<String>> middleCategories = validHierarchy.get(cat1);
-        if (!middleCategories.containsKey(cat2)) {
+        if (!tourTaxonomy.hasCat2(cat1, cat2)) {
             log.debug("❌ 대분류 {}에 중분류 {} 없음", cat1, cat2);
             return false;
         }
 
-        List<String> smallCategories = middleCategories.get(cat2);
-        if (!smallCategories.contains(cat3)) {
+        if (!tourTaxonomy.hasCat3(cat1, cat2, cat3)) {
             log.debug("❌ 중분류 {}에 소분류 {} 없음", cat2, cat3);
             return false;
         }
@@ -1068,9 +1050,89 @@ public class TourFilterService {
         return true;
     }
 
-    private List<JsonNode> callTourApiForCombination(SearchParam searchParam) {
+    /**
+     * 검색 조합 병렬 호출 (fan-out)
+     * - 모든 조합을 tourApiExecutor에서 동시에 실행
+     * - 호출 간격은 전역 속도 제한기(TourApiRateLimiter)가 관리
+     * - 요청 마감시각을 넘긴 조합은 빈 결과로 처리
+     *   (마감시각까지 호출 슬롯을 얻지 못한 조합은 호출하지 않고, 이미 보낸 호출은 TourApiClient 타임아웃까지 진행 후 결과만 버림)
+     *
+     * @param apiCalls 실제로 보낸 API 호출 수 (카탈로그 색인 응답이나 슬롯을 얻지 못해 건너뛴 조합은 제외)
+     * @return 조합 순서대로 정렬된 결과 목록 (중복 제거는 호출부에서 수행)
+     */
+    private List<List<TourSpot>> callTourApiForCombinations(List<SearchParam> searchParams, AtomicInteger apiCalls) {
+        // 로컬 카탈로그 색인이 준비되어 있으면 API 호출 없이 색인에서 응답
+        if (tourCatalogService.isReady()) {
+            List<List<TourSpot>> results = new ArrayList<>();
+            for (SearchParam searchParam : searchParams) {
+                results.add(findInCatalog(searchParam));
+            }
+            return results;
+        }
+
+        long deadlineNanos = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(searchDeadlineMs);
+
+        List<CompletableFuture<List<TourSpot>>> futures = new ArrayList<>();
+        for (SearchParam searchParam : searchParams) {
+            futures.add(submitCombination(searchParam, deadlineNanos, apiCalls));
+        }
+
         try {
-            Thread.sleep(500); // 0.5초 대기
+            long remainingNanos = deadlineNanos - System.nanoTime();
+            CompletableFuture.allOf(futures.toArray(new CompletableFuture[0]))
+                    .get(Math.max(remainingNanos, 0), TimeUnit.NANOSECONDS);
+        } catch (TimeoutException e) {
+            log.warn("⏱️ 검색 마감시각 초과 - {}ms 내 완료되지 않은 조합은 제외", searchDeadlineMs);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException e) {
+            log.warn("❌ 조합 병렬 호출 오류: {}", e.getMessage());
+        }
+
+        List<List<TourSpot>> results = new ArrayList<>();
+        int timedOut = 0;
+        for (CompletableFuture<List<TourSpot>> future : futures) {
+            if (future.isDone() && !future.isCompletedExceptionally()) {
+                results.add(future.join());
+            } else {
+                timedOut++;
+                results.add(new ArrayList<>());
+            }
+        }
+
+        if (timedOut > 0) {
+            log.info("🔧 마감시각 초과로 제외된 조합: {}개/{}개", timedOut, searchParams.size());
+        }
+        return results;
+    }
+
+    /**
+     * 카탈로그 색인 조회 (callTourApiForCombination과 동일한 조건 적용)
+     * API 조회와 같이 조합당 첫 페이지(COMBINATION_PAGE_SIZE개)까지만 사용
+     */
+    private List<TourSpot> findInCatalog(SearchParam searchParam) {
+        String sigunguCode = isMetropolitanCity(searchParam.areaCode) ? null : searchParam.sigunguCode;
+        List<TourSpot> found = tourCatalogService.find(searchParam.areaCode, sigunguCode,
+                searchParam.cat1, searchParam.cat2, searchParam.cat3);
+        return found.size() > COMBINATION_PAGE_SIZE ? new ArrayList<>(found.subList(0, COMBINATION_PAGE_SIZE))
+                : found;
+    }
+
+    // 풀이 가득 차면 CallerRunsPolicy로 호출 스레드에서 직접 실행 (back-pressure)
+    private CompletableFuture<List<TourSpot>> submitCombination(SearchParam searchParam, long deadlineNanos,
+            AtomicInteger apiCalls) {
+        return CompletableFuture.supplyAsync(
+                () -> callTourApiForCombination(searchParam, deadlineNanos, apiCalls), tourApiExecutor);
+    }
+
+    private List<TourSpot> callTourApiForCombination(SearchParam searchParam, long deadlineNanos,
+            AtomicInteger apiCalls) {
+        try {
+            if (!rateLimiter.acquire(deadlineNanos)) {
+                log.debug("⏱️ 마감시각 전 호출 슬롯 없음 - 스킵: {}", searchParam);
+                return new ArrayList<>();
+            }
+            apiCalls.incrementAndGet();
             StringBuilder urlBuilder = new StringBuilder();
             urlBuilder.append(baseUrl).append("/areaBasedList2")
                     .append("?serviceKey=").append(serviceKey)
@@ -1098,29 +1160,24 @@ public class TourFilterService {
                 urlBuilder.append("&cat3=").append(searchParam.cat3);
             }
 
-            urlBuilder.append("&numOfRows=100&pageNo=1");
-
-            ResponseEntity<String> response = restTemplate.getForEntity(urlBuilder.toString(), String.class);
-            JsonNode jsonNode = objectMapper.readTree(response.getBody());
+            urlBuilder.append("&numOfRows=").append(COMBINATION_PAGE_SIZE).append("&pageNo=1");
 
-            JsonNode header = jsonNode.path("response").path("header");
-            if (!"0000".equals(header.path("resultCode").asText())) {
+            // 응답 스트림에서 필요한 필드만 바로 읽음 (본문 문자열 / 전체 트리를 만들지 않음)
+            ItemPage page = responseReader.getItems(urlBuilder.toString());
+            if (!page.isSuccess()) {
                 return new ArrayList<>();
             }
 
-            JsonNode items = jsonNode.path("response").path("body").path("items").path("item");
-            List<JsonNode> results = new ArrayList<>();
-
-            if (items.isArray()) {
-                for (JsonNode item : items) {
-                    results.add(item);
-                }
-            } else if (!items.isMissingNode()) {
-                results.add(items);
+            List<TourSpot> results = new ArrayList<>(page.items().size());
+            for (Item item : page.items()) {
+                results.add(TourSpot.from(item));
             }
 
             return results;
 
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return new ArrayList<>();
         } catch (Exception e) {
             log.warn("❌ API 호출 오류: {} - {}", searchParam, e.getMessage());
             return new ArrayList<>();
@@ -1134,72 +1191,15 @@ public class TourFilterService {
         if (theme == null || theme.isEmpty())
             return null;
 
-        Map<String, String> themeMapping = new HashMap<>();
-        themeMapping.put("자연", "A01");
-        themeMapping.put("문화/역사", "A02");
-        themeMapping.put("역사", "A02");
-        themeMapping.put("휴양", "A02");
-        themeMapping.put("체험", "A02");
-        themeMapping.put("문화", "A02");
-        themeMapping.put("레포츠", "A03");
-        themeMapping.put("육상레포츠", "A03");
-        themeMapping.put("수상레포츠", "A03");
-
-        return themeMapping.get(theme.trim());
+        return tourTaxonomy.themeCategory(theme);
     }
 
     private String mapActivityToCat2(String activityName) {
-        Map<String, String> activityMapping = new HashMap<>();
-
-        activityMapping.put("자연관광지", "A0101");
-        activityMapping.put("역사관광지", "A0201");
-        activityMapping.put("휴양관광지", "A0202");
-        activityMapping.put("체험관광지", "A0203");
-        activityMapping.put("문화시설", "A0206");
-        activityMapping.put("육상레포츠", "A0302");
-        activityMapping.put("수상레포츠", "A0303");
-
-        return activityMapping.get(activityName != null ? activityName.trim() : "");
+        return tourTaxonomy.activityCategory(activityName);
     }
 
     private List<String> mapPlaceToMultipleCat3(String placeName) {
-        Map<String, List<String>> placeMapping = new HashMap<>();
-
-        // 자연 그룹 (A01)
-        placeMapping.put("해변", Arrays.asList("A01011100", "A01011200", "A01011400"));
-        placeMapping.put("산/공원", Arrays.asList("A01010100", "A01010200", "A01010300", "A01010400"));
-        placeMapping.put("계곡/폭포", Arrays.asList("A01010800", "A01010900"));
-        placeMapping.put("호수/강", Arrays.asList("A01011700", "A01011800"));
-        placeMapping.put("수목원", Arrays.asList("A01010700"));
-        placeMapping.put("자연휴양림", Arrays.asList("A01010600"));
-        placeMapping.put("자연생태관광지", Arrays.asList("A01010500"));
-
-        // 문화/역사 그룹 (A02)
-        placeMapping.put("고궁/문", Arrays.asList("A02010100", "A02010200", "A02010300"));
-        placeMapping.put("민속마을/가옥", Arrays.asList("A02010600", "A02010400", "A02010500"));
-        placeMapping.put("유적지", Arrays.asList("A02010700"));
-        placeMapping.put("사찰", Arrays.asList("A02010800"));
-        placeMapping.put("종교성지", Arrays.asList("A02010900"));
-        placeMapping.put("박물관", Arrays.asList("A02060100", "A02060200", "A02060300"));
-        placeMapping.put("미술관", Arrays.asList("A02060500"));
-        placeMapping.put("체험", Arrays.asList("A02030200", "A02030300", "A02030400"));
-
-        // 휴양 그룹 (A02)
-        placeMapping.put("온천", Arrays.asList("A02020300"));
-        placeMapping.put("찜질방", Arrays.asList("A02020400"));
-        placeMapping.put("테마파크", Arrays.asList("A02020600"));
-        placeMapping.put("관광단지", Arrays.asList("A02020200"));
-        placeMapping.put("유람선/잠수함관광", Arrays.asList("A02020800"));
-
-        // 레저 그룹 (A03)
-        placeMapping.put("트래킹", Arrays.asList("A03022700"));
-        placeMapping.put("골프장", Arrays.asList("A03020700"));
-        placeMapping.put("스키장", Arrays.asList("A03021200", "A03021300", "A03021400"));
-        placeMapping.put("캠핑장", Arrays.asList("A03021700"));
-        placeMapping.put("낚시", Arrays.asList("A03030500", "A03030600"));
-
-        List<String> codes = placeMapping.get(placeName);
-        return codes != null ? codes : Arrays.asList();
+        return tourTaxonomy.placeCat3Codes(placeName);
     }
 
     // ========================================
@@ -1214,9 +1214,12 @@ public class TourFilterService {
             priorities.put(category, 1.0);
         }
 
-        Map<String, String> themeToCategory = Map.of("자연", "A01", "문화/역사", "A02", "레포츠", "A03");
+        // themes는 테마명 또는 cat1 코드 (extractSelectedThemes는 코드로 전달)
         for (String theme : themes) {
-            String categoryCode = themeToCategory.get(theme);
+            String categoryCode = mapThemeToCategory(theme);
+            if (categoryCode == null) {
+                categoryCode = theme;
+            }
             if (categoryCode != null && priorities.containsKey(categoryCode)) {
                 priorities.put(categoryCode, priorities.get(categoryCode) + 0.5);
             }
@@ -1283,43 +1286,57 @@ public class TourFilterService {
     }
 
     private String getCategoryDisplayName(String categoryCode) {
-        Map<String, String> categoryNames = Map.of(
-                "A01", "자연",
-                "A02", "문화/역사",
-                "A03", "레포츠");
-        return categoryNames.getOrDefault(categoryCode, categoryCode);
+        return tourTaxonomy.categoryName(categoryCode);
     }
 
-    private JsonNode processTourData(JsonNode items) {
-        if (!items.isArray()) {
-            return items;
-        }
-
+    /**
+     * 관광지 → 화면 응답 JSON (원본 필드 + 이미지/주소/제목 가공 필드)
+     * 모델에 없는 API 원본 필드(extra)도 그대로 포함, 무장애 정보는 통합된 관광지에만 포함
+     */
+    public JsonNode processTourData(List<TourSpot> items) {
         ArrayNode processedItems = objectMapper.createArrayNode();
 
-        for (JsonNode item : items) {
-            ObjectNode processedItem = (ObjectNode) item.deepCopy();
-
-            String firstImage = item.path("firstimage").asText("");
-            String firstImage2 = item.path("firstimage2").asText("");
-            String cat1 = item.path("cat1").asText("");
+        for (TourSpot item : items) {
+            ObjectNode processedItem = processedItems.addObject();
 
-            String optimizedImage = optimizeImageUrl(firstImage.isEmpty() ? firstImage2 : firstImage, cat1);
+            String cat1 = item.cat1();
+            String optimizedImage = optimizeImageUrl(
+                    item.firstImage().isEmpty() ? item.firstImage2() : item.firstImage(), cat1);
 
+            processedItem.put("contentid", item.contentId());
+            processedItem.put("contenttypeid", item.contentTypeId());
+            processedItem.put("title", item.title());
+            processedItem.put("addr1", item.addr1());
+            processedItem.put("addr2", item.addr2());
+            processedItem.put("tel", item.tel());
             processedItem.put("firstimage", optimizedImage);
+            processedItem.put("firstimage2", item.firstImage2());
+            processedItem.put("areacode", item.areaCode());
+            processedItem.put("sigungucode", item.sigunguCode());
+            processedItem.put("cat1", cat1);
+            processedItem.put("cat2", item.cat2());
+            processedItem.put("cat3", item.cat3());
+            processedItem.put("mapx", item.mapx());
+            processedItem.put("mapy", item.mapy());
+            processedItem.put("modifiedtime", item.modifiedTime());
+            item.extra().forEach(processedItem::put);
+
+            if (item.isBarrierFreeEnriched()) {
+                processedItem.put("accessibilityScore", item.accessibilityScore());
+                processedItem.put("hasBarrierFreeInfo", item.hasBarrierFreeInfo());
+                processedItem.put("accessibilityMask", item.accessibilityMask());
+                processedItem.put("barrierFreeInfo", item.barrierFreeInfo());
+            }
+
             processedItem.put("optimizedImage", optimizedImage);
             processedItem.put("hasRealImage", !optimizedImage.equals("/uploads/tour/no-image.png"));
             processedItem.put("categoryName", getCategoryDisplayName(cat1));
 
-            String addr1 = item.path("addr1").asText("");
-            String addr2 = item.path("addr2").asText("");
-            String fullAddress = addr1 + (addr2.isEmpty() ? "" : " " + addr2);
+            String addr2 = item.addr2();
+            String fullAddress = item.addr1() + (addr2.isEmpty() ? "" : " " + addr2);
             processedItem.put("fullAddress", fullAddress.trim());
 
-            String title = item.path("title").asText("").replaceAll("<[^>]*>", "");
-            processedItem.put("cleanTitle", title);
-
-            processedItems.add(processedItem);
+            processedItem.put("cleanTitle", item.title().replaceAll("<[^>]*>", ""));
         }
 
         return processedItems;
@@ -1356,14 +1373,11 @@ public class TourFilterService {
                 simpleUrl.append("&cat1=").append(params.get("cat1"));
             }
 
-            ResponseEntity<String> response = restTemplate.getForEntity(simpleUrl.toString(), String.class);
-            JsonNode jsonNode = objectMapper.readTree(response.getBody());
-
-            JsonNode header = jsonNode.path("response").path("header");
-            if ("0000".equals(header.path("resultCode").asText())) {
-                JsonNode items = jsonNode.path("response").path("body").path("items").path("item");
+            ItemPage page = responseReader.getItems(simpleUrl.toString());
+            if (page.isSuccess()) {
+                List<TourSpot> items = page.items().stream().map(TourSpot::from).collect(Collectors.toList());
                 JsonNode processedItems = processTourData(items);
-                int totalCount = jsonNode.path("response").path("body").path("totalCount").asInt(0);
+                int totalCount = page.totalCount();
 
                 return Map.of(
                         "success", true,
@@ -1472,49 +1486,28 @@ public class TourFilterService {
         if (areaName == null || areaName.trim().isEmpty())
             return "";
 
-        Map<String, String> areaMap = new HashMap<>();
-        areaMap.put("서울", "1");
-        areaMap.put("서울특별시", "1");
-        areaMap.put("인천", "2");
-        areaMap.put("인천광역시", "2");
-        areaMap.put("대전", "3");
-        areaMap.put("대전광역시", "3");
-        areaMap.put("대구", "4");
-        areaMap.put("대구광역시", "4");
-        areaMap.put("광주", "5");
-        areaMap.put("광주광역시", "5");
-        areaMap.put("부산", "6");
-        areaMap.put("부산광역시", "6");
-        areaMap.put("울산", "7");
-        areaMap.put("울산광역시", "7");
-        areaMap.put("세종", "8");
-        areaMap.put("세종특별자치시", "8");
-        areaMap.put("경기", "31");
-        areaMap.put("경기도", "31");
-        areaMap.put("강원", "32");
-        areaMap.put("강원특별자치도", "32");
-        areaMap.put("충북", "33");
-        areaMap.put("충청북도", "33");
-        areaMap.put("충남", "34");
-        areaMap.put("충청남도", "34");
-        areaMap.put("경북", "35");
-        areaMap.put("경상북도", "35");
-        areaMap.put("경남", "36");
-        areaMap.put("경상남도", "36");
-        areaMap.put("전북", "37");
-        areaMap.put("전북특별자치도", "37");
-        areaMap.put("전남", "38");
-        areaMap.put("전라남도", "38");
-        areaMap.put("제주", "39");
-        areaMap.put("제주특별자치도", "39");
-
-        return areaMap.getOrDefault(areaName.trim(), "");
+        String areaCode = tourTaxonomy.areaCode(areaName);
+        return areaCode != null ? areaCode : "";
     }
 
     /**
      * 🚨 관광지 상세 정보 조회 (필수)
      */
     public Map<String, Object> getTourDetail(String contentId) {
+        DetailRecord record = tourDetailCache.get("tour", contentId, previous -> fetchTourDetail(contentId, previous));
+        if (record == null) {
+            return Map.of("success", false, "message", "상세 정보를 찾을 수 없습니다");
+        }
+        return Map.of("success", true, "data", record.data());
+    }
+
+    /**
+     * detailCommon2 조회 (상세정보 캐시 로더)
+     * 이전 응답에 ETag가 있으면 조건부 요청
+     *
+     * @return 실패 시 null
+     */
+    private Fetched fetchTourDetail(String contentId, DetailRecord previous) {
         try {
             // 문자열 직접 연결 방식으로 변경
             String url = baseUrl + "/detailCommon2" +
@@ -1525,21 +1518,29 @@ public class TourFilterService {
 
             log.debug("getTourDetail 상세조회 URL: {}", url);
 
-            ResponseEntity<String> response = restTemplate.getForEntity(url, String.class);
+            org.springframework.http.HttpHeaders headers = new org.springframework.http.HttpHeaders();
+            if (previous != null && !previous.etag().isEmpty()) {
+                headers.setIfNoneMatch(previous.etag());
+            }
+
+            ResponseEntity<String> response = tourApiClient.exchange(url, headers);
+            if (response.getStatusCode() == HttpStatus.NOT_MODIFIED) {
+                return Fetched.unchanged();
+            }
             String responseBody = response.getBody();
 
             // HTML 체크
             if (responseBody != null && responseBody.trim().startsWith("<")) {
                 log.error("getTourDetail 상세조회 HTML 응답: {}",
                         responseBody.substring(0, Math.min(200, responseBody.length())));
-                return Map.of("success", false, "message", "API 오류가 발생했습니다");
+                return null;
             }
 
             JsonNode jsonNode = objectMapper.readTree(responseBody);
             JsonNode header = jsonNode.path("response").path("header");
 
             if (!"0000".equals(header.path("resultCode").asText())) {
-                return Map.of("success", false, "message", "상세 정보를 찾을 수 없습니다");
+                return null;
             }
 
             JsonNode items = jsonNode.path("response").path("body").path("items").path("item");
@@ -1553,82 +1554,30 @@ public class TourFilterService {
                 processedItem.put("optimizedImage", optimizedImage);
                 processedItem.put("categoryName", getCategoryDisplayName(cat1));
 
-                return Map.of("success", true, "data", processedItem);
+                return Fetched.of(processedItem, item.path("modifiedtime").asText(""),
+                        response.getHeaders().getETag());
             }
 
-            return Map.of("success", false, "message", "상세 정보가 없습니다");
+            return null;
 
         } catch (Exception e) {
             log.error("getTourDetail 상세 조회 실패: {}", e.getMessage(), e);
-            return Map.of("success", false, "message", "조회 실패");
+            return null;
         }
     }
 
     /**
-     * 🚨 지역 코드 목록 조회 (필수)
+     * 🚨 지역 코드 목록 조회 (필수) - 지역 디렉터리에서 응답
      */
     public Map<String, Object> getAreaCodes() {
-        try {
-            String finalUrl = baseUrl + "/areaCode2?serviceKey=" + serviceKey +
-                    "&numOfRows=17&MobileOS=ETC&MobileApp=Act2gether&_type=json";
-
-            org.springframework.http.HttpHeaders headers = new org.springframework.http.HttpHeaders();
-            headers.set("Accept", "application/json");
-            headers.set("User-Agent", "Mozilla/5.0 (Windows NT 10.0; Win64; x64) AppleWebKit/537.36");
-
-            org.springframework.http.HttpEntity<String> entity = new org.springframework.http.HttpEntity<>(headers);
-
-            ResponseEntity<String> response = restTemplate.exchange(
-                    finalUrl, org.springframework.http.HttpMethod.GET, entity, String.class);
-
-            JsonNode jsonNode = objectMapper.readTree(response.getBody());
-            JsonNode header = jsonNode.path("response").path("header");
-
-            if (!"0000".equals(header.path("resultCode").asText())) {
-                return Map.of("success", false, "message", "API 오류: " + header.path("resultMsg").asText());
-            }
-
-            JsonNode items = jsonNode.path("response").path("body").path("items").path("item");
-            return Map.of("success", true, "data", items);
-
-        } catch (Exception e) {
-            log.error("지역 코드 조회 중 예외 발생: {}", e.getMessage(), e);
-            return Map.of("success", false, "message", "네트워크 오류: " + e.getMessage());
-        }
+        return regionDirectory.getAreaCodes();
     }
 
     /**
-     * 🚨 시군구 코드 목록 조회 (필수)
+     * 🚨 시군구 코드 목록 조회 (필수) - 지역 디렉터리에서 응답
      */
     public Map<String, Object> getSigunguCodes(String areaCode) {
-        try {
-            String finalUrl = baseUrl + "/areaCode2?serviceKey=" + serviceKey +
-                    "&areaCode=" + areaCode +
-                    "&numOfRows=50&pageNo=1&MobileOS=ETC&MobileApp=Act2gether&_type=json";
-
-            org.springframework.http.HttpHeaders headers = new org.springframework.http.HttpHeaders();
-            headers.set("Accept", "application/json");
-            headers.set("User-Agent", "Mozilla/5.0 (Windows NT 10.0; Win64; x64) AppleWebKit/537.36");
-
-            org.springframework.http.HttpEntity<String> entity = new org.springframework.http.HttpEntity<>(headers);
-
-            ResponseEntity<String> response = restTemplate.exchange(
-                    finalUrl, org.springframework.http.HttpMethod.GET, entity, String.class);
-
-            JsonNode jsonNode = objectMapper.readTree(response.getBody());
-            JsonNode header = jsonNode.path("response").path("header");
-
-            if (!"0000".equals(header.path("resultCode").asText())) {
-                return Map.of("success", false, "message", "시군구 정보를 불러오는데 실패했습니다");
-            }
-
-            JsonNode items = jsonNode.path("response").path("body").path("items").path("item");
-            return Map.of("success", true, "data", items);
-
-        } catch (Exception e) {
-            log.error("시군구 코드 조회 실패: {}", e.getMessage(), e);
-            return Map.of("success", false, "message", "시군구 정보를 불러오는데 실패했습니다");
-        }
+        return regionDirectory.getSigunguCodes(areaCode);
     }
 
     /**
@@ -1730,6 +1679,63 @@ public class TourFilterService {
                 return result;
             }
 
+            // 관심사가 같으면 같은 결과 사용 (관심사 JSON 해시 기준 캐시, 실패 결과는 캐시하지 않음)
+            // numOfRows는 요청 값이므로 기본 개수만 캐시 (임의 값마다 캐시 키가 늘어나지 않도록)
+            Map<String, Object> result = numOfRows == DEFAULT_RECOMMENDED_ROWS
+                    ? recommendationCache.getOrLoad(recommendationPurpose(numOfRows), userInterests,
+                            () -> searchRecommendedTours(userInterests, numOfRows))
+                    : searchRecommendedTours(userInterests, numOfRows);
+            return result != null ? result : getRecommendedTours(null, numOfRows);
+
+        } catch (Exception e) {
+            log.error("추천 관광지 조회 실패: {}", e.getMessage(), e);
+            Map<String, String> params = Map.of("numOfRows", String.valueOf(numOfRows), "pageNo", "1", "areaCode", "1");
+            return searchTours(params);
+        }
+    }
+
+    // 관심사 변경 시 기본 개수(6개) 추천을 미리 생성하도록 등록
+    @PostConstruct
+    void registerRecommendationLoader() {
+        recommendationCache.register(recommendationPurpose(DEFAULT_RECOMMENDED_ROWS),
+                interests -> searchRecommendedTours(interests, DEFAULT_RECOMMENDED_ROWS));
+    }
+
+    private static String recommendationPurpose(int numOfRows) {
+        return "tours" + numOfRows;
+    }
+
+    /**
+     * 후보 풀에서 맞춤 관광지 추출 (searchTours와 같은 응답 형태, API 호출 없음)
+     * 풀이 준비되지 않았거나 후보가 모자라면 null → 호출부에서 searchTours로 대체
+     */
+    public Map<String, Object> sampleCandidateTours(String areaCode, List<String> places, int numOfRows) {
+        if (!candidatePools.isReady()) {
+            return null;
+        }
+
+        List<TourSpot> spots = candidatePools.sample(areaCode, places, numOfRows);
+        if (spots.isEmpty()) {
+            return null;
+        }
+
+        Map<String, Object> result = new HashMap<>();
+        result.put("success", true);
+        result.put("data", processTourData(spots));
+        result.put("totalFound", spots.size());
+        result.put("finalCount", spots.size());
+        result.put("apiCalls", 0);
+        result.put("dataSource", "pool");
+        result.put("version", "v3.0");
+        result.put("barrierFreeCount", (int) spots.stream().filter(TourSpot::hasBarrierFreeInfo).count());
+        return result;
+    }
+
+    /**
+     * 관심사 기반 추천 검색 (캐시 로더, 실패 시 null)
+     */
+    private Map<String, Object> searchRecommendedTours(String userInterests, int numOfRows) {
+        try {
             Map<String, Object> interests = mapUserInterestsToFilters(userInterests);
             Map<String, String> searchParams = new HashMap<>();
             searchParams.put("numOfRows", String.valueOf(numOfRows));
@@ -1754,25 +1760,34 @@ public class TourFilterService {
                 }
             }
 
-            Map<String, Object> result = searchTours(searchParams);
-            if ((Boolean) result.get("success")) {
-                result.put("recommendationType", "interests");
-                result.put("message", "관심사 기반 추천");
+            // 지역이 정해져 있으면 후보 풀에서 먼저 추출 (관심 테마가 있으면 그 테마의 장소만)
+            Map<String, Object> result = null;
+            if (searchParams.containsKey("areaCode")) {
+                String cat1 = searchParams.get("cat1");
+                List<String> places = cat1 != null ? candidatePools.placesOfCategory(cat1)
+                        : new ArrayList<>(tourTaxonomy.placeNames());
+                result = sampleCandidateTours(searchParams.get("areaCode"), places, numOfRows);
             }
-
+            if (result == null) {
+                result = searchTours(searchParams);
+            }
+            if (!Boolean.TRUE.equals(result.get("success"))) {
+                return null;
+            }
+            result.put("recommendationType", "interests");
+            result.put("message", "관심사 기반 추천");
             return result;
 
         } catch (Exception e) {
-            log.error("추천 관광지 조회 실패: {}", e.getMessage(), e);
-            Map<String, String> params = Map.of("numOfRows", String.valueOf(numOfRows), "pageNo", "1", "areaCode", "1");
-            return searchTours(params);
+            log.error("관심사 기반 추천 검색 실패: {}", e.getMessage());
+            return null;
         }
     }
 
     /**
      * 🎯 투어 제목 생성 개선 - 실제 선택한 장소들 반영
      */
-    private String generateTourTitle(List<JsonNode> tours, Map<String, String> originalParams) {
+    private String generateTourTitle(List<TourSpot> tours, Map<String, String> originalParams) {
         // 지역 정보 추출
         String areaName = getAreaNameByCode(originalParams.get("areaCode"));
         String sigunguName = getSigunguNameByCode(originalParams.get("areaCode"), originalParams.get("sigunguCode"));
@@ -1840,74 +1855,29 @@ public class TourFilterService {
         if (areaCode == null || areaCode.trim().isEmpty())
             return "전국";
 
-        Map<String, String> codeToNameMap = new HashMap<>();
-        codeToNameMap.put("1", "서울");
-        codeToNameMap.put("2", "인천");
-        codeToNameMap.put("3", "대전");
-        codeToNameMap.put("4", "대구");
-        codeToNameMap.put("5", "광주");
-        codeToNameMap.put("6", "부산");
-        codeToNameMap.put("7", "울산");
-        codeToNameMap.put("8", "세종");
-        codeToNameMap.put("31", "경기");
-        codeToNameMap.put("32", "강원");
-        codeToNameMap.put("33", "충북");
-        codeToNameMap.put("34", "충남");
-        codeToNameMap.put("35", "경북");
-        codeToNameMap.put("36", "경남");
-        codeToNameMap.put("37", "전북");
-        codeToNameMap.put("38", "전남");
-        codeToNameMap.put("39", "제주");
-
-        return codeToNameMap.getOrDefault(areaCode.trim(), "전국");
+        String areaName = tourTaxonomy.areaName(areaCode);
+        return areaName != null ? areaName : "전국";
     }
 
     /**
-     * 🏛️ 시군구코드로 시군구명 반환 - 실제 API 호출 또는 캐시 활용
+     * 🏛️ 시군구코드로 시군구명 반환 - 지역 디렉터리(메모리)에서 조회
      */
     private String getSigunguNameByCode(String areaCode, String sigunguCode) {
         if (sigunguCode == null || sigunguCode.isEmpty())
             return null;
 
-        try {
-            // 기존 getSigunguCodes 메서드 활용
-            Map<String, Object> sigunguResult = getSigunguCodes(areaCode);
-            if (sigunguResult != null && (Boolean) sigunguResult.get("success")) {
-                JsonNode sigunguData = (JsonNode) sigunguResult.get("data");
-
-                if (sigunguData != null && sigunguData.isArray()) {
-                    for (JsonNode sigungu : sigunguData) {
-                        String code = sigungu.path("code").asText();
-                        if (code.isEmpty()) {
-                            code = sigungu.path("sigungucode").asText();
-                        }
-
-                        if (sigunguCode.equals(code)) {
-                            String name = sigungu.path("name").asText();
-                            if (name.isEmpty()) {
-                                name = sigungu.path("name").asText();
-                            }
-                            return name;
-                        }
-                    }
-                }
-            }
-        } catch (Exception e) {
-            log.warn("시군구명 조회 실패: areaCode={}, sigunguCode={}, error={}",
-                    areaCode, sigunguCode, e.getMessage());
-        }
-
-        return null; // 조회 실패하면 시군구명 없이 표시
+        // 디렉터리에 없으면 시군구명 없이 표시 (검색 응답 중에는 API를 호출하지 않음)
+        return regionDirectory.findSigunguName(areaCode, sigunguCode).orElse(null);
     }
 
     /**
      * 🎨 관광지에서 테마 추출 (Set 버전)
      */
-    private Set<String> extractThemesFromToursAsSet(List<JsonNode> tours) {
+    private Set<String> extractThemesFromToursAsSet(List<TourSpot> tours) {
         Set<String> themes = new HashSet<>();
 
         tours.forEach(tour -> {
-            String cat1 = tour.path("cat1").asText();
+            String cat1 = tour.cat1();
             switch (cat1) {
                 case "A01":
                     themes.add("자연");
@@ -1967,22 +1937,9 @@ public class TourFilterService {
         Set<String> themes = new HashSet<>();
 
         for (String place : places) {
-            // 자연 관련 장소들
-            if (Arrays.asList("해변", "산/공원", "계곡/폭포", "호수/강", "수목원",
-                    "자연휴양림", "자연생태관광지").contains(place)) {
-                themes.add("자연");
-            }
-
-            // 문화/역사 관련 장소들
-            if (Arrays.asList("고궁/문", "민속마을/가옥", "유적지", "사찰", "종교성지",
-                    "박물관", "미술관", "체험", "온천", "테마파크", "관광단지",
-                    "창질방", "유람선/잠수함관광").contains(place)) {
-                themes.add("문화/역사");
-            }
-
-            // 레저 관련 장소들
-            if (Arrays.asList("트래킹", "골프장", "스키장", "캠핑장", "낚시").contains(place)) {
-                themes.add("레포츠");
+            String theme = tourTaxonomy.placeTheme(place);
+            if (theme != null) {
+                themes.add(theme);
             }
         }
 
@@ -1996,40 +1953,9 @@ public class TourFilterService {
         Set<String> activities = new HashSet<>();
 
         for (String place : places) {
-            // 자연관광지 활동
-            if (Arrays.asList("해변", "산/공원", "계곡/폭포", "호수/강", "수목원",
-                    "자연휴양림", "자연생태관광지").contains(place)) {
-                activities.add("자연관광지");
-            }
-
-            // 역사관광지 활동
-            if (Arrays.asList("고궁/문", "민속마을/가옥", "유적지", "사찰", "종교성지").contains(place)) {
-                activities.add("역사관광지");
-            }
-
-            // 휴양관광지 활동
-            if (Arrays.asList("온천", "테마파크", "관광단지", "창질방", "유람선/잠수함관광").contains(place)) {
-                activities.add("휴양관광지");
-            }
-
-            // 체험관광지 활동
-            if (Arrays.asList("체험").contains(place)) {
-                activities.add("체험관광지");
-            }
-
-            // 문화시설 활동
-            if (Arrays.asList("박물관", "미술관").contains(place)) {
-                activities.add("문화시설");
-            }
-
-            // 육상레포츠 활동
-            if (Arrays.asList("트래킹", "골프장", "스키장", "캠핑장").contains(place)) {
-                activities.add("육상레포츠");
-            }
-
-            // 수상레포츠 활동
-            if (Arrays.asList("낚시").contains(place)) {
-                activities.add("수상레포츠");
+            String activity = tourTaxonomy.placeActivity(place);
+            if (activity != null) {
+                activities.add(activity);
             }
         }
 
@@ -0,0 +1,599 @@
+package com.example.act2gether.service;
+
+import java.time.LocalDate;
+import java.time.Month;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 메인 페이지 투어 생성 (계절 테마 투어, 여행 타입별 투어)
+ * - 지역별 후보 검색(searchTours)을 recommendationExecutor에서 동시에 실행하고,
+ *   필요한 개수의 투어가 모이면 남은 지역은 시작하지 않음 (결과는 지역 우선순위 순서 유지)
+ * - 후보 풀(TourCandidatePools)이 준비되어 있으면 API 호출 없이 풀에서 추출하고,
+ *   목표 개수를 못 채울 때만 지역별 검색으로 대체
+ * - 계절 테마 투어는 TourCacheWarmer가 만료 전에 미리 생성하여 캐시에 저장,
+ *   메인 페이지는 캐시만 조회 (캐시가 비어 있으면 기다리지 않고 빈 목록)
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class TourRecommendationService {
+
+    private static final int TOURS_PER_CARD = 6;
+
+    // 여행 타입별 생성 투어 수
+    private static final int TRAVEL_TYPE_TOUR_COUNT = 3;
+
+    // 계절 테마 투어 수 (후보 지역은 최대 8곳)
+    private static final int SEASONAL_TOUR_COUNT = 6;
+    private static final int SEASONAL_MAX_AREAS = 8;
+
+    // 메인 페이지 여행 타입 (tour_<타입> 캐시 키)
+    public static final List<String> TRAVEL_TYPES = List.of("culture", "healing", "nature", "experience", "sports");
+
+    private static final List<String> ALL_AREA_CODES = List.of("1", "2", "3", "4", "5", "6", "7", "8",
+            "31", "32", "33", "34", "35", "36", "37", "38", "39");
+
+    @Value("${tourism.recommendation.deadline-ms:20000}")
+    private long deadlineMs;
+
+    // 여행 타입별 투어: 일부 지역에서 실패해도 개수를 채우도록 추가로 검색하는 예비 지역 수
+    @Value("${tourism.recommendation.spare-areas:2}")
+    private int spareAreas;
+
+    private final TourFilterService tourFilterService;
+    private final TourCacheService cacheService;
+    private final TourCandidatePools candidatePools;
+    private final ObjectMapper objectMapper;
+
+    @Autowired
+    @Qualifier("recommendationExecutor")
+    private Executor recommendationExecutor;
+
+    // ========================================
+    // 계절 테마 투어
+    // ========================================
+
+    /**
+     * 메인 페이지용 계절 테마 투어 (캐시 조회만, 비어 있으면 백그라운드 생성 후 빈 목록)
+     */
+    public List<Map<String, Object>> getSeasonalTours(String season) {
+        List<Map<String, Object>> seasonalTours = cacheService.getOrLoadAsync(seasonalCacheKey(season),
+                () -> buildSeasonalTours(season));
+        return seasonalTours != null ? seasonalTours : new ArrayList<>();
+    }
+
+    /**
+     * 계절 테마 투어 생성
+     * 생성된 투어가 없으면 null 반환 → 캐시하지 않음
+     */
+    public List<Map<String, Object>> buildSeasonalTours(String season) {
+        try {
+            List<String> placeList = getSeasonPlaces(season);
+            String places = objectMapper.writeValueAsString(placeList);
+            List<String> seasonalAreas = getOptimizedSeasonalAreas(season);
+            List<String> candidates = seasonalAreas.subList(0, Math.min(seasonalAreas.size(), SEASONAL_MAX_AREAS));
+
+            List<Map<String, Object>> pooled = collectFromPools(candidates, SEASONAL_TOUR_COUNT,
+                    areaCode -> buildSeasonalTourFromPool(areaCode, placeList, season));
+            if (!pooled.isEmpty()) {
+                return pooled;
+            }
+
+            List<Map<String, Object>> seasonalTours = collectFirst(candidates, SEASONAL_TOUR_COUNT,
+                    areaCode -> buildSeasonalTour(areaCode, places, season), "계절 투어(" + season + ")");
+
+            return seasonalTours.isEmpty() ? null : seasonalTours;
+
+        } catch (Exception e) {
+            log.error("계절 테마 투어 생성 실패: {}", e.getMessage(), e);
+            return null;
+        }
+    }
+
+    /**
+     * 후보 풀에서 계절 투어 생성 (같은 시군구 우선, 없으면 지역 전체에서 추출)
+     */
+    private Map<String, Object> buildSeasonalTourFromPool(String areaCode, List<String> places, String season) {
+        List<TourSpot> spots = candidatePools.sampleSameSigungu(areaCode, places, TOURS_PER_CARD);
+        if (spots.isEmpty()) {
+            spots = candidatePools.sample(areaCode, places, TOURS_PER_CARD);
+        }
+        if (spots.isEmpty()) {
+            return null;
+        }
+        return createSeasonalTourInfo(imageFirst(tourFilterService.processTourData(spots)), season);
+    }
+
+    private Map<String, Object> buildSeasonalTour(String areaCode, String places, String season) {
+        Map<String, String> params = new HashMap<>();
+        params.put("numOfRows", "12");
+        params.put("places", places);
+        params.put("areaCode", areaCode);
+
+        List<JsonNode> validTours = imageFirst(searchTours(params));
+        if (validTours.size() < TOURS_PER_CARD) {
+            return null;
+        }
+
+        Map<String, Object> tourInfo = createSeasonalTourInfo(validTours.subList(0, TOURS_PER_CARD), season);
+        log.info("계절 투어 생성: {} ({}) - {}", tourInfo.get("cityName"), areaCode, season);
+        return tourInfo;
+    }
+
+    // ========================================
+    // 여행 타입별 투어
+    // ========================================
+
+    /**
+     * 여행 타입별 투어 3개 생성 (선호 지역 우선, 나머지는 무작위 지역)
+     * 실패 시 null 반환 → 캐시하지 않음
+     *
+     * @param preferredAreaCode 사용자 선호 지역 코드 (없으면 빈 값)
+     */
+    public Map<String, Object> buildTravelTypeTours(String travelType, String preferredAreaCode) {
+        try {
+            List<String> placeList = getTravelTypePlaces(travelType);
+            String places = objectMapper.writeValueAsString(placeList);
+
+            List<String> candidates = new ArrayList<>();
+            if (preferredAreaCode != null && !preferredAreaCode.isEmpty()) {
+                candidates.add(preferredAreaCode);
+            }
+
+            // 나머지 지역 랜덤 선택 (중복 없이)
+            List<String> remainingAreaCodes = new ArrayList<>(ALL_AREA_CODES);
+            remainingAreaCodes.removeAll(candidates);
+            Collections.shuffle(remainingAreaCodes);
+
+            int candidateCount = TRAVEL_TYPE_TOUR_COUNT + Math.max(0, spareAreas);
+            while (candidates.size() < candidateCount && !remainingAreaCodes.isEmpty()) {
+                candidates.add(remainingAreaCodes.remove(0));
+            }
+
+            log.info("선택된 지역 코드: {}", candidates);
+
+            // 풀 추출은 API 호출이 없으므로 선택되지 않은 나머지 지역까지 순서대로 시도
+            List<String> poolCandidates = new ArrayList<>(candidates);
+            poolCandidates.addAll(remainingAreaCodes);
+            List<Map<String, Object>> allTours = collectFromPools(poolCandidates, TRAVEL_TYPE_TOUR_COUNT,
+                    areaCode -> buildTravelTypeTourFromPool(areaCode, placeList, travelType));
+            if (allTours.isEmpty()) {
+                allTours = collectFirst(candidates, TRAVEL_TYPE_TOUR_COUNT,
+                        areaCode -> buildTravelTypeTour(areaCode, places, travelType),
+                        "여행 타입 투어(" + travelType + ")");
+            }
+
+            if (allTours.isEmpty()) {
+                return null;
+            }
+
+            log.info("총 {}개 투어 생성 완료", allTours.size());
+            return Map.of(
+                    "success", true,
+                    "data", Map.of(
+                            "tourType", travelType,
+                            "tourList", allTours));
+
+        } catch (Exception e) {
+            log.error("투어 생성 실패: {}", e.getMessage(), e);
+            return null;
+        }
+    }
+
+    /**
+     * 후보 풀에서 한 시군구의 관광지로 투어 생성 (후보가 모자라면 null)
+     */
+    private Map<String, Object> buildTravelTypeTourFromPool(String areaCode, List<String> places,
+            String travelType) {
+        List<TourSpot> spots = candidatePools.sampleSameSigungu(areaCode, places, TOURS_PER_CARD);
+        if (spots.isEmpty()) {
+            return null;
+        }
+        return createTravelTypeTourInfo(imageFirst(tourFilterService.processTourData(spots)), areaCode,
+                travelType);
+    }
+
+    /**
+     * 한 지역에서 투어 생성 (시군구를 무작위 순서로 시도, 광역시는 지역 전체 검색)
+     */
+    private Map<String, Object> buildTravelTypeTour(String areaCode, String places, String travelType) {
+        List<String> sigunguCodes = new ArrayList<>();
+        Map<String, Object> sigunguResult = tourFilterService.getSigunguCodes(areaCode);
+        if (sigunguResult != null && Boolean.TRUE.equals(sigunguResult.get("success"))) {
+            JsonNode sigunguData = (JsonNode) sigunguResult.get("data");
+            if (sigunguData.isArray()) {
+                for (JsonNode sigungu : sigunguData) {
+                    String code = sigungu.path("code").asText();
+                    if (code.isEmpty()) {
+                        code = sigungu.path("sigungucode").asText();
+                    }
+                    if (!code.isEmpty()) {
+                        sigunguCodes.add(code);
+                    }
+                }
+            }
+        }
+
+        // 시군구가 없으면 광역시이므로 전체 검색
+        if (sigunguCodes.isEmpty()) {
+            sigunguCodes.add(null);
+        } else {
+            Collections.shuffle(sigunguCodes);
+        }
+
+        for (String sigunguCode : sigunguCodes) {
+            Map<String, String> searchParams = new HashMap<>();
+            searchParams.put("places", places);
+            searchParams.put("numOfRows", "20");
+            searchParams.put("areaCode", areaCode);
+            if (sigunguCode != null) {
+                searchParams.put("sigunguCode", sigunguCode);
+            }
+
+            List<JsonNode> toursList = imageFirst(searchTours(searchParams));
+            if (toursList.size() < TOURS_PER_CARD) {
+                continue;
+            }
+
+            Map<String, Object> tourInfo = createTravelTypeTourInfo(
+                    toursList.subList(0, TOURS_PER_CARD), areaCode, travelType);
+            log.info("투어 생성 성공: {} ({}), 이미지: {}",
+                    tourInfo.get("cityName"), areaCode, tourInfo.get("hasImage"));
+            return tourInfo;
+        }
+
+        log.warn("지역 코드 {}에서 투어 생성 실패", areaCode);
+        return null;
+    }
+
+    // ========================================
+    // 지역별 병렬 생성
+    // ========================================
+
+    /**
+     * 후보 지역별 생성 작업을 동시에 실행하고, 우선순위가 높은 지역부터 wanted개가 확정되면 종료
+     * - 앞 순서 지역이 아직 진행 중이면 뒤 순서 지역 결과가 먼저 모여도 기다림 (선호 지역 우선 유지)
+     * - 종료 후 아직 시작하지 않은 지역은 건너뜀 (이미 실행 중인 검색은 끝까지 진행되지만 결과는 사용하지 않음)
+     * - 마감시각(deadline-ms)까지 모이지 않으면 그때까지 모인 결과만 반환
+     *
+     * @return 후보 지역 순서대로 정렬된 결과 (최대 wanted개)
+     */
+    private <T> List<T> collectFirst(List<String> areaCodes, int wanted, Function<String, T> builder,
+            String label) throws InterruptedException {
+        long startedAt = System.currentTimeMillis();
+        Map<Integer, T> results = new TreeMap<>();
+        boolean[] settled = new boolean[areaCodes.size()];
+        AtomicBoolean enough = new AtomicBoolean(false);
+        AtomicInteger remaining = new AtomicInteger(areaCodes.size());
+        CompletableFuture<Void> finished = new CompletableFuture<>();
+        if (areaCodes.isEmpty()) {
+            finished.complete(null);
+        }
+
+        for (int i = 0; i < areaCodes.size(); i++) {
+            int order = i;
+            String areaCode = areaCodes.get(i);
+            CompletableFuture.runAsync(() -> {
+                try {
+                    if (enough.get()) {
+                        return;
+                    }
+                    T result = builder.apply(areaCode);
+                    if (result != null) {
+                        synchronized (results) {
+                            results.put(order, result);
+                        }
+                    }
+                } catch (Exception e) {
+                    log.warn("{} 지역 {} 생성 실패: {}", label, areaCode, e.getMessage());
+                } finally {
+                    synchronized (results) {
+                        settled[order] = true;
+                        if (leadingResults(settled, results) >= wanted) {
+                            enough.set(true);
+                        }
+                    }
+                    // 목표 개수를 채우면 남은 작업을 기다리지 않음
+                    if (remaining.decrementAndGet() == 0 || enough.get()) {
+                        finished.complete(null);
+                    }
+                }
+            }, recommendationExecutor);
+        }
+
+        try {
+            finished.get(deadlineMs, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            log.warn("⏱️ {} 생성 마감시각 초과 - {}ms 내 생성된 결과만 사용", label, deadlineMs);
+        } catch (ExecutionException e) {
+            log.warn("{} 생성 오류: {}", label, e.getMessage());
+        } finally {
+            enough.set(true);
+        }
+
+        List<T> collected;
+        synchronized (results) {
+            collected = new ArrayList<>(results.values());
+        }
+        log.info("{} 지역 {}곳 병렬 생성: {}개, {}ms",
+                label, areaCodes.size(), collected.size(), System.currentTimeMillis() - startedAt);
+        return collected.size() > wanted ? new ArrayList<>(collected.subList(0, wanted)) : collected;
+    }
+
+    /**
+     * 후보 풀에서 지역 순서대로 생성 (풀이 준비되지 않았거나 목표 개수를 못 채우면 빈 목록 → 지역별 검색으로 대체)
+     */
+    private <T> List<T> collectFromPools(List<String> areaCodes, int wanted, Function<String, T> builder) {
+        if (!candidatePools.isReady()) {
+            return List.of();
+        }
+
+        long startedAt = System.nanoTime();
+        List<T> results = new ArrayList<>();
+        for (String areaCode : areaCodes) {
+            T result = builder.apply(areaCode);
+            if (result != null) {
+                results.add(result);
+                if (results.size() >= wanted) {
+                    log.info("🎯 후보 풀에서 {}개 생성: {}μs", results.size(), (System.nanoTime() - startedAt) / 1000);
+                    return results;
+                }
+            }
+        }
+        return List.of();
+    }
+
+    /**
+     * 앞 순서부터 결과가 확정된 지역들 중 성공한 수 (진행 중인 지역을 만나면 멈춤)
+     */
+    private static int leadingResults(boolean[] settled, Map<Integer, ?> results) {
+        int count = 0;
+        for (int i = 0; i < settled.length && settled[i]; i++) {
+            if (results.containsKey(i)) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    private JsonNode searchTours(Map<String, String> params) {
+        Map<String, Object> result = tourFilterService.searchTours(params);
+        if (result != null && Boolean.TRUE.equals(result.get("success"))) {
+            return (JsonNode) result.get("data");
+        }
+        return null;
+    }
+
+    /**
+     * 이미지 있는 관광지 우선 정렬
+     */
+    private List<JsonNode> imageFirst(JsonNode tours) {
+        List<JsonNode> withImage = new ArrayList<>();
+        List<JsonNode> withoutImage = new ArrayList<>();
+        if (tours == null || !tours.isArray()) {
+            return withImage;
+        }
+
+        for (JsonNode tour : tours) {
+            boolean hasImage = !tour.path("firstimage").asText("").isEmpty() ||
+                    !tour.path("optimizedImage").asText("").isEmpty() ||
+                    !tour.path("firstimage2").asText("").isEmpty();
+            if (hasImage) {
+                withImage.add(tour);
+            } else {
+                withoutImage.add(tour);
+            }
+        }
+
+        withImage.addAll(withoutImage);
+        return withImage;
+    }
+
+    // ========================================
+    // 투어 정보 구성
+    // ========================================
+
+    /**
+     * 썸네일용 대표 관광지 (firstimage → optimizedImage → firstimage2 순으로 이미지가 있는 첫 관광지)
+     */
+    private static JsonNode representativeOf(List<JsonNode> tours) {
+        for (JsonNode tour : tours) {
+            if (!mainImageOf(tour).isEmpty()) {
+                return tour;
+            }
+        }
+        return tours.isEmpty() ? null : tours.get(0);
+    }
+
+    private static String mainImageOf(JsonNode tour) {
+        if (tour == null) {
+            return "";
+        }
+        String img1 = tour.path("firstimage").asText("");
+        if (!img1.isEmpty()) {
+            return img1;
+        }
+        String opt = tour.path("optimizedImage").asText("");
+        if (!opt.isEmpty()) {
+            return opt;
+        }
+        return tour.path("firstimage2").asText("");
+    }
+
+    private Map<String, Object> createTravelTypeTourInfo(List<JsonNode> selectedTours, String areaCode,
+            String travelType) {
+        JsonNode representativeTour = representativeOf(selectedTours);
+        String mainImage = mainImageOf(representativeTour);
+
+        List<String> tourIds = new ArrayList<>();
+        String cityName = "";
+        for (JsonNode tour : selectedTours) {
+            tourIds.add(tour.path("contentid").asText());
+
+            if (cityName.isEmpty()) {
+                String addr = tour.path("addr1").asText();
+                if (!addr.isEmpty()) {
+                    String[] parts = addr.split(" ");
+
+                    // 광역시 체크
+                    if (parts.length >= 1 && parts[0].contains("광역시")) {
+                        // 광역시는 첫 번째 부분만 (예: "대구광역시")
+                        cityName = parts[0];
+                    } else if (parts.length >= 2) {
+                        // 일반 도는 두 부분 (예: "경기도 안성시")
+                        cityName = parts[0] + " " + parts[1];
+                    } else {
+                        cityName = parts[0];
+                    }
+                }
+            }
+        }
+
+        Map<String, Object> tourInfo = new HashMap<>();
+        tourInfo.put("tourId", String.join("-", tourIds));
+        tourInfo.put("tourType", travelType);
+        tourInfo.put("cityName", cityName);
+        tourInfo.put("areaCode", areaCode);
+        tourInfo.put("tours", new ArrayList<>(selectedTours));
+        tourInfo.put("mainImage", mainImage);
+        tourInfo.put("representativeTour", representativeTour);
+        tourInfo.put("hasImage", !mainImage.isEmpty());
+        return tourInfo;
+    }
+
+    private Map<String, Object> createSeasonalTourInfo(List<JsonNode> tours, String season) {
+        List<String> tourIds = new ArrayList<>();
+        String cityName = "";
+
+        // 첫 번째 투어에서 도시명 추출
+        if (tours.size() > 0) {
+            String firstAddr = tours.get(0).path("addr1").asText("");
+            if (!firstAddr.isEmpty()) {
+                String[] parts = firstAddr.split(" ");
+                // 시/군/구 단위만 추출 (같은 지역이므로 모두 동일)
+                if (parts.length >= 2) {
+                    cityName = parts[1];
+                } else if (parts.length >= 1) {
+                    cityName = parts[0];
+                }
+            }
+        }
+
+        for (JsonNode tour : tours) {
+            tourIds.add(tour.path("contentid").asText());
+        }
+
+        JsonNode representativeTour = representativeOf(tours);
+
+        Map<String, Object> tourInfo = new HashMap<>();
+        tourInfo.put("tourId", String.join("-", tourIds));
+        tourInfo.put("cityName", cityName);
+        tourInfo.put("mainImage", mainImageOf(representativeTour));
+        tourInfo.put("representativeTour", representativeTour);
+        tourInfo.put("representativeTitle",
+                representativeTour != null ? representativeTour.path("title").asText("특별 관광지") : "특별 관광지");
+        tourInfo.put("season", season);
+        tourInfo.put("tourCount", tours.size());
+        return tourInfo;
+    }
+
+    // ========================================
+    // 계절 / 타입 매핑
+    // ========================================
+
+    public static String seasonalCacheKey(String season) {
+        return "seasonal_" + season;
+    }
+
+    public static String travelTypeCacheKey(String travelType) {
+        return "tour_" + travelType;
+    }
+
+    /**
+     * 선호 지역이 있으면 지역별로 나누어 캐시 (선호 지역이 다른 사용자와 결과를 공유하지 않도록)
+     */
+    public static String travelTypeCacheKey(String travelType, String preferredAreaCode) {
+        if (preferredAreaCode == null || preferredAreaCode.isEmpty()) {
+            return travelTypeCacheKey(travelType);
+        }
+        return travelTypeCacheKey(travelType) + "_" + preferredAreaCode;
+    }
+
+    // 해당 서버 달로 확인
+    public String getCurrentSeason() {
+        return seasonOf(LocalDate.now());
+    }
+
+    public String seasonOf(LocalDate date) {
+        Month month = date.getMonth();
+
+        if (month == Month.MARCH || month == Month.APRIL || month == Month.MAY) {
+            return "봄";
+        } else if (month == Month.JUNE || month == Month.JULY || month == Month.AUGUST) {
+            return "여름";
+        } else if (month == Month.SEPTEMBER || month == Month.OCTOBER || month == Month.NOVEMBER) {
+            return "가을";
+        } else {
+            return "겨울";
+        }
+    }
+
+    private List<String> getTravelTypePlaces(String travelType) {
+        Map<String, List<String>> typeToPlaces = new HashMap<>();
+        typeToPlaces.put("culture", Arrays.asList("박물관", "미술관", "고궁/문", "사찰"));
+        typeToPlaces.put("healing", Arrays.asList("온천", "테마파크", "찜질방", "관광단지"));
+        typeToPlaces.put("nature", Arrays.asList("해변", "산/공원", "계곡/폭포", "수목원"));
+        typeToPlaces.put("experience", Arrays.asList("체험"));
+        typeToPlaces.put("sports", Arrays.asList("트래킹", "골프장", "스키장", "캠핑장"));
+
+        return typeToPlaces.getOrDefault(travelType, Arrays.asList("관광단지"));
+    }
+
+    private List<String> getSeasonPlaces(String season) {
+        Map<String, List<String>> seasonMap = new HashMap<>();
+        seasonMap.put("봄", Arrays.asList("수목원", "자연휴양림", "테마파크"));
+        seasonMap.put("여름", Arrays.asList("해변", "계곡/폭포", "캠핑장"));
+        seasonMap.put("가을", Arrays.asList("산/공원", "트래킹", "자연생태관광지"));
+        seasonMap.put("겨울", Arrays.asList("온천", "스키장", "찜질방"));
+
+        return seasonMap.getOrDefault(season, Arrays.asList("관광단지"));
+    }
+
+    // 최적화된 계절별 지역 선택
+    private List<String> getOptimizedSeasonalAreas(String season) {
+        Map<String, List<String>> seasonAreaMap = new HashMap<>();
+
+        seasonAreaMap.put("봄", Arrays.asList("39", "36", "35", "1", "37", "31"));
+        seasonAreaMap.put("여름", Arrays.asList("32", "6", "39", "8", "36", "35"));
+        seasonAreaMap.put("가을", Arrays.asList("32", "37", "35", "1", "38", "33"));
+        seasonAreaMap.put("겨울", Arrays.asList("32", "39", "6", "35", "3", "33"));
+
+        return seasonAreaMap.getOrDefault(season,
+                Arrays.asList("1", "6", "39", "32", "35", "31"));
+    }
+}
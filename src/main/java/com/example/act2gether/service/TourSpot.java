@@ -0,0 +1,117 @@
+package com.example.act2gether.service;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import com.example.act2gether.service.TourApiResponseReader.Item;
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+/**
+ * 관광지 검색 파이프라인 공용 모델 (불변)
+ * - 카탈로그 색인 → 조합 검색 → 무장애 정보 통합 → 균형 선별까지 같은 객체를 그대로 전달 (deepCopy 없음)
+ * - 지역/분류 코드는 intern하여 관광지 간 공유, 좌표는 API 원본 문자열 그대로 보관 (정밀도/표기 유지)
+ * - 무장애 정보는 통합 전이면 barrierFreeInfo가 null
+ * - JSON 필드명은 관광공사 API와 동일 (카탈로그 스냅샷 호환)
+ * - 모델에 없는 API 원본 필드는 extra에 그대로 보관해 화면 응답에 함께 내보냄
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record TourSpot(
+        @JsonProperty("contentid") String contentId,
+        @JsonProperty("contenttypeid") String contentTypeId,
+        String title,
+        String addr1,
+        String addr2,
+        String tel,
+        @JsonProperty("firstimage") String firstImage,
+        @JsonProperty("firstimage2") String firstImage2,
+        @JsonProperty("areacode") String areaCode,
+        @JsonProperty("sigungucode") String sigunguCode,
+        String cat1,
+        String cat2,
+        String cat3,
+        String mapx,
+        String mapy,
+        @JsonProperty("modifiedtime") String modifiedTime,
+        boolean hasImage,
+        int accessibilityScore,
+        int accessibilityMask,
+        boolean hasBarrierFreeInfo,
+        String barrierFreeInfo,
+        @JsonInclude(JsonInclude.Include.NON_EMPTY) Map<String, String> extra) {
+
+    public TourSpot {
+        contentId = nullToEmpty(contentId);
+        contentTypeId = code(contentTypeId);
+        title = nullToEmpty(title);
+        addr1 = nullToEmpty(addr1);
+        addr2 = nullToEmpty(addr2);
+        tel = nullToEmpty(tel);
+        firstImage = nullToEmpty(firstImage);
+        firstImage2 = nullToEmpty(firstImage2);
+        areaCode = code(areaCode);
+        sigunguCode = code(sigunguCode);
+        cat1 = code(cat1);
+        cat2 = code(cat2);
+        cat3 = code(cat3);
+        mapx = nullToEmpty(mapx);
+        mapy = nullToEmpty(mapy);
+        modifiedTime = nullToEmpty(modifiedTime);
+        extra = extra == null || extra.isEmpty()
+                ? Map.of()
+                : Collections.unmodifiableMap(new LinkedHashMap<>(extra));
+        // 스냅샷에 값이 없어도 이미지 필드로 다시 계산
+        hasImage = !firstImage.isEmpty() || !firstImage2.isEmpty();
+    }
+
+    /**
+     * 목록 API 항목 → 관광지 (무장애 정보 통합 전)
+     */
+    public static TourSpot from(Item item) {
+        return new TourSpot(item.contentid(), item.contenttypeid(), item.title(), item.addr1(), item.addr2(),
+                item.tel(), item.firstimage(), item.firstimage2(), item.areacode(), item.sigungucode(),
+                item.cat1(), item.cat2(), item.cat3(), item.mapx(), item.mapy(),
+                item.modifiedtime(), false, 0, 0, false, null, item.extra());
+    }
+
+    /**
+     * 무장애 정보를 통합한 새 관광지
+     *
+     * @param barrierFreeInfo 편의시설 정보 JSON 문자열 (정보가 없으면 "{}")
+     */
+    public TourSpot withBarrierFree(boolean hasInfo, int score, int mask, String barrierFreeInfo) {
+        return new TourSpot(contentId, contentTypeId, title, addr1, addr2, tel, firstImage, firstImage2,
+                areaCode, sigunguCode, cat1, cat2, cat3, mapx, mapy, modifiedTime, hasImage,
+                score, mask, hasInfo, barrierFreeInfo, extra);
+    }
+
+    @JsonIgnore
+    public boolean isBarrierFreeEnriched() {
+        return barrierFreeInfo != null;
+    }
+
+    public boolean hasCoordinates() {
+        return coordinate(mapx) != 0 && coordinate(mapy) != 0;
+    }
+
+    private static double coordinate(String value) {
+        if (value.isEmpty()) {
+            return 0;
+        }
+        try {
+            return Double.parseDouble(value);
+        } catch (NumberFormatException e) {
+            return 0;
+        }
+    }
+
+    private static String code(String value) {
+        return value == null || value.isEmpty() ? "" : value.intern();
+    }
+
+    private static String nullToEmpty(String value) {
+        return value == null ? "" : value;
+    }
+}
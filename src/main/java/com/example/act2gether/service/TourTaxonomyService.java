@@ -0,0 +1,367 @@
+package com.example.act2gether.service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.Instant;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.ResourceLoader;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 관광 분류 체계 (테마/활동/장소 → cat1/cat2/cat3, 지역코드)
+ * - 버전이 있는 리소스 파일(tourism.taxonomy.location)을 시작 시 한 번 읽어 불변 색인으로 구성
+ * - 장소 → cat3 목록, cat3 → 장소 역색인, cat1 → cat2 → cat3 계층 트리
+ * - 파일 위치가 외부 파일이면 수정시각을 주기적으로 확인하여 재로드 (실패하면 기존 색인 유지)
+ * - 조회는 모두 미리 만든 맵에서 바로 응답 (호출마다 맵을 만들지 않음)
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class TourTaxonomyService {
+
+    @Value("${tourism.taxonomy.location:classpath:taxonomy/tour-taxonomy.json}")
+    private String location;
+
+    private final ResourceLoader resourceLoader;
+    private final ObjectMapper objectMapper;
+
+    private volatile Taxonomy taxonomy;
+    private volatile long sourceModifiedAt;
+
+    /**
+     * 분류 체계 파일 구조
+     *
+     * @param version       분류 체계 버전
+     * @param themes        테마명 → cat1
+     * @param activities    활동명 → cat2
+     * @param categoryNames cat1 → 화면 표시명
+     * @param hierarchy     cat1 → cat2 → cat3 목록
+     * @param places        장소명 → 장소 정의
+     * @param areas         광역 지역 목록
+     */
+    public record TaxonomyDefinition(String version, Map<String, String> themes, Map<String, String> activities,
+            Map<String, String> categoryNames, Map<String, Map<String, List<String>>> hierarchy,
+            Map<String, PlaceDefinition> places, List<AreaDefinition> areas) {
+    }
+
+    /**
+     * @param theme    장소가 속한 테마명
+     * @param activity 장소가 속한 활동명
+     * @param cat3     장소에 해당하는 소분류 코드
+     * @param aliases  이전 화면/저장된 관심사에서 쓰던 다른 이름 (조회 시 대표 장소명으로 변환)
+     */
+    public record PlaceDefinition(String theme, String activity, List<String> cat3, List<String> aliases) {
+    }
+
+    /**
+     * @param code    지역코드
+     * @param name    대표 지역명 (짧은 이름)
+     * @param aliases 정식 명칭 등 다른 이름
+     */
+    public record AreaDefinition(String code, String name, List<String> aliases) {
+    }
+
+    // ========================================
+    // 로드 / 재로드
+    // ========================================
+
+    @PostConstruct
+    public void loadOnStartup() {
+        Resource resource = resourceLoader.getResource(location);
+        try {
+            apply(resource);
+        } catch (Exception e) {
+            // 분류 체계 없이는 검색 조합을 만들 수 없으므로 기동 실패
+            throw new IllegalStateException("관광 분류 체계 로드 실패: " + location, e);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${tourism.taxonomy.reload-check-ms:60000}")
+    public void reloadIfModified() {
+        Resource resource = resourceLoader.getResource(location);
+        if (!resource.isFile()) {
+            // classpath(jar) 리소스는 배포 시에만 바뀜
+            return;
+        }
+
+        try {
+            if (resource.lastModified() != sourceModifiedAt) {
+                reload();
+            }
+        } catch (IOException e) {
+            log.debug("분류 체계 파일 수정시각 확인 실패: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 분류 체계 파일 다시 읽기
+     *
+     * @return 성공 여부 (실패하면 기존 색인 유지)
+     */
+    public boolean reload() {
+        try {
+            apply(resourceLoader.getResource(location));
+            return true;
+        } catch (Exception e) {
+            log.warn("⚠️ 분류 체계 재로드 실패 - 기존 버전 {} 유지: {}",
+                    taxonomy != null ? taxonomy.version : "-", e.getMessage());
+            return false;
+        }
+    }
+
+    private synchronized void apply(Resource resource) throws IOException {
+        long modifiedAt = resource.isFile() ? resource.lastModified() : 0L;
+        TaxonomyDefinition definition;
+        try (InputStream in = resource.getInputStream()) {
+            definition = objectMapper.readValue(in, TaxonomyDefinition.class);
+        }
+
+        Taxonomy built = Taxonomy.build(definition);
+        Taxonomy previous = taxonomy;
+        taxonomy = built;
+        sourceModifiedAt = modifiedAt;
+
+        if (previous == null) {
+            log.info("🗂️ 관광 분류 체계 로드: 버전 {} (장소 {}개, 소분류 {}개)",
+                    built.version, built.placeCat3.size(), built.cat3ToPlace.size());
+        } else {
+            log.info("🔄 관광 분류 체계 재로드: {} → {} (장소 {}개, 소분류 {}개)",
+                    previous.version, built.version, built.placeCat3.size(), built.cat3ToPlace.size());
+        }
+    }
+
+    // ========================================
+    // 조회
+    // ========================================
+
+    /**
+     * 테마명 → cat1 (모르는 테마면 null)
+     */
+    public String themeCategory(String theme) {
+        return theme == null ? null : taxonomy.themes.get(theme.trim());
+    }
+
+    /**
+     * 활동명 → cat2 (모르는 활동이면 null)
+     */
+    public String activityCategory(String activity) {
+        return activity == null ? null : taxonomy.activities.get(activity.trim());
+    }
+
+    /**
+     * 장소명(대표명/다른 이름) → 대표 장소명 (모르는 장소면 그대로)
+     */
+    public String canonicalPlace(String place) {
+        return place == null ? null : taxonomy.placeAliases.getOrDefault(place, place);
+    }
+
+    /**
+     * 장소명 → cat3 목록 (불변, 모르는 장소면 빈 목록)
+     */
+    public List<String> placeCat3Codes(String place) {
+        return place == null ? List.of() : taxonomy.placeCat3.getOrDefault(canonicalPlace(place), List.of());
+    }
+
+    /**
+     * cat3 → 장소명 (어느 장소에도 속하지 않으면 null)
+     */
+    public String placeOfCat3(String cat3) {
+        return cat3 == null ? null : taxonomy.cat3ToPlace.get(cat3);
+    }
+
+    public String placeTheme(String place) {
+        PlaceDefinition definition = place == null ? null : taxonomy.places.get(canonicalPlace(place));
+        return definition != null ? definition.theme() : null;
+    }
+
+    public String placeActivity(String place) {
+        PlaceDefinition definition = place == null ? null : taxonomy.places.get(canonicalPlace(place));
+        return definition != null ? definition.activity() : null;
+    }
+
+    public boolean hasCat1(String cat1) {
+        return cat1 != null && taxonomy.hierarchy.containsKey(cat1);
+    }
+
+    public boolean hasCat2(String cat1, String cat2) {
+        Map<String, Set<String>> middle = cat1 == null ? null : taxonomy.hierarchy.get(cat1);
+        return middle != null && cat2 != null && middle.containsKey(cat2);
+    }
+
+    public boolean hasCat3(String cat1, String cat2, String cat3) {
+        Map<String, Set<String>> middle = cat1 == null ? null : taxonomy.hierarchy.get(cat1);
+        Set<String> small = middle == null || cat2 == null ? null : middle.get(cat2);
+        return small != null && cat3 != null && small.contains(cat3);
+    }
+
+    /**
+     * cat1 → 화면 표시명 (모르는 코드는 코드 그대로)
+     */
+    public String categoryName(String cat1) {
+        return cat1 == null ? null : taxonomy.categoryNames.getOrDefault(cat1, cat1);
+    }
+
+    /**
+     * 지역코드 → 대표 지역명 (모르는 코드면 null)
+     */
+    public String areaName(String areaCode) {
+        return areaCode == null ? null : taxonomy.areaNames.get(areaCode.trim());
+    }
+
+    /**
+     * 지역명(대표명/정식 명칭) → 지역코드 (모르는 이름이면 null)
+     */
+    public String areaCode(String areaName) {
+        return areaName == null ? null : taxonomy.areaCodes.get(areaName.trim());
+    }
+
+    /**
+     * 전체 장소명 (불변)
+     */
+    public Set<String> placeNames() {
+        return taxonomy.placeCat3.keySet();
+    }
+
+    /**
+     * 전체 광역 지역코드 (불변)
+     */
+    public Set<String> areaCodes() {
+        return taxonomy.areaNames.keySet();
+    }
+
+    public String getVersion() {
+        return taxonomy.version;
+    }
+
+    public long getLoadedAt() {
+        return taxonomy.loadedAt;
+    }
+
+    public Map<String, Object> getStatus() {
+        Taxonomy current = taxonomy;
+        Map<String, Object> status = new LinkedHashMap<>();
+        status.put("version", current.version);
+        status.put("location", location);
+        status.put("loadedAt", Instant.ofEpochMilli(current.loadedAt).toString());
+        status.put("places", current.placeCat3.size());
+        status.put("cat3Codes", current.cat3ToPlace.size());
+        return status;
+    }
+
+    // ========================================
+    // 불변 색인
+    // ========================================
+
+    private static final class Taxonomy {
+
+        final String version;
+        final Map<String, String> themes;
+        final Map<String, String> activities;
+        final Map<String, String> categoryNames;
+        final Map<String, Map<String, Set<String>>> hierarchy;
+        final Map<String, PlaceDefinition> places;
+        final Map<String, List<String>> placeCat3;
+        final Map<String, String> placeAliases;
+        final Map<String, String> cat3ToPlace;
+        final Map<String, String> areaNames;
+        final Map<String, String> areaCodes;
+        final long loadedAt;
+
+        private Taxonomy(String version, Map<String, String> themes, Map<String, String> activities,
+                Map<String, String> categoryNames, Map<String, Map<String, Set<String>>> hierarchy,
+                Map<String, PlaceDefinition> places, Map<String, List<String>> placeCat3,
+                Map<String, String> placeAliases, Map<String, String> cat3ToPlace, Map<String, String> areaNames,
+                Map<String, String> areaCodes) {
+            this.version = version;
+            this.themes = themes;
+            this.activities = activities;
+            this.categoryNames = categoryNames;
+            this.hierarchy = hierarchy;
+            this.places = places;
+            this.placeCat3 = placeCat3;
+            this.placeAliases = placeAliases;
+            this.cat3ToPlace = cat3ToPlace;
+            this.areaNames = areaNames;
+            this.areaCodes = areaCodes;
+            this.loadedAt = System.currentTimeMillis();
+        }
+
+        static Taxonomy build(TaxonomyDefinition definition) {
+            if (definition == null || definition.version() == null || definition.version().isBlank()) {
+                throw new IllegalArgumentException("분류 체계 버전이 없음");
+            }
+            if (definition.hierarchy() == null || definition.places() == null) {
+                throw new IllegalArgumentException("hierarchy / places 항목이 없음");
+            }
+
+            Map<String, Map<String, Set<String>>> hierarchy = new HashMap<>();
+            definition.hierarchy().forEach((cat1, middle) -> {
+                Map<String, Set<String>> cat2Map = new HashMap<>();
+                middle.forEach((cat2, cat3List) -> cat2Map.put(cat2, Set.copyOf(cat3List)));
+                hierarchy.put(cat1, Map.copyOf(cat2Map));
+            });
+
+            Map<String, List<String>> placeCat3 = new HashMap<>();
+            Map<String, String> placeAliases = new HashMap<>();
+            Map<String, String> cat3ToPlace = new HashMap<>();
+            definition.places().forEach((place, placeDefinition) -> {
+                List<String> codes = placeDefinition.cat3() != null ? List.copyOf(placeDefinition.cat3()) : List.of();
+                placeCat3.put(place, codes);
+                if (placeDefinition.aliases() != null) {
+                    placeDefinition.aliases().forEach(alias -> placeAliases.put(alias, place));
+                }
+                for (String cat3 : codes) {
+                    String existing = cat3ToPlace.putIfAbsent(cat3, place);
+                    if (existing != null) {
+                        log.warn("⚠️ 소분류 {}가 여러 장소에 속함: {}, {} ({} 사용)", cat3, existing, place, existing);
+                    }
+                    if (!containsCat3(hierarchy, cat3)) {
+                        log.warn("⚠️ 장소 {}의 소분류 {}가 계층 정의에 없음", place, cat3);
+                    }
+                }
+            });
+
+            Map<String, String> areaNames = new HashMap<>();
+            Map<String, String> areaCodes = new HashMap<>();
+            if (definition.areas() != null) {
+                for (AreaDefinition area : definition.areas()) {
+                    areaNames.put(area.code(), area.name());
+                    areaCodes.put(area.name(), area.code());
+                    if (area.aliases() != null) {
+                        area.aliases().forEach(alias -> areaCodes.put(alias, area.code()));
+                    }
+                }
+            }
+
+            return new Taxonomy(definition.version(), copyOf(definition.themes()), copyOf(definition.activities()),
+                    copyOf(definition.categoryNames()), Map.copyOf(hierarchy), Map.copyOf(definition.places()),
+                    Map.copyOf(placeCat3), Map.copyOf(placeAliases), Map.copyOf(cat3ToPlace), Map.copyOf(areaNames),
+                    Map.copyOf(areaCodes));
+        }
+
+        private static boolean containsCat3(Map<String, Map<String, Set<String>>> hierarchy, String cat3) {
+            Map<String, Set<String>> middle = hierarchy.get(cat3.length() >= 3 ? cat3.substring(0, 3) : cat3);
+            Set<String> small = middle == null || cat3.length() < 5 ? null : middle.get(cat3.substring(0, 5));
+            return small != null && small.contains(cat3);
+        }
+
+        private static Map<String, String> copyOf(Map<String, String> map) {
+            return map != null ? Map.copyOf(map) : Collections.emptyMap();
+        }
+    }
+}
@@ -0,0 +1,80 @@
+package com.example.act2gether.service;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import org.springframework.stereotype.Service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 사용자 관심사 기반 추천 결과 캐시
+ * - 키: recommend_<용도>_<관심사 JSON 해시> (관심사가 같은 사용자는 결과를 공유)
+ *   관심사가 바뀌면 해시가 달라지므로 이전 결과는 더 이상 조회되지 않고 TTL에 따라 정리됨
+ * - TTL/stale 구간은 tourism.cache.*.recommend_ (stale 구간에서는 기존 결과를 바로 반환하고 백그라운드 갱신)
+ * - 관심사 변경 시(LoginService.updateUserInterests) 등록된 용도별 생성 함수로 새 관심사의 추천을 백그라운드에서 미리 생성
+ *   (닉네임/지역만 바꾸는 프로필 수정은 관심사 해시가 그대로라 다시 만들지 않음)
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class UserRecommendationCache {
+
+    private static final String KEY_PREFIX = "recommend_";
+
+    private final TourCacheService cacheService;
+
+    // 용도 → 관심사 JSON으로 추천 결과를 만드는 함수 (실패 시 null)
+    private final Map<String, Function<String, Object>> loaders = new ConcurrentHashMap<>();
+
+    /**
+     * 관심사 변경 시 미리 생성할 추천 용도 등록
+     */
+    public void register(String purpose, Function<String, Object> loader) {
+        loaders.put(purpose, loader);
+    }
+
+    /**
+     * 관심사 기반 추천 조회 (없으면 loader로 생성, loader가 null을 반환하면 캐시하지 않음)
+     */
+    public <T> T getOrLoad(String purpose, String interests, Supplier<T> loader) {
+        return cacheService.getOrLoad(cacheKey(purpose, interests), loader);
+    }
+
+    /**
+     * 관심사 저장 후 호출 - 현재 관심사의 추천이 캐시에 없으면 백그라운드에서 생성
+     */
+    public void onProfileUpdated(String userId, String interests) {
+        if (interests == null || interests.trim().isEmpty()) {
+            return;
+        }
+
+        loaders.forEach((purpose, loader) -> cacheService.getOrLoadAsync(cacheKey(purpose, interests),
+                () -> loader.apply(interests)));
+        log.info("🔄 사용자 추천 갱신 요청: {} ({}건)", userId, loaders.size());
+    }
+
+    /**
+     * 관심사 JSON 해시 (섹션 대체값 등 관심사별로 나누어 보관할 때도 사용)
+     */
+    public String interestsHash(String interests) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256")
+                    .digest(interests.trim().getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(digest, 0, 12);
+        } catch (NoSuchAlgorithmException e) {
+            return Integer.toHexString(interests.trim().hashCode());
+        }
+    }
+
+    private String cacheKey(String purpose, String interests) {
+        return KEY_PREFIX + purpose + "_" + interestsHash(interests);
+    }
+}
@@ -17,9 +17,44 @@ $(document).ready(function () {
     bindEvents();
     startMainSlider();
     initAllSliders();
-    initSeasonalSlider();
+    loadMainSections(); // 계절별 추천 / 지역별 체험(서울) / 동행 모임은 섹션별로 따로 로드
     generateTour("culture"); // 초기 로드 시 문화 투어 생성
-    // 서울 데이터는 서버에서 렌더링되므로 별도 로드 불필요
+  }
+
+  // 메인 페이지 섹션 조각 로드 - 섹션별로 동시에 요청, 도착하는 순서대로 표시
+  function loadMainSections() {
+    const onLoaded = {
+      seasonal: initSeasonalSlider,
+      regional: function () {
+        bindRegionalCardClicks();
+        if ($(".experience-section .regional-tour").length > 3) {
+          initSlider($(".experience-section .tour-slider"));
+        }
+      },
+    };
+
+    $("[data-section]").each(function () {
+      const $container = $(this);
+      const section = $container.data("section");
+
+      $.ajax({
+        url: `/main/sections/${section}`,
+        method: "GET",
+        dataType: "html",
+        success: function (html) {
+          $container.html(html);
+          if (onLoaded[section]) {
+            onLoaded[section]();
+          }
+        },
+        error: function () {
+          console.error(`메인 섹션 로드 실패: ${section}`);
+        },
+        complete: function () {
+          $container.closest(".tour-cards-wrapper").removeClass("loading");
+        },
+      });
+    });
   }
 
   // 사용자 세션 체크
@@ -450,7 +485,17 @@ $(document).ready(function () {
       $container.append(card);
     });
 
-    // 카드 클릭 이벤트 - URL이 있으면 새 탭에서 열기
+    bindRegionalCardClicks();
+
+    // 슬라이더 재초기화 (카드가 많을 경우)
+    if (tours.length > 3) {
+      const $slider = $(".experience-section .tour-slider");
+      initSlider($slider);
+    }
+  }
+
+  // 지역별 체험 카드 클릭 이벤트 - URL이 있으면 새 탭에서 열기
+  function bindRegionalCardClicks() {
     $(".product-card.regional-tour")
       .off("click")
       .on("click", function () {
@@ -461,12 +506,6 @@ $(document).ready(function () {
           alert("상세 페이지 준비 중입니다.");
         }
       });
-
-    // 슬라이더 재초기화 (카드가 많을 경우)
-    if (tours.length > 3) {
-      const $slider = $(".experience-section .tour-slider");
-      initSlider($slider);
-    }
   }
 
   // 데이터 없음 메시지 표시
@@ -0,0 +1,68 @@
+package com.example.act2gether.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+import com.example.act2gether.service.BarrierFreeStore.BarrierFreeRecord;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+class AccessibilityFeaturesTest {
+
+    @Test
+    void maskIncludesOnlyFieldsWithValues() {
+        Map<String, String> features = new HashMap<>();
+        features.put("parking", "장애인 주차구역 있음");
+        features.put("elevator", "있음");
+        features.put("restroom", " ");
+        features.put("exit", "0");
+        features.put("route", null);
+        features.put("braileblock", "점자블록 있음");
+
+        assertEquals(AccessibilityFeatures.PARKING | AccessibilityFeatures.ELEVATOR,
+                AccessibilityFeatures.maskOf(features));
+    }
+
+    @Test
+    void emptyFeaturesHaveNoMask() {
+        assertEquals(0, AccessibilityFeatures.maskOf((Map<String, String>) null));
+        assertEquals(0, AccessibilityFeatures.maskOf(Map.of()));
+    }
+
+    @Test
+    void groupMaskMatchesAnyFieldInGroup() {
+        Map<String, Integer> groups = AccessibilityFeatures.groupMasks(Map.of(
+                "휠체어", new String[] { "route", "elevator", "exit" },
+                "주차", new String[] { "parking" }));
+
+        int spotMask = AccessibilityFeatures.maskOf(Map.of("elevator", "있음"));
+
+        assertTrue(AccessibilityFeatures.hasAny(spotMask, groups.get("휠체어")));
+        assertFalse(AccessibilityFeatures.hasAny(spotMask, groups.get("주차")));
+    }
+
+    @Test
+    void recordMaskIsDerivedAndNotSerialized() throws Exception {
+        ObjectMapper objectMapper = new ObjectMapper();
+        BarrierFreeRecord record = new BarrierFreeRecord("1", Map.of("parking", "있음", "restroom", "있음"), 2,
+                "20250101000000");
+
+        String json = objectMapper.writeValueAsString(record);
+        assertFalse(json.contains("featureMask"));
+
+        // 이전 스냅샷에 저장된 featureMask 값은 무시하고 features에서 다시 계산
+        String legacy = "{\"contentId\":\"1\",\"features\":{\"parking\":\"있음\"},\"featureMask\":63,"
+                + "\"accessibilityScore\":1,\"modifiedTime\":\"\"}";
+        List<BarrierFreeRecord> loaded = List.of(objectMapper.readValue(json, BarrierFreeRecord.class),
+                objectMapper.readValue(legacy, BarrierFreeRecord.class));
+
+        assertEquals(AccessibilityFeatures.PARKING | AccessibilityFeatures.RESTROOM, loaded.get(0).featureMask());
+        assertEquals(AccessibilityFeatures.PARKING, loaded.get(1).featureMask());
+    }
+}
@@ -0,0 +1,170 @@
+package com.example.act2gether.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpMethod;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.client.ResourceAccessException;
+import org.springframework.web.client.ResponseExtractor;
+import org.springframework.web.client.RestTemplate;
+
+class TourApiClientTest {
+
+    private static final String BASE_URL = "https://apis.data.go.kr/B551011/KorService2";
+    private static final String URL = BASE_URL + "/detailCommon2?serviceKey=x&contentId=1";
+
+    private final RestTemplate restTemplate = mock(RestTemplate.class);
+    private final AtomicLong delayMs = new AtomicLong();
+    private final AtomicInteger calls = new AtomicInteger();
+
+    private ThreadPoolTaskExecutor hedgeExecutor;
+    private TourApiClient client;
+
+    @BeforeEach
+    void setUp() {
+        when(restTemplate.execute(anyString(), eq(HttpMethod.GET), isNull(), any(ResponseExtractor.class)))
+                .thenAnswer(invocation -> {
+                    calls.incrementAndGet();
+                    Thread.sleep(delayMs.get());
+                    return "ok";
+                });
+
+        TourApiGuard guard = new TourApiGuard(BASE_URL);
+        ReflectionTestUtils.setField(guard, "windowSeconds", 60);
+        ReflectionTestUtils.setField(guard, "minCalls", 1000);
+        ReflectionTestUtils.setField(guard, "failureRate", 0.5);
+        ReflectionTestUtils.setField(guard, "openSeconds", 30L);
+        ReflectionTestUtils.setField(guard, "dailyLimit", 10000L);
+        ReflectionTestUtils.setField(guard, "softRatio", 0.8);
+        ReflectionTestUtils.setField(guard, "hardRatio", 0.97);
+
+        hedgeExecutor = new ThreadPoolTaskExecutor();
+        hedgeExecutor.setCorePoolSize(16);
+        hedgeExecutor.setMaxPoolSize(16);
+        hedgeExecutor.initialize();
+
+        client = new TourApiClient(restTemplate, new TourApiRateLimiter(1000), guard);
+        ReflectionTestUtils.setField(client, "minTimeoutMs", 200L);
+        ReflectionTestUtils.setField(client, "maxTimeoutMs", 1000L);
+        ReflectionTestUtils.setField(client, "timeoutMultiplier", 2.0);
+        ReflectionTestUtils.setField(client, "windowSize", 256);
+        ReflectionTestUtils.setField(client, "minSamples", 5);
+        ReflectionTestUtils.setField(client, "timeoutEscalateAfter", 3);
+        ReflectionTestUtils.setField(client, "hedgeEnabled", false);
+        ReflectionTestUtils.setField(client, "minHedgeDelayMs", 50L);
+        ReflectionTestUtils.setField(client, "maxHedgeRatio", 1.0);
+        ReflectionTestUtils.setField(client, "hedgeExecutor", hedgeExecutor);
+    }
+
+    @AfterEach
+    void tearDown() {
+        hedgeExecutor.shutdown();
+    }
+
+    @Test
+    void timeoutUsesMaxUntilEnoughSamplesThenFollowsP99() {
+        call();
+        assertEquals(1000L, endpointStats().get("timeoutMs"));
+
+        warmUp();
+        // p99(수 ms) × 2 는 최소값보다 작으므로 min-timeout
+        assertEquals(200L, endpointStats().get("timeoutMs"));
+    }
+
+    @Test
+    void timeoutIsRecordedAsLowerBoundSample() {
+        warmUp();
+        int samples = (int) endpointStats().get("samples");
+
+        delayMs.set(3000);
+        assertThrows(ResourceAccessException.class, this::call);
+
+        // 타임아웃 값(200ms)을 하한 표본으로 기록
+        assertEquals(samples + 1, endpointStats().get("samples"));
+        assertEquals(200L, endpointStats().get("p99Ms"));
+        assertEquals(1L, endpointStats().get("timeouts"));
+    }
+
+    @Test
+    void consecutiveTimeoutsEscalateToMaxTimeout() {
+        warmUp();
+
+        delayMs.set(3000);
+        for (int i = 0; i < 3; i++) {
+            assertThrows(ResourceAccessException.class, this::call);
+        }
+
+        assertEquals(1000L, endpointStats().get("timeoutMs"));
+    }
+
+    @Test
+    void hedgeWinsWhenPrimaryIsSlow() {
+        ReflectionTestUtils.setField(client, "hedgeEnabled", true);
+        warmUp();
+
+        // 원 요청만 느리고 헤지 요청은 바로 응답
+        when(restTemplate.execute(anyString(), eq(HttpMethod.GET), isNull(), any(ResponseExtractor.class)))
+                .thenAnswer(invocation -> {
+                    Thread.sleep(calls.incrementAndGet() == 6 ? 3000 : 0);
+                    return "ok";
+                });
+
+        assertEquals("ok", call());
+
+        // 표본은 헤지 요청 시작이 아니라 원 요청 시작부터 (헤지 지연 이상)
+        assertTrue((long) endpointStats().get("p99Ms") >= 50L);
+        assertEquals(6, endpointStats().get("samples"));
+
+        Map<String, Object> stats = client.getStats();
+        assertEquals(1L, stats.get("hedges"));
+        assertEquals(1L, stats.get("hedgeWins"));
+        // 결과를 쓰지 않는 원 요청은 중단 대상
+        assertEquals(1L, stats.get("aborted"));
+    }
+
+    @Test
+    void hedgeIsDisabledOnHttp2() {
+        ReflectionTestUtils.setField(client, "hedgeEnabled", true);
+        ReflectionTestUtils.setField(client, "http2Enabled", true);
+        client.disableHedgeOnHttp2();
+        warmUp();
+
+        delayMs.set(100);
+        assertEquals("ok", call());
+
+        assertEquals(0L, client.getStats().get("hedges"));
+        assertEquals(6, calls.get());
+    }
+
+    private void warmUp() {
+        for (int i = 0; i < 5; i++) {
+            call();
+        }
+    }
+
+    private String call() {
+        return client.execute(URL, response -> "unused");
+    }
+
+    @SuppressWarnings("unchecked")
+    private Map<String, Object> endpointStats() {
+        Map<String, Object> endpoints = (Map<String, Object>) client.getStats().get("endpoints");
+        return (Map<String, Object>) endpoints.get("detailCommon2");
+    }
+}
@@ -0,0 +1,154 @@
+package com.example.act2gether.service;
+
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.net.URI;
+import java.util.Map;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.example.act2gether.service.TourApiGuard.TourApiUnavailableException;
+
+class TourApiGuardTest {
+
+    private static final String BASE_URL = "https://apis.data.go.kr/B551011/KorService2";
+    private static final String LIST_URL = BASE_URL + "/areaBasedList2?serviceKey=x&pageNo=1";
+    private static final URI LIST_URI = URI.create(LIST_URL);
+
+    private TourApiGuard guard;
+
+    @BeforeEach
+    void setUp() {
+        guard = new TourApiGuard(BASE_URL);
+        ReflectionTestUtils.setField(guard, "windowSeconds", 60);
+        ReflectionTestUtils.setField(guard, "minCalls", 4);
+        ReflectionTestUtils.setField(guard, "failureRate", 0.5);
+        ReflectionTestUtils.setField(guard, "openSeconds", 1L);
+        ReflectionTestUtils.setField(guard, "dailyLimit", 100L);
+        ReflectionTestUtils.setField(guard, "softRatio", 0.8);
+        ReflectionTestUtils.setField(guard, "hardRatio", 0.97);
+    }
+
+    @Test
+    void onlyConfiguredHostIsGuarded() {
+        assertTrue(guard.isGuarded(LIST_URI));
+        assertFalse(guard.isGuarded(URI.create("https://example.com/areaBasedList2")));
+    }
+
+    @Test
+    void opensWhenFailureRateIsReached() throws Exception {
+        for (int i = 0; i < 4; i++) {
+            guard.acquire(LIST_URI);
+            guard.recordResponse(LIST_URI, i % 2 == 0);
+        }
+
+        assertEquals("OPEN", breakerState());
+        assertFalse(guard.isAvailable(LIST_URL));
+        assertThrows(TourApiUnavailableException.class, () -> guard.acquire(LIST_URI));
+    }
+
+    @Test
+    void halfOpenTrialClosesOnlyAfterResultCodeCheck() throws Exception {
+        openBreaker();
+        Thread.sleep(1100);
+
+        // 시험 호출 1건만 허용
+        guard.acquire(LIST_URI);
+        assertThrows(TourApiUnavailableException.class, () -> guard.acquire(LIST_URI));
+
+        // HTTP 응답이 정상이어도 본문 resultCode 확인 전에는 닫지 않음
+        guard.recordResponse(LIST_URI, true);
+        assertEquals("HALF_OPEN", breakerState());
+
+        guard.recordResultCode(LIST_URL, "0000");
+        assertEquals("CLOSED", breakerState());
+        assertDoesNotThrow(() -> guard.acquire(LIST_URI));
+    }
+
+    @Test
+    void halfOpenTrialWithoutVerdictBecomesAvailableAgain() throws Exception {
+        openBreaker();
+        Thread.sleep(1100);
+
+        // 시험 호출이 중단되어 recordResponse/recordSuccess 모두 없이 끝난 경우
+        guard.acquire(LIST_URI);
+        assertFalse(guard.isAvailable(LIST_URL));
+
+        Thread.sleep(1100);
+        assertTrue(guard.isAvailable(LIST_URL));
+        assertDoesNotThrow(() -> guard.acquire(LIST_URI));
+        assertFalse(guard.isAvailable(LIST_URL));
+    }
+
+    @Test
+    void halfOpenTrialWithErrorResultCodeReopens() throws Exception {
+        openBreaker();
+        Thread.sleep(1100);
+
+        guard.acquire(LIST_URI);
+        guard.recordResponse(LIST_URI, true);
+        guard.recordResultCode(LIST_URL, "99");
+
+        assertEquals("OPEN", breakerState());
+        assertThrows(TourApiUnavailableException.class, () -> guard.acquire(LIST_URI));
+    }
+
+    @Test
+    void halfOpenTrialWithoutVerdictAllowsNewTrial() throws Exception {
+        openBreaker();
+        Thread.sleep(1100);
+
+        guard.acquire(LIST_URI);
+        // 판정 없이 openSeconds가 지나면 다음 호출을 다시 시험 호출로 허용
+        Thread.sleep(1100);
+        assertDoesNotThrow(() -> guard.acquire(LIST_URI));
+    }
+
+    @Test
+    void dailyQuotaLimitsBackgroundBeforeRequests() throws Exception {
+        ReflectionTestUtils.setField(guard, "dailyLimit", 10L);
+        ReflectionTestUtils.setField(guard, "softRatio", 0.5);
+        ReflectionTestUtils.setField(guard, "hardRatio", 0.8);
+
+        for (int i = 0; i < 5; i++) {
+            guard.acquire(LIST_URI);
+        }
+        // 예비분(soft) 도달 → 동기화/헤지는 중단, 사용자 요청은 계속
+        assertFalse(guard.allowBackground(LIST_URL));
+        assertTrue(guard.isAvailable(LIST_URL));
+
+        for (int i = 0; i < 3; i++) {
+            guard.acquire(LIST_URI);
+        }
+        assertFalse(guard.isAvailable(LIST_URL));
+        assertThrows(TourApiUnavailableException.class, () -> guard.acquire(LIST_URI));
+    }
+
+    @Test
+    void quotaExceededResultCodeExhaustsQuota() {
+        guard.recordResultCode(LIST_URL, "22");
+
+        assertFalse(guard.isAvailable(LIST_URL));
+        assertThrows(TourApiUnavailableException.class, () -> guard.acquire(LIST_URI));
+    }
+
+    private void openBreaker() throws Exception {
+        for (int i = 0; i < 4; i++) {
+            guard.acquire(LIST_URI);
+            guard.recordResponse(LIST_URI, false);
+        }
+        assertEquals("OPEN", breakerState());
+    }
+
+    @SuppressWarnings("unchecked")
+    private String breakerState() {
+        Map<String, Object> breakers = (Map<String, Object>) guard.getStatus().get("breakers");
+        return (String) ((Map<String, Object>) breakers.get("areaBasedList2")).get("state");
+    }
+}
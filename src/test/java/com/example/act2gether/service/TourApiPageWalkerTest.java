@@ -0,0 +1,171 @@
+package com.example.act2gether.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.example.act2gether.service.TourApiPageWalker.PageWalk;
+import com.example.act2gether.service.TourApiResponseReader.Item;
+import com.example.act2gether.service.TourApiResponseReader.ItemPage;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+class TourApiPageWalkerTest {
+
+    private static final String URL = "https://apis.data.go.kr/B551011/KorService2/areaBasedList2"
+            + "?serviceKey=secret&MobileOS=ETC&contentTypeId=12";
+    private static final Pattern PAGE_NO = Pattern.compile("pageNo=(\\d+)");
+
+    @TempDir
+    Path tempDir;
+
+    private FakeReader reader;
+    private LocalSnapshotStore snapshotStore;
+    private TourApiPageWalker walker;
+    private String checkpointDir;
+
+    @BeforeEach
+    void setUp() {
+        reader = new FakeReader();
+        snapshotStore = new LocalSnapshotStore(new ObjectMapper());
+        walker = newWalker((Executor) Runnable::run, 1);
+        checkpointDir = tempDir.resolve("checkpoint").toString();
+    }
+
+    @Test
+    void collectsAllPagesInOrderAndClearsCheckpoint() throws Exception {
+        reader.totalCount = 5;
+
+        PageWalk walk = walker.walk("test", URL, 2, checkpointDir);
+
+        assertNotNull(walk);
+        assertEquals(3, walk.pageCount());
+        assertEquals(List.of("1", "2", "3", "4", "5"), walk.items().stream().map(Item::contentid).toList());
+        assertFalse(walker.hasCheckpoint(checkpointDir));
+    }
+
+    @Test
+    void failedWalkResumesFromCheckpoint() throws Exception {
+        reader.totalCount = 5;
+        reader.failingPages.add(4);
+
+        assertNull(walker.walk("test", URL, 1, checkpointDir));
+        assertTrue(walker.hasCheckpoint(checkpointDir));
+
+        reader.failingPages.clear();
+        reader.requestedPages.clear();
+        PageWalk walk = walker.walk("test", URL, 1, checkpointDir);
+
+        assertNotNull(walk);
+        // 1페이지(totalCount 확인용)와 이전에 실패한 4, 5페이지만 다시 조회
+        assertEquals(Set.of(1, 4, 5), reader.requestedPages);
+        assertEquals(2, walk.resumedPages());
+        assertEquals(List.of("1", "2", "3", "4", "5"), walk.items().stream().map(Item::contentid).toList());
+        assertFalse(walker.hasCheckpoint(checkpointDir));
+    }
+
+    @Test
+    void checkpointIsDiscardedWhenTotalCountChanges() throws Exception {
+        reader.totalCount = 4;
+        reader.failingPages.add(3);
+        assertNull(walker.walk("test", URL, 1, checkpointDir));
+
+        reader.totalCount = 6;
+        reader.failingPages.clear();
+        reader.requestedPages.clear();
+        PageWalk walk = walker.walk("test", URL, 1, checkpointDir);
+
+        assertNotNull(walk);
+        assertEquals(0, walk.resumedPages());
+        assertEquals(Set.of(1, 2, 3, 4, 5, 6), reader.requestedPages);
+    }
+
+    @Test
+    void parallelWorkersCollectEveryPage() throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            walker = newWalker(executor, 4);
+            reader.totalCount = 40;
+
+            PageWalk walk = walker.walk("test", URL, 3, checkpointDir);
+
+            assertNotNull(walk);
+            assertEquals(14, walk.pageCount());
+            assertEquals(40, walk.items().size());
+            assertEquals("40", walk.items().get(39).contentid());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private TourApiPageWalker newWalker(Executor executor, int parallelism) {
+        TourApiPageWalker created = new TourApiPageWalker(reader, new TourApiRateLimiter(10000), snapshotStore);
+        ReflectionTestUtils.setField(created, "parallelism", parallelism);
+        ReflectionTestUtils.setField(created, "checkpointMaxAgeHours", 24L);
+        ReflectionTestUtils.setField(created, "walkTimeoutMs", 10000L);
+        ReflectionTestUtils.setField(created, "tourSyncPageExecutor", executor);
+        return created;
+    }
+
+    /**
+     * pageNo/numOfRows에 맞춰 contentid가 1부터 이어지는 항목을 돌려주는 목록 API
+     */
+    private static final class FakeReader extends TourApiResponseReader {
+
+        int totalCount;
+        final Set<Integer> failingPages = new HashSet<>();
+        final Set<Integer> requestedPages = Collections.synchronizedSet(new HashSet<>());
+
+        FakeReader() {
+            super(null, null, null, new ObjectMapper());
+        }
+
+        @Override
+        public ItemPage getBulkItems(String url) {
+            int pageNo = intParam(PAGE_NO, url);
+            int pageSize = intParam(Pattern.compile("numOfRows=(\\d+)"), url);
+            requestedPages.add(pageNo);
+            if (failingPages.contains(pageNo)) {
+                return new ItemPage("99", "fail", 0, List.of());
+            }
+
+            int from = (pageNo - 1) * pageSize + 1;
+            int to = Math.min(totalCount, pageNo * pageSize);
+            List<Item> items = new ArrayList<>();
+            for (int id = from; id <= to; id++) {
+                items.add(item(String.valueOf(id)));
+            }
+            return new ItemPage("0000", "OK", totalCount, items);
+        }
+
+        private static int intParam(Pattern pattern, String url) {
+            Matcher matcher = pattern.matcher(url);
+            assertTrue(matcher.find(), url);
+            return Integer.parseInt(matcher.group(1));
+        }
+
+        private static Item item(String contentId) {
+            return new Item(contentId, "12", "관광지" + contentId, "", "", "", "", "", "1", "1", "A01", "A0101",
+                    "A01010100", "", "", "20250101000000", "1", Map.of());
+        }
+    }
+}
@@ -0,0 +1,57 @@
+package com.example.act2gether.service;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+
+class TourApiRateLimiterTest {
+
+    @Test
+    void acquireSpacesSlotsByInterval() throws InterruptedException {
+        // 초당 20회 → 50ms 간격
+        TourApiRateLimiter limiter = new TourApiRateLimiter(20);
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+
+        long startedAt = System.nanoTime();
+        for (int i = 0; i < 5; i++) {
+            assertTrue(limiter.acquire(deadline));
+        }
+        long elapsedMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt);
+
+        // 첫 슬롯은 바로, 이후 4개는 50ms씩
+        assertTrue(elapsedMs >= 190, "elapsed " + elapsedMs + "ms");
+    }
+
+    @Test
+    void acquireGivesUpWhenSlotIsAfterDeadline() throws InterruptedException {
+        TourApiRateLimiter limiter = new TourApiRateLimiter(1);
+        assertTrue(limiter.acquire(System.nanoTime() + TimeUnit.SECONDS.toNanos(1)));
+
+        long startedAt = System.nanoTime();
+        assertFalse(limiter.acquire(System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(100)));
+        // 마감 안에 슬롯이 없으면 기다리지 않고 바로 포기
+        assertTrue(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt) < 100);
+    }
+
+    @Test
+    void rejectedAcquireDoesNotReserveSlot() throws InterruptedException {
+        TourApiRateLimiter limiter = new TourApiRateLimiter(10);
+        assertTrue(limiter.acquire(System.nanoTime() + TimeUnit.SECONDS.toNanos(1)));
+        assertFalse(limiter.acquire(System.nanoTime()));
+
+        // 포기한 호출이 슬롯을 밀어내지 않았으므로 다음 슬롯은 100ms 뒤
+        long startedAt = System.nanoTime();
+        assertTrue(limiter.acquire(System.nanoTime() + TimeUnit.SECONDS.toNanos(1)));
+        assertTrue(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt) < 150);
+    }
+
+    @Test
+    void tryAcquireNeverWaits() {
+        TourApiRateLimiter limiter = new TourApiRateLimiter(1);
+        assertTrue(limiter.tryAcquire());
+        assertFalse(limiter.tryAcquire());
+    }
+}
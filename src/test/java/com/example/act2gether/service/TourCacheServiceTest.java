@@ -0,0 +1,180 @@
+package com.example.act2gether.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.env.MockEnvironment;
+import org.springframework.test.util.ReflectionTestUtils;
+
+class TourCacheServiceTest {
+
+    private ExecutorService executor;
+    private TourCacheService cacheService;
+
+    @BeforeEach
+    void setUp() {
+        executor = Executors.newFixedThreadPool(8);
+        MockEnvironment environment = new MockEnvironment()
+                .withProperty("tourism.cache.ttl-minutes.tour_", "30")
+                .withProperty("tourism.cache.stale-minutes.tour_", "10");
+        cacheService = new TourCacheService(environment, 3, 64 * 1024 * 1024, 200);
+        ReflectionTestUtils.setField(cacheService, "cacheRefreshExecutor", executor);
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    void concurrentMissesShareOneLoad() throws Exception {
+        AtomicInteger loads = new AtomicInteger();
+        CountDownLatch release = new CountDownLatch(1);
+
+        List<Future<String>> results = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            results.add(executor.submit(() -> cacheService.getOrLoad("tour_culture", () -> {
+                loads.incrementAndGet();
+                await(release);
+                return "loaded";
+            })));
+        }
+        Thread.sleep(50);
+        release.countDown();
+
+        for (Future<String> result : results) {
+            assertEquals("loaded", result.get(1, TimeUnit.SECONDS));
+        }
+        assertEquals(1, loads.get());
+    }
+
+    @Test
+    void missWaitsOnlyUntilLoadWait() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        executor.submit(() -> cacheService.getOrLoad("tour_slow", () -> {
+            await(release);
+            return "late";
+        }));
+        Thread.sleep(50);
+
+        // 다른 요청이 로딩 중인 값은 load-wait-ms(200ms)까지만 기다리고 null
+        long startedAt = System.nanoTime();
+        assertNull(cacheService.getOrLoad("tour_slow", () -> "unused"));
+        long waitedMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt);
+        assertTrue(waitedMs >= 150 && waitedMs < 1000, "waited " + waitedMs + "ms");
+        assertEquals(1L, cacheService.getStats().get("loadWaitTimeouts"));
+
+        release.countDown();
+    }
+
+    @Test
+    void staleEntryIsReturnedWhileRefreshingInBackground() throws Exception {
+        cacheService.put("tour_nature", "old", Duration.ZERO);
+
+        CountDownLatch refreshed = new CountDownLatch(1);
+        String value = cacheService.getOrLoad("tour_nature", () -> {
+            refreshed.countDown();
+            return "new";
+        });
+
+        assertEquals("old", value);
+        assertTrue(refreshed.await(1, TimeUnit.SECONDS));
+        Thread.sleep(50);
+        assertEquals("new", cacheService.get("tour_nature").orElse(null));
+    }
+
+    @Test
+    void nullLoadIsNotCached() {
+        assertNull(cacheService.getOrLoad("tour_empty", () -> null));
+        assertTrue(cacheService.get("tour_empty").isEmpty());
+    }
+
+    @Test
+    void leastRecentlyUsedEntryIsEvictedOverMaxEntries() {
+        cacheService.put("tour_a", "a");
+        cacheService.put("tour_b", "b");
+        cacheService.put("tour_c", "c");
+        cacheService.get("tour_a");
+        cacheService.put("tour_d", "d");
+
+        assertTrue(cacheService.get("tour_b").isEmpty());
+        assertEquals("a", cacheService.get("tour_a").orElse(null));
+    }
+
+    @Test
+    void refreshJoinsLoadAlreadyInFlight() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicInteger loads = new AtomicInteger();
+
+        Future<String> userMiss = executor.submit(() -> cacheService.getOrLoad("tour_culture", () -> {
+            loads.incrementAndGet();
+            await(release);
+            return "from-user";
+        }));
+        Thread.sleep(50);
+
+        // 예열 갱신은 진행 중인 로딩을 함께 쓰고 loader를 다시 실행하지 않음
+        CompletableFuture<Object> refresh = cacheService.refresh("tour_culture", () -> {
+            loads.incrementAndGet();
+            return "from-warmer";
+        });
+        assertFalse(refresh.isDone());
+
+        release.countDown();
+        assertEquals("from-user", userMiss.get(1, TimeUnit.SECONDS));
+        assertEquals("from-user", refresh.get(1, TimeUnit.SECONDS));
+        assertEquals(1, loads.get());
+
+        // 진행 중인 로딩이 없으면 값이 있어도 바로 다시 생성
+        assertEquals("from-warmer", cacheService.refresh("tour_culture", () -> "from-warmer").join());
+        assertEquals("from-warmer", cacheService.get("tour_culture").orElse(null));
+    }
+
+    @Test
+    void recordValuesAreSizedByTheirFields() {
+        TourCacheService bounded = new TourCacheService(new MockEnvironment(), 100, 4096, 200);
+        String text = "가".repeat(500);
+
+        bounded.put("tour_a", new Section("a", List.of(text)));
+        long bytes = (long) bounded.getStats().get("estimatedBytes");
+        // 문자열 500자(약 1KB)가 레코드 안에 있어도 크기에 반영
+        assertTrue(bytes > 1000, "estimated " + bytes);
+
+        for (String key : List.of("tour_b", "tour_c", "tour_d", "tour_e")) {
+            bounded.put(key, new Section(key, List.of(text)));
+        }
+
+        // 항목 수 제한(100)이 아니라 바이트 제한(4096)으로 오래된 항목부터 제거
+        assertTrue((long) bounded.getStats().get("estimatedBytes") <= 4096);
+        assertTrue((long) bounded.getStats().get("evictions") > 0);
+        assertTrue(bounded.get("tour_a").isEmpty());
+        assertTrue(bounded.get("tour_e").isPresent());
+    }
+
+    private record Section(String title, List<String> items) {
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(2, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
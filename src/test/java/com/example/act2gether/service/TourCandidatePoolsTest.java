@@ -0,0 +1,157 @@
+package com.example.act2gether.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Executor;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+class TourCandidatePoolsTest {
+
+    private static final String AREA = "1";
+
+    private final TourCatalogService catalogService = mock(TourCatalogService.class);
+    private final BarrierFreeStore barrierFreeStore = mock(BarrierFreeStore.class);
+    private final BarrierFreeService barrierFreeService = mock(BarrierFreeService.class);
+    private final TourTaxonomyService taxonomy = mock(TourTaxonomyService.class);
+
+    // cat3 → 카탈로그 검색 결과
+    private final Map<String, List<TourSpot>> catalog = new HashMap<>();
+
+    private TourCandidatePools pools;
+
+    @BeforeEach
+    void setUp() {
+        pools = new TourCandidatePools(catalogService, barrierFreeStore, barrierFreeService, taxonomy);
+        ReflectionTestUtils.setField(pools, "enabled", true);
+        ReflectionTestUtils.setField(pools, "imageWeight", 3.0);
+        ReflectionTestUtils.setField(pools, "accessibilityWeight", 2.0);
+        ReflectionTestUtils.setField(pools, "tourSyncExecutor", (Executor) Runnable::run);
+
+        when(catalogService.isReady()).thenReturn(true);
+        when(catalogService.getSyncedAt()).thenReturn(1L);
+        when(catalogService.find(anyString(), isNull(), isNull(), isNull(), anyString()))
+                .thenAnswer(invocation -> catalog.getOrDefault(invocation.getArgument(4), List.of()));
+        when(barrierFreeStore.findAll(anyList())).thenReturn(Map.of());
+        when(taxonomy.areaCodes()).thenReturn(Set.of(AREA));
+        when(taxonomy.placeNames()).thenReturn(new LinkedHashSet<>(List.of("박물관", "미술관", "찜질방")));
+        when(taxonomy.placeCat3Codes("박물관")).thenReturn(List.of("A02060100"));
+        when(taxonomy.placeCat3Codes("미술관")).thenReturn(List.of("A02060500"));
+        when(taxonomy.placeCat3Codes("찜질방")).thenReturn(List.of("A02020300"));
+        when(taxonomy.canonicalPlace(anyString())).thenAnswer(invocation -> {
+            String place = invocation.getArgument(0);
+            return "창질방".equals(place) ? "찜질방" : place;
+        });
+    }
+
+    @Test
+    void sampleReturnsDistinctSpotsFromRequestedPlaces() {
+        catalog("A02060100", spots("m", 10, "11"));
+        catalog("A02060500", spots("a", 10, "12"));
+        pools.rebuildIfChanged();
+
+        for (int i = 0; i < 100; i++) {
+            List<TourSpot> picked = pools.sample(AREA, List.of("박물관", "미술관"), 6);
+            assertEquals(6, picked.size());
+            assertEquals(6, picked.stream().map(TourSpot::contentId).distinct().count());
+        }
+        assertTrue(pools.sample(AREA, List.of("박물관"), 11).isEmpty());
+    }
+
+    @Test
+    void sameSigunguSampleStaysInOneEligibleSigungu() {
+        List<TourSpot> museums = new ArrayList<>(spots("m", 2, "11"));
+        museums.addAll(spots("n", 5, "12"));
+        catalog("A02060100", museums);
+        catalog("A02060500", spots("a", 1, "11"));
+        pools.rebuildIfChanged();
+
+        // 시군구 11은 후보 3개뿐이라 4개를 뽑을 수 있는 시군구는 12뿐
+        for (int i = 0; i < 100; i++) {
+            List<TourSpot> picked = pools.sampleSameSigungu(AREA, List.of("박물관", "미술관"), 4);
+            assertEquals(4, picked.size());
+            assertTrue(picked.stream().allMatch(spot -> spot.sigunguCode().equals("12")));
+        }
+    }
+
+    @Test
+    void spotsSharedByPlacePoolsCountOnce() {
+        // 같은 관광지 3개가 두 장소 풀에 모두 들어 있음 → 서로 다른 후보는 3개
+        List<TourSpot> shared = spots("s", 3, "11");
+        catalog("A02060100", shared);
+        catalog("A02060500", shared);
+        pools.rebuildIfChanged();
+
+        assertTrue(pools.sampleSameSigungu(AREA, List.of("박물관", "미술관"), 4).isEmpty());
+        assertTrue(pools.sample(AREA, List.of("박물관", "미술관"), 4).isEmpty());
+
+        List<TourSpot> picked = pools.sample(AREA, List.of("박물관", "미술관"), 3);
+        assertEquals(Set.of("s0", "s1", "s2"), ids(picked));
+    }
+
+    @Test
+    void heavierSpotsArePickedMoreOften() {
+        List<TourSpot> spots = new ArrayList<>();
+        spots.add(spot("photo", "11", "http://tong.visitkorea.or.kr/photo.jpg"));
+        spots.add(spot("plain", "11", ""));
+        catalog("A02060100", spots);
+        pools.rebuildIfChanged();
+
+        // 가중치: 대표 이미지 1 + 3 = 4, 이미지 없음 1 → 약 80%
+        int photoFirst = 0;
+        for (int i = 0; i < 2000; i++) {
+            if (pools.sample(AREA, List.of("박물관"), 1).get(0).contentId().equals("photo")) {
+                photoFirst++;
+            }
+        }
+        assertTrue(photoFirst > 1400 && photoFirst < 1800, "photo picked " + photoFirst + "/2000");
+    }
+
+    @Test
+    void aliasPlaceUsesCanonicalPool() {
+        catalog("A02020300", spots("j", 4, "11"));
+        pools.rebuildIfChanged();
+
+        assertEquals(4, pools.sample(AREA, List.of("창질방"), 4).size());
+        // 대표 이름과 다른 이름을 함께 골라도 중복 없이 추출
+        assertEquals(4, pools.sample(AREA, List.of("찜질방", "창질방"), 4).size());
+    }
+
+    private void catalog(String cat3, List<TourSpot> spots) {
+        catalog.put(cat3, spots);
+    }
+
+    private static List<TourSpot> spots(String prefix, int count, String sigunguCode) {
+        List<TourSpot> spots = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            spots.add(spot(prefix + i, sigunguCode, ""));
+        }
+        return spots;
+    }
+
+    private static TourSpot spot(String contentId, String sigunguCode, String image) {
+        return new TourSpot(contentId, "12", contentId, "", "", "", image, "", AREA, sigunguCode, "A02", "A0206",
+                "", "", "", "", false, 0, 0, false, null, null);
+    }
+
+    private static Set<String> ids(List<TourSpot> spots) {
+        Set<String> ids = new HashSet<>();
+        spots.forEach(spot -> ids.add(spot.contentId()));
+        return ids;
+    }
+}
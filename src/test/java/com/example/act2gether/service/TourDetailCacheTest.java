@@ -0,0 +1,74 @@
+package com.example.act2gether.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.env.MockEnvironment;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.example.act2gether.service.TourDetailCache.Fetched;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+class TourDetailCacheTest {
+
+    private static final long MAX_BYTES = 16 * 1024;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final AtomicInteger fetches = new AtomicInteger();
+
+    private TourDetailCache detailCache;
+
+    @BeforeEach
+    void setUp() {
+        detailCache = new TourDetailCache(mock(TourCatalogService.class), new LocalSnapshotStore(objectMapper));
+        ReflectionTestUtils.setField(detailCache, "detailCacheStore",
+                new TourCacheService(new MockEnvironment(), 1000, MAX_BYTES, 200));
+        ReflectionTestUtils.setField(detailCache, "persistentEnabled", true);
+        ReflectionTestUtils.setField(detailCache, "persistentMaxEntries", 5);
+        ReflectionTestUtils.setField(detailCache, "maxTtlHours", 24L);
+    }
+
+    @Test
+    void detailRecordsAreEvictedByByteLimit() {
+        // 상세정보 1건 약 2KB → 항목 수 제한(1000)이 아니라 바이트 제한(16KB)으로 제거
+        for (int i = 0; i < 20; i++) {
+            assertNotNull(detailCache.get("tour", String.valueOf(i), previous -> fetch()));
+        }
+
+        Map<String, Object> memory = memoryStats();
+        assertTrue((long) memory.get("estimatedBytes") <= MAX_BYTES, "estimated " + memory.get("estimatedBytes"));
+        assertTrue((long) memory.get("evictions") > 0);
+        assertTrue((int) memory.get("entries") < 20);
+    }
+
+    @Test
+    void persistentEntriesAreBoundedAtWriteTime() {
+        for (int i = 0; i < 20; i++) {
+            detailCache.get("tour", String.valueOf(i), previous -> fetch());
+        }
+
+        // persistent-max-entries(5) + 여유 1건을 넘으면 저장 시점에 바로 정리
+        assertTrue((int) detailCache.getStats().get("persistentEntries") <= 6);
+        assertEquals(20, fetches.get());
+    }
+
+    private Fetched fetch() {
+        fetches.incrementAndGet();
+        ObjectNode data = objectMapper.createObjectNode();
+        data.put("overview", "설명".repeat(500));
+        return Fetched.of(data, "20200101000000", "");
+    }
+
+    @SuppressWarnings("unchecked")
+    private Map<String, Object> memoryStats() {
+        return (Map<String, Object>) detailCache.getStats().get("memory");
+    }
+}
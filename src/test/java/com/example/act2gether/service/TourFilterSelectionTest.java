@@ -0,0 +1,101 @@
+package com.example.act2gether.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+/**
+ * 균형 선별(selectTop / selectByQuota) 테스트 - 외부 의존성 없이 선별 로직만 확인
+ */
+class TourFilterSelectionTest {
+
+    private final TourFilterService service = new TourFilterService(null, null, null, null, null, null, null,
+            null, null, null, null);
+
+    @Test
+    void selectTopKeepsHighestScoresAndOriginalOrderOnTies() {
+        List<TourSpot> spots = spots(6);
+        double[] scores = { 1, 5, 3, 5, 2, 4 };
+
+        List<TourSpot> top = selectTop(spots, scores, List.of(0, 1, 2, 3, 4, 5), 3);
+
+        assertEquals(List.of("1", "3", "5"), ids(top));
+    }
+
+    @Test
+    void selectTopHandlesSmallGroupsAndZero() {
+        List<TourSpot> spots = spots(3);
+        double[] scores = { 1, 2, 3 };
+
+        assertEquals(List.of("2", "0"), ids(selectTop(spots, scores, List.of(0, 2), 5)));
+        assertTrue(selectTop(spots, scores, List.of(0, 1, 2), 0).isEmpty());
+    }
+
+    @Test
+    void selectByQuotaSplitsByWeight() {
+        List<TourSpot> spots = spots(10);
+        double[] scores = new double[10];
+        for (int i = 0; i < scores.length; i++) {
+            scores[i] = 10 - i;
+        }
+        Map<String, List<Integer>> groups = new LinkedHashMap<>();
+        groups.put("A", List.of(0, 1, 2, 3, 4));
+        groups.put("B", List.of(5, 6, 7, 8, 9));
+
+        List<TourSpot> selected = selectByQuota(spots, scores, groups, List.of("A", "B"),
+                Map.of("A", 2.0, "B", 1.0), 6, false);
+
+        assertEquals(List.of("0", "1", "2", "3", "5", "6"), ids(selected));
+    }
+
+    @Test
+    void selectByQuotaFillsShortageFromRichestGroup() {
+        List<TourSpot> spots = spots(6);
+        double[] scores = { 6, 5, 4, 3, 2, 1 };
+        Map<String, List<Integer>> groups = new LinkedHashMap<>();
+        groups.put("A", List.of(0));
+        groups.put("B", List.of(1, 2, 3, 4, 5));
+
+        List<TourSpot> withoutFill = selectByQuota(spots, scores, groups, List.of("A", "B"),
+                Map.of(), 4, false);
+        List<TourSpot> withFill = selectByQuota(spots, scores, groups, List.of("A", "B"),
+                Map.of(), 4, true);
+
+        // 균등 할당 2:2 → A는 1개뿐이므로 B에서 1개 보완
+        assertEquals(List.of("0", "1", "2"), ids(withoutFill));
+        assertEquals(List.of("0", "1", "2", "3"), ids(withFill));
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<TourSpot> selectTop(List<TourSpot> spots, double[] scores, List<Integer> indices, int k) {
+        return (List<TourSpot>) ReflectionTestUtils.invokeMethod(service, "selectTop", spots, scores, indices, k);
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<TourSpot> selectByQuota(List<TourSpot> spots, double[] scores, Map<String, List<Integer>> groups,
+            List<String> order, Map<String, Double> weights, int targetCount, boolean fillShortage) {
+        return (List<TourSpot>) ReflectionTestUtils.invokeMethod(service, "selectByQuota", spots, scores, groups,
+                order, weights, targetCount, fillShortage, Function.<String>identity());
+    }
+
+    private static List<TourSpot> spots(int count) {
+        List<TourSpot> spots = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            spots.add(new TourSpot(String.valueOf(i), "12", "관광지" + i, "", "", "", "", "", "1", "1",
+                    "A01", "A0101", "A01010100", "", "", "", false, 0, 0, false, null, null));
+        }
+        return spots;
+    }
+
+    private static List<String> ids(List<TourSpot> spots) {
+        return spots.stream().map(TourSpot::contentId).toList();
+    }
+}
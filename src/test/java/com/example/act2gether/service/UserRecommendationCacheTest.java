@@ -0,0 +1,55 @@
+package com.example.act2gether.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.env.MockEnvironment;
+
+class UserRecommendationCacheTest {
+
+    private static final String INTERESTS = "{\"preferredRegions\":[\"서울\"],\"places\":[\"박물관\",\"미술관\"]}";
+
+    private UserRecommendationCache recommendationCache;
+
+    @BeforeEach
+    void setUp() {
+        TourCacheService cacheService = new TourCacheService(new MockEnvironment(), 100, 64 * 1024 * 1024, 1000);
+        recommendationCache = new UserRecommendationCache(cacheService);
+    }
+
+    @Test
+    void sameInterestsHaveSameHash() {
+        String hash = recommendationCache.interestsHash(INTERESTS);
+
+        assertEquals(hash, recommendationCache.interestsHash("  " + INTERESTS + "\n"));
+        assertEquals(24, hash.length());
+        assertTrue(hash.matches("[0-9a-f]+"));
+    }
+
+    @Test
+    void differentInterestsHaveDifferentHash() {
+        String other = INTERESTS.replace("미술관", "찜질방");
+
+        assertNotEquals(recommendationCache.interestsHash(INTERESTS), recommendationCache.interestsHash(other));
+    }
+
+    @Test
+    void usersWithSameInterestsShareResultPerPurpose() {
+        AtomicInteger loads = new AtomicInteger();
+
+        String first = recommendationCache.getOrLoad("tours", INTERESTS, () -> "result-" + loads.incrementAndGet());
+        String second = recommendationCache.getOrLoad("tours", INTERESTS + " ",
+                () -> "result-" + loads.incrementAndGet());
+        String otherPurpose = recommendationCache.getOrLoad("main", INTERESTS,
+                () -> "result-" + loads.incrementAndGet());
+
+        assertEquals("result-1", first);
+        assertEquals("result-1", second);
+        assertEquals("result-2", otherPurpose);
+    }
+}